@@ -0,0 +1,15 @@
+package com.turfBooking.config;
+
+import com.turfBooking.util.StripedLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ConcurrencyConfig {
+
+    @Bean
+    public StripedLock bookingSlotLocks(@Value("${booking.lock.stripes:256}") int stripes) {
+        return new StripedLock(stripes);
+    }
+}
@@ -1,17 +1,27 @@
 package com.turfBooking.controller;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.turfBooking.dto.BookingResponseDTO;
 import com.turfBooking.dto.TurfResponseDTO;
 import com.turfBooking.dto.UserResponseDTO;
+import com.turfBooking.service.implementation.CustomUserDetailsService;
 import com.turfBooking.service.interfaces.BookingService;
+import com.turfBooking.service.interfaces.RevokedTokenService;
+import com.turfBooking.service.interfaces.TurfCatalogCacheService;
 import com.turfBooking.service.interfaces.TurfService;
 import com.turfBooking.service.interfaces.UserService;
+import com.turfBooking.util.JsonArrayStreamer;
+import com.turfBooking.util.JwtUtil;
+import com.turfBooking.util.OptimisticLockRetry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -28,10 +38,28 @@ public class AdminController {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private OptimisticLockRetry optimisticLockRetry;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private RevokedTokenService revokedTokenService;
+
+    @Autowired
+    private TurfCatalogCacheService turfCatalogCacheService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // User management
     @GetMapping("/users")
-    public List<UserResponseDTO> getAllUsers() {
-        return userService.getAllUsers();
+    public ResponseEntity<StreamingResponseBody> getAllUsers() {
+        return streamJson(JsonArrayStreamer.<UserResponseDTO>stream(objectMapper, userService::streamAllUsers));
     }
 
     @DeleteMapping("/users/{id}")
@@ -41,8 +69,8 @@ public class AdminController {
 
     // Turf management
     @GetMapping("/turfs")
-    public List<TurfResponseDTO> getAllTurfs() {
-        return turfService.getAllTurfs();
+    public ResponseEntity<StreamingResponseBody> getAllTurfs() {
+        return streamJson(JsonArrayStreamer.<TurfResponseDTO>stream(objectMapper, turfService::streamAllTurfs));
     }
 
     @DeleteMapping("/turfs/{id}")
@@ -52,12 +80,43 @@ public class AdminController {
 
     // Booking management
     @GetMapping("/bookings")
-    public List<BookingResponseDTO> getAllBookings() {
-        return bookingService.getAllBookings();
+    public ResponseEntity<StreamingResponseBody> getAllBookings() {
+        return streamJson(JsonArrayStreamer.<BookingResponseDTO>stream(objectMapper, bookingService::streamAllBookings));
     }
 
     @DeleteMapping("/bookings/{id}")
     public void deleteBooking(@PathVariable Long id) {
         bookingService.deleteBooking(id);
     }
-}
\ No newline at end of file
+
+    // Metrics
+    @GetMapping("/metrics/optimistic-locking")
+    public Map<String, Map<String, Long>> getOptimisticLockingMetrics() {
+        return optimisticLockRetry.getStatistics();
+    }
+
+    @GetMapping("/metrics/turf-cache")
+    public Map<String, Map<String, Number>> getTurfCacheMetrics() {
+        return turfCatalogCacheService.getStatistics();
+    }
+
+    @GetMapping("/metrics/jwt-cache")
+    public Map<String, Number> getJwtCacheMetrics() {
+        return jwtUtil.getClaimsCacheStatistics();
+    }
+
+    @GetMapping("/metrics/user-details-cache")
+    public Map<String, Number> getUserDetailsCacheMetrics() {
+        return customUserDetailsService.getStatistics();
+    }
+
+    @GetMapping("/metrics/token-revocations")
+    public Map<String, Number> getTokenRevocationMetrics() {
+        return revokedTokenService.getStatistics();
+    }
+
+    // Full listings are written row by row from a database cursor so they never sit in memory whole
+    private ResponseEntity<StreamingResponseBody> streamJson(StreamingResponseBody body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
@@ -2,13 +2,20 @@ package com.turfBooking.controller;
 
 import com.turfBooking.dto.JwtRequest;
 import com.turfBooking.dto.JwtResponse;
+import com.turfBooking.dto.RefreshTokenRequest;
 import com.turfBooking.dto.UserRegistrationDto;
 import com.turfBooking.entity.User;
 import com.turfBooking.enums.UserRole;
 import com.turfBooking.security.CustomUserDetails;
+import com.turfBooking.service.interfaces.RefreshTokenService;
+import com.turfBooking.service.interfaces.RevokedTokenService;
 import com.turfBooking.service.interfaces.UserService;
 import com.turfBooking.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -35,15 +42,19 @@ public class AuthController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private RevokedTokenService revokedTokenService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
     @PostMapping("/login")
     public ResponseEntity<?> createAuthenticationToken(@RequestBody JwtRequest authenticationRequest) throws Exception {
         authenticate(authenticationRequest.getPhone(), authenticationRequest.getPassword());
 
         final UserDetails userDetails = userDetailsService.loadUserByUsername(authenticationRequest.getPhone());
         final CustomUserDetails customUserDetails = (CustomUserDetails) userDetails;
-        final String token = jwtTokenUtil.generateToken(userDetails, customUserDetails.getRole());
-
-        return ResponseEntity.ok(new JwtResponse(token, customUserDetails.getRole(), customUserDetails.getUserId()));
+        return ResponseEntity.ok(createJwtResponse(customUserDetails));
     }
 
     @PostMapping("/register")
@@ -78,15 +89,60 @@ public class AuthController {
             // Generate token for immediate login after registration
             final UserDetails userDetails = userDetailsService.loadUserByUsername(savedUser.getPhone());
             final CustomUserDetails customUserDetails = (CustomUserDetails) userDetails;
-            final String token = jwtTokenUtil.generateToken(userDetails, customUserDetails.getRole());
-
-            return ResponseEntity.ok(new JwtResponse(token, customUserDetails.getRole(), customUserDetails.getUserId()));
+            return ResponseEntity.ok(createJwtResponse(customUserDetails));
 
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Registration failed: " + e.getMessage());
         }
     }
 
+    // Renew an access token without the password; the refresh token presented is used up
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshAuthenticationToken(@RequestBody RefreshTokenRequest refreshTokenRequest) {
+        try {
+            return ResponseEntity.ok(refreshTokenService.rotateRefreshToken(refreshTokenRequest.getRefreshToken()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh failed: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+                                    @RequestBody(required = false) RefreshTokenRequest refreshTokenRequest) {
+        // Ends the whole refresh token family of this login as well, when its refresh token is sent
+        boolean refreshTokenRevoked = false;
+        if (refreshTokenRequest != null && refreshTokenRequest.getRefreshToken() != null
+                && !refreshTokenRequest.getRefreshToken().isBlank()) {
+            refreshTokenService.revokeRefreshToken(refreshTokenRequest.getRefreshToken());
+            refreshTokenRevoked = true;
+        }
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return refreshTokenRevoked
+                    ? ResponseEntity.ok("Logged out successfully")
+                    : ResponseEntity.badRequest().body("Missing bearer token");
+        }
+        try {
+            Claims claims = jwtTokenUtil.extractVerifiedClaims(authorizationHeader.substring(7));
+            // Tokens issued before token ids were added cannot be revoked one by one
+            if (!revokedTokenService.revokeToken(claims.getId(), claims.getExpiration())) {
+                return ResponseEntity.badRequest().body("Token cannot be revoked");
+            }
+            return ResponseEntity.ok("Logged out successfully");
+        } catch (ExpiredJwtException e) {
+            // Short-lived access tokens often expire before logout; there is nothing left to revoke
+            return ResponseEntity.ok("Logged out successfully");
+        } catch (JwtException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid token: " + e.getMessage());
+        }
+    }
+
+    private JwtResponse createJwtResponse(CustomUserDetails customUserDetails) {
+        final String token = jwtTokenUtil.generateToken(customUserDetails, customUserDetails.getRole());
+        final String refreshToken = refreshTokenService.issueRefreshToken(customUserDetails.getUserId());
+        return new JwtResponse(token, customUserDetails.getRole(), customUserDetails.getUserId(),
+                refreshToken, jwtTokenUtil.getExpirationMillis() / 1000);
+    }
+
     private void authenticate(String phone, String password) throws Exception {
         try {
             authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(phone, password));
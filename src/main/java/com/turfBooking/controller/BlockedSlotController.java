@@ -1,15 +1,20 @@
 package com.turfBooking.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.turfBooking.dto.BlockedSlotRequestDTO;
 import com.turfBooking.dto.BlockedSlotResponseDTO;
+import com.turfBooking.dto.CursorPageDTO;
 import com.turfBooking.service.interfaces.BlockedSlotService;
+import com.turfBooking.util.JsonArrayStreamer;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -23,6 +28,9 @@ import java.util.Map;
     @Autowired
     private BlockedSlotService blockedSlotService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // Create new blocked slot
     @PostMapping
     @PreAuthorize("hasRole('TURF_OWNER') or hasRole('ADMIN')")
@@ -44,6 +52,27 @@ import java.util.Map;
         return ResponseEntity.ok(blockedSlots);
     }
 
+    // Get blocked slots one page at a time; follow nextPageToken until it is null
+    @GetMapping("/page")
+    public ResponseEntity<?> getBlockedSlotsPage(@RequestParam(required = false) String pageToken,
+                                                 @RequestParam(defaultValue = "50") int size) {
+        try {
+            CursorPageDTO<BlockedSlotResponseDTO> page = blockedSlotService.getBlockedSlotsPage(pageToken, size);
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Stream all blocked slots as a JSON array without holding them in memory
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllBlockedSlots() {
+        StreamingResponseBody body = JsonArrayStreamer.<BlockedSlotResponseDTO>stream(objectMapper, blockedSlotService::streamAllBlockedSlots);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     // Get blocked slot by ID
     @GetMapping("/{id}")
     public ResponseEntity<?> getBlockedSlotById(@PathVariable Long id) {
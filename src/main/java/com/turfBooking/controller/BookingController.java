@@ -1,18 +1,27 @@
 package com.turfBooking.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turfBooking.dto.BatchBookingRequestDTO;
+import com.turfBooking.dto.BatchBookingResponseDTO;
 import com.turfBooking.dto.BookingRequestDTO;
 import com.turfBooking.dto.BookingResponseDTO;
 import com.turfBooking.dto.BookingUpdateDTO;
 import com.turfBooking.dto.BookingSearchDTO;
+import com.turfBooking.dto.CursorPageDTO;
+import com.turfBooking.dto.OwnerAnalyticsDTO;
 import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.service.interfaces.BookingAnalyticsService;
 import com.turfBooking.service.interfaces.BookingService;
+import com.turfBooking.util.JsonArrayStreamer;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -29,6 +38,12 @@ public class BookingController {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private BookingAnalyticsService bookingAnalyticsService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // Create new booking
     @PostMapping
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
@@ -43,6 +58,22 @@ public class BookingController {
         }
     }
 
+    // Create many bookings at once (e.g. a weekly slot for a season)
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<?> createBookings(@Valid @RequestBody BatchBookingRequestDTO batchRequestDTO) {
+        try {
+            BatchBookingResponseDTO result = bookingService.createBookings(batchRequestDTO);
+            HttpStatus status = result.getBookedCount() > 0 || result.getFailures().isEmpty()
+                    ? HttpStatus.CREATED : HttpStatus.CONFLICT;
+            return ResponseEntity.status(status).body(result);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
     // Get all bookings
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -51,6 +82,29 @@ public class BookingController {
         return ResponseEntity.ok(bookings);
     }
 
+    // Get bookings one page at a time; follow nextPageToken until it is null
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getBookingsPage(@RequestParam(required = false) String pageToken,
+                                             @RequestParam(defaultValue = "50") int size) {
+        try {
+            CursorPageDTO<BookingResponseDTO> page = bookingService.getBookingsPage(pageToken, size);
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Stream all bookings as a JSON array without holding them in memory
+    @GetMapping("/stream")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllBookings() {
+        StreamingResponseBody body = JsonArrayStreamer.<BookingResponseDTO>stream(objectMapper, bookingService::streamAllBookings);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     // Get booking by ID
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER') or hasRole('TURF_OWNER') or hasRole('ADMIN')")
@@ -280,12 +334,14 @@ public class BookingController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Map<String, Object>> getBookingStatistics() {
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalBookings", bookingService.getTotalBookingsCount());
+        Map<BookingStatus, Long> statusCounts = bookingService.getBookingCountsByStatus();
+        stats.put("totalBookings", statusCounts.values().stream().mapToLong(Long::longValue).sum());
 
         // Add count for each booking status
         for (BookingStatus status : BookingStatus.values()) {
-            stats.put("total" + status.name() + "Bookings", bookingService.getBookingsCountByStatus(status));
+            stats.put("total" + status.name() + "Bookings", statusCounts.get(status));
         }
+        stats.put("bookingsBySportType", bookingService.getBookingCountsBySportType());
 
         return ResponseEntity.ok(stats);
     }
@@ -306,6 +362,39 @@ public class BookingController {
         }
     }
 
+    // Get turf owner booking statistics
+    @GetMapping("/statistics/owner/{ownerId}")
+    @PreAuthorize("hasRole('TURF_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<?> getOwnerBookingStatistics(@PathVariable Long ownerId) {
+        try {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("totalBookings", bookingService.getBookingsCountByOwner(ownerId));
+            stats.put("upcomingBookings", bookingService.getUpcomingBookingsForTurfOwner(ownerId));
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+
+    // Get turf owner revenue, utilization, peak hour and cancellation analytics over a date range
+    @GetMapping("/statistics/owner/{ownerId}/analytics")
+    @PreAuthorize("hasRole('TURF_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<?> getOwnerBookingAnalytics(
+            @PathVariable Long ownerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        try {
+            OwnerAnalyticsDTO analytics = bookingAnalyticsService.getOwnerAnalytics(ownerId, startDate, endDate);
+            return ResponseEntity.ok(analytics);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
     // Get turf booking statistics
     @GetMapping("/statistics/turf/{turfId}")
     @PreAuthorize("hasRole('TURF_OWNER') or hasRole('ADMIN')")
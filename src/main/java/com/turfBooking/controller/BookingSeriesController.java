@@ -0,0 +1,80 @@
+package com.turfBooking.controller;
+
+import com.turfBooking.dto.BookingSeriesRequestDTO;
+import com.turfBooking.dto.BookingSeriesResponseDTO;
+import com.turfBooking.service.interfaces.BookingSeriesService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/booking-series")
+@CrossOrigin(origins = "*")
+public class BookingSeriesController {
+
+    @Autowired
+    private BookingSeriesService bookingSeriesService;
+
+    // Create recurring booking series
+    @PostMapping
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<?> createSeries(@Valid @RequestBody BookingSeriesRequestDTO seriesRequestDTO) {
+        try {
+            BookingSeriesResponseDTO createdSeries = bookingSeriesService.createSeries(seriesRequestDTO);
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdSeries);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Get series by ID
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('USER') or hasRole('TURF_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<?> getSeriesById(@PathVariable Long id) {
+        try {
+            BookingSeriesResponseDTO series = bookingSeriesService.getSeriesById(id);
+            return ResponseEntity.ok(series);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+
+    // Get series by user ID
+    @GetMapping("/user/{userId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<BookingSeriesResponseDTO>> getSeriesByUserId(@PathVariable Long userId) {
+        return ResponseEntity.ok(bookingSeriesService.getSeriesByUserId(userId));
+    }
+
+    // Get series by turf ID
+    @GetMapping("/turf/{turfId}")
+    @PreAuthorize("hasRole('TURF_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<List<BookingSeriesResponseDTO>> getSeriesByTurfId(@PathVariable Long turfId) {
+        return ResponseEntity.ok(bookingSeriesService.getSeriesByTurfId(turfId));
+    }
+
+    // Cancel series
+    @PutMapping("/{id}/cancel")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<?> cancelSeries(@PathVariable Long id) {
+        try {
+            BookingSeriesResponseDTO cancelledSeries = bookingSeriesService.cancelSeries(id);
+            return ResponseEntity.ok(cancelledSeries);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+}
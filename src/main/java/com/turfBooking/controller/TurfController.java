@@ -1,18 +1,27 @@
 package com.turfBooking.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turfBooking.dto.AvailabilityGridRequestDTO;
+import com.turfBooking.dto.CursorPageDTO;
+import com.turfBooking.dto.DayAvailabilityDTO;
+import com.turfBooking.dto.NearbyTurfDTO;
 import com.turfBooking.dto.TurfRequestDTO;
 import com.turfBooking.dto.TurfResponseDTO;
 import com.turfBooking.dto.TurfSearchDTO;
+import com.turfBooking.dto.TurfSearchResultDTO;
 import com.turfBooking.dto.TurfUpdateDTO;
 import com.turfBooking.enums.SportType;
 import com.turfBooking.service.interfaces.TurfService;
+import com.turfBooking.util.JsonArrayStreamer;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -20,6 +29,7 @@ import java.time.LocalTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/turfs")
@@ -29,6 +39,9 @@ public class TurfController {
     @Autowired
     private TurfService turfService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // Create new turf
     @PostMapping
     @PreAuthorize("hasRole('TURF_OWNER') or hasRole('ADMIN')")
@@ -50,6 +63,27 @@ public class TurfController {
         return ResponseEntity.ok(turfs);
     }
 
+    // Get turfs one page at a time; follow nextPageToken until it is null
+    @GetMapping("/page")
+    public ResponseEntity<?> getTurfsPage(@RequestParam(required = false) String pageToken,
+                                          @RequestParam(defaultValue = "50") int size) {
+        try {
+            CursorPageDTO<TurfResponseDTO> page = turfService.getTurfsPage(pageToken, size);
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Stream all turfs as a JSON array without holding them in memory
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllTurfs() {
+        StreamingResponseBody body = JsonArrayStreamer.<TurfResponseDTO>stream(objectMapper, turfService::streamAllTurfs);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     // Get turf by ID
     @GetMapping("/{id}")
     public ResponseEntity<?> getTurfById(@PathVariable Long id) {
@@ -138,6 +172,53 @@ public class TurfController {
         return ResponseEntity.ok(turfs);
     }
 
+    // Advanced search limited to turfs that are open and free for the whole time window on the date
+    @PostMapping("/search/available")
+    public ResponseEntity<?> searchAvailableTurfs(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime endTime,
+            @RequestBody(required = false) TurfSearchDTO searchDTO) {
+        try {
+            List<TurfResponseDTO> turfs = turfService.searchAvailableTurfs(searchDTO, date, startTime, endTime);
+            return ResponseEntity.ok(turfs);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Advanced search returning the matches plus counts per sport type, price range and location word
+    @PostMapping("/search/faceted")
+    public ResponseEntity<TurfSearchResultDTO> searchTurfsWithFacets(@RequestBody TurfSearchDTO searchDTO) {
+        TurfSearchResultDTO result = turfService.searchTurfsWithFacets(searchDTO);
+        return ResponseEntity.ok(result);
+    }
+
+    // Find turfs nearest to a point, optionally within a radius and filtered by sport, price or text
+    @GetMapping("/nearby")
+    public ResponseEntity<?> findNearbyTurfs(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) SportType type,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String query) {
+        try {
+            TurfSearchDTO filters = new TurfSearchDTO(null, null, type, minPrice, maxPrice);
+            filters.setQuery(query);
+            List<NearbyTurfDTO> turfs = turfService.findNearbyTurfs(latitude, longitude, radiusKm, limit, filters);
+            return ResponseEntity.ok(turfs);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
     // Get available time slots for a turf on a specific date
     @GetMapping("/{id}/available-slots")
     public ResponseEntity<?> getAvailableTimeSlots(
@@ -153,6 +234,36 @@ public class TurfController {
         }
     }
 
+    // Get the free/busy timeline for a turf on a specific date
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<?> getDayAvailability(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "60") int slotMinutes) {
+        try {
+            DayAvailabilityDTO availability = turfService.getDayAvailability(id, date, slotMinutes);
+            return ResponseEntity.ok(availability);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Get availability for many turfs over a date range (streamed, one entry per turf and day)
+    @PostMapping("/availability/grid")
+    public ResponseEntity<?> getAvailabilityGrid(@Valid @RequestBody AvailabilityGridRequestDTO gridRequestDTO) {
+        try {
+            Stream<DayAvailabilityDTO> grid = turfService.getAvailabilityGrid(gridRequestDTO);
+            StreamingResponseBody body = JsonArrayStreamer.stream(objectMapper, grid);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
     // Check if time slot is available
     @GetMapping("/{id}/check-availability")
     public ResponseEntity<Map<String, Boolean>> checkTimeSlotAvailability(
@@ -197,11 +308,12 @@ public class TurfController {
     @GetMapping("/statistics")
     public ResponseEntity<Map<String, Object>> getTurfStatistics() {
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalTurfs", turfService.getTotalTurfsCount());
+        Map<SportType, Long> typeCounts = turfService.getTurfCountsBySportType();
+        stats.put("totalTurfs", typeCounts.values().stream().mapToLong(Long::longValue).sum());
 
         // Add count for each sport type
         for (SportType type : SportType.values()) {
-            stats.put("total" + type.name() + "Turfs", turfService.getTurfsCountBySportType(type));
+            stats.put("total" + type.name() + "Turfs", typeCounts.get(type));
         }
 
         return ResponseEntity.ok(stats);
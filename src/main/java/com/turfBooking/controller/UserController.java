@@ -1,16 +1,21 @@
 package com.turfBooking.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turfBooking.dto.CursorPageDTO;
 import com.turfBooking.dto.UserRequestDTO;
 import com.turfBooking.dto.UserResponseDTO;
 import com.turfBooking.dto.UserUpdateDTO;
 import com.turfBooking.enums.UserRole;
 import com.turfBooking.service.interfaces.UserService;
+import com.turfBooking.util.JsonArrayStreamer;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +29,9 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // Create new user
     @PostMapping
     public ResponseEntity<?> createUser(@Valid @RequestBody UserRequestDTO userRequestDTO) {
@@ -44,6 +52,27 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    // Get users one page at a time; follow nextPageToken until it is null
+    @GetMapping("/page")
+    public ResponseEntity<?> getUsersPage(@RequestParam(required = false) String pageToken,
+                                          @RequestParam(defaultValue = "50") int size) {
+        try {
+            CursorPageDTO<UserResponseDTO> page = userService.getUsersPage(pageToken, size);
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Stream all users as a JSON array without holding them in memory
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        StreamingResponseBody body = JsonArrayStreamer.<UserResponseDTO>stream(objectMapper, userService::streamAllUsers);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     // Get user by ID
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER') or hasRole('TURF_OWNER') or hasRole('ADMIN')")
@@ -142,10 +171,11 @@ public class UserController {
     @GetMapping("/statistics")
     public ResponseEntity<Map<String, Object>> getUserStatistics() {
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalUsers", userService.getTotalUsersCount());
-        stats.put("totalRegularUsers", userService.getUsersCountByRole(UserRole.USER));
-        stats.put("totalTurfOwners", userService.getUsersCountByRole(UserRole.TURF_OWNER));
-        stats.put("totalAdmins", userService.getUsersCountByRole(UserRole.ADMIN));
+        Map<UserRole, Long> roleCounts = userService.getUserCountsByRole();
+        stats.put("totalUsers", roleCounts.values().stream().mapToLong(Long::longValue).sum());
+        stats.put("totalRegularUsers", roleCounts.get(UserRole.USER));
+        stats.put("totalTurfOwners", roleCounts.get(UserRole.TURF_OWNER));
+        stats.put("totalAdmins", roleCounts.get(UserRole.ADMIN));
         return ResponseEntity.ok(stats);
     }
 }
@@ -0,0 +1,50 @@
+// AvailabilityGridRequestDTO.java
+package com.turfBooking.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.List;
+
+public class AvailabilityGridRequestDTO {
+
+    // Explicit turf IDs; when empty the filter below selects the turfs
+    private List<Long> turfIds;
+
+    private TurfSearchDTO filter;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+
+    private int slotMinutes = 60;
+
+    // Constructors
+    public AvailabilityGridRequestDTO() {}
+
+    public AvailabilityGridRequestDTO(List<Long> turfIds, TurfSearchDTO filter,
+                                      LocalDate startDate, LocalDate endDate, int slotMinutes) {
+        this.turfIds = turfIds;
+        this.filter = filter;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.slotMinutes = slotMinutes;
+    }
+
+    // Getters and Setters
+    public List<Long> getTurfIds() { return turfIds; }
+    public void setTurfIds(List<Long> turfIds) { this.turfIds = turfIds; }
+
+    public TurfSearchDTO getFilter() { return filter; }
+    public void setFilter(TurfSearchDTO filter) { this.filter = filter; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public int getSlotMinutes() { return slotMinutes; }
+    public void setSlotMinutes(int slotMinutes) { this.slotMinutes = slotMinutes; }
+}
@@ -0,0 +1,29 @@
+// BatchBookingFailureDTO.java
+package com.turfBooking.dto;
+
+public class BatchBookingFailureDTO {
+
+    // Position of the slot in the request
+    private int index;
+    private BookingSlotDTO slot;
+    private String reason;
+
+    // Constructors
+    public BatchBookingFailureDTO() {}
+
+    public BatchBookingFailureDTO(int index, BookingSlotDTO slot, String reason) {
+        this.index = index;
+        this.slot = slot;
+        this.reason = reason;
+    }
+
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public BookingSlotDTO getSlot() { return slot; }
+    public void setSlot(BookingSlotDTO slot) { this.slot = slot; }
+
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+}
@@ -0,0 +1,39 @@
+// BatchBookingRequestDTO.java
+package com.turfBooking.dto;
+
+import com.turfBooking.enums.BatchBookingMode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public class BatchBookingRequestDTO {
+
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    private BatchBookingMode mode = BatchBookingMode.ALL_OR_NOTHING;
+
+    @NotEmpty(message = "At least one slot is required")
+    @Valid
+    private List<BookingSlotDTO> slots;
+
+    // Constructors
+    public BatchBookingRequestDTO() {}
+
+    public BatchBookingRequestDTO(Long userId, BatchBookingMode mode, List<BookingSlotDTO> slots) {
+        this.userId = userId;
+        this.mode = mode;
+        this.slots = slots;
+    }
+
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public BatchBookingMode getMode() { return mode; }
+    public void setMode(BatchBookingMode mode) { this.mode = mode; }
+
+    public List<BookingSlotDTO> getSlots() { return slots; }
+    public void setSlots(List<BookingSlotDTO> slots) { this.slots = slots; }
+}
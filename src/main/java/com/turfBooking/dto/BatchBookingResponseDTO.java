@@ -0,0 +1,42 @@
+// BatchBookingResponseDTO.java
+package com.turfBooking.dto;
+
+import com.turfBooking.enums.BatchBookingMode;
+import java.util.List;
+
+public class BatchBookingResponseDTO {
+
+    private BatchBookingMode mode;
+    private int requestedCount;
+    private int bookedCount;
+    private List<BookingResponseDTO> bookings;
+    private List<BatchBookingFailureDTO> failures;
+
+    // Constructors
+    public BatchBookingResponseDTO() {}
+
+    public BatchBookingResponseDTO(BatchBookingMode mode, int requestedCount,
+                                   List<BookingResponseDTO> bookings, List<BatchBookingFailureDTO> failures) {
+        this.mode = mode;
+        this.requestedCount = requestedCount;
+        this.bookedCount = bookings.size();
+        this.bookings = bookings;
+        this.failures = failures;
+    }
+
+    // Getters and Setters
+    public BatchBookingMode getMode() { return mode; }
+    public void setMode(BatchBookingMode mode) { this.mode = mode; }
+
+    public int getRequestedCount() { return requestedCount; }
+    public void setRequestedCount(int requestedCount) { this.requestedCount = requestedCount; }
+
+    public int getBookedCount() { return bookedCount; }
+    public void setBookedCount(int bookedCount) { this.bookedCount = bookedCount; }
+
+    public List<BookingResponseDTO> getBookings() { return bookings; }
+    public void setBookings(List<BookingResponseDTO> bookings) { this.bookings = bookings; }
+
+    public List<BatchBookingFailureDTO> getFailures() { return failures; }
+    public void setFailures(List<BatchBookingFailureDTO> failures) { this.failures = failures; }
+}
@@ -2,7 +2,9 @@
 package com.turfBooking.dto;
 
 import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.SportType;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
@@ -13,6 +15,7 @@ public class BookingResponseDTO {
     private LocalTime slotEndTime;
     private LocalDate bookingDate;
     private BookingStatus status;
+    private Long version;
 
     // User details
     private Long userId;
@@ -58,6 +61,27 @@ public class BookingResponseDTO {
         this.turfOwnerPhone = turfOwnerPhone;
     }
 
+    // Used by the constructor-expression queries in BookingRepository; calculated fields are filled in as rows are read
+    public BookingResponseDTO(Long id, LocalTime slotStartTime, LocalTime slotEndTime,
+                              LocalDate bookingDate, BookingStatus status, Long version,
+                              Long userId, String userName, String userPhone,
+                              Long turfId, String turfName, String turfLocation,
+                              SportType turfType, BigDecimal turfPrice,
+                              String turfOwnerName, String turfOwnerPhone) {
+        this(id, slotStartTime, slotEndTime, bookingDate, status, userId, userName, userPhone,
+                turfId, turfName, turfLocation, turfType.toString(), turfPrice, turfOwnerName, turfOwnerPhone);
+        this.version = version;
+
+        // Started hours are billed as full hours
+        Duration duration = Duration.between(slotStartTime, slotEndTime);
+        long hours = duration.toHours();
+        if (duration.toMinutes() % 60 != 0) {
+            hours++;
+        }
+        this.durationHours = hours;
+        this.totalPrice = turfPrice.multiply(BigDecimal.valueOf(hours));
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -109,5 +133,8 @@ public class BookingResponseDTO {
 
     public long getDurationHours() { return durationHours; }
     public void setDurationHours(long durationHours) { this.durationHours = durationHours; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
 
@@ -0,0 +1,66 @@
+// BookingSeriesRequestDTO.java
+package com.turfBooking.dto;
+
+import com.turfBooking.enums.RecurrenceFrequency;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public class BookingSeriesRequestDTO {
+
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    @NotNull(message = "Turf ID is required")
+    private Long turfId;
+
+    @NotNull(message = "Start time is required")
+    private LocalTime slotStartTime;
+
+    @NotNull(message = "End time is required")
+    private LocalTime slotEndTime;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+
+    private RecurrenceFrequency frequency = RecurrenceFrequency.WEEKLY;
+
+    // Constructors
+    public BookingSeriesRequestDTO() {}
+
+    public BookingSeriesRequestDTO(Long userId, Long turfId, LocalTime slotStartTime, LocalTime slotEndTime,
+                                   LocalDate startDate, LocalDate endDate, RecurrenceFrequency frequency) {
+        this.userId = userId;
+        this.turfId = turfId;
+        this.slotStartTime = slotStartTime;
+        this.slotEndTime = slotEndTime;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.frequency = frequency;
+    }
+
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public LocalTime getSlotStartTime() { return slotStartTime; }
+    public void setSlotStartTime(LocalTime slotStartTime) { this.slotStartTime = slotStartTime; }
+
+    public LocalTime getSlotEndTime() { return slotEndTime; }
+    public void setSlotEndTime(LocalTime slotEndTime) { this.slotEndTime = slotEndTime; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public RecurrenceFrequency getFrequency() { return frequency; }
+    public void setFrequency(RecurrenceFrequency frequency) { this.frequency = frequency; }
+}
@@ -0,0 +1,86 @@
+// BookingSeriesResponseDTO.java
+package com.turfBooking.dto;
+
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.RecurrenceFrequency;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public class BookingSeriesResponseDTO {
+
+    private Long id;
+    private Long userId;
+    private String userName;
+    private Long turfId;
+    private String turfName;
+    private LocalTime slotStartTime;
+    private LocalTime slotEndTime;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private RecurrenceFrequency frequency;
+    private BookingStatus status;
+    private LocalDate materializedThrough;
+    private long occurrenceCount;
+
+    // Constructors
+    public BookingSeriesResponseDTO() {}
+
+    public BookingSeriesResponseDTO(Long id, Long userId, String userName, Long turfId, String turfName,
+                                    LocalTime slotStartTime, LocalTime slotEndTime, LocalDate startDate,
+                                    LocalDate endDate, RecurrenceFrequency frequency, BookingStatus status,
+                                    LocalDate materializedThrough, long occurrenceCount) {
+        this.id = id;
+        this.userId = userId;
+        this.userName = userName;
+        this.turfId = turfId;
+        this.turfName = turfName;
+        this.slotStartTime = slotStartTime;
+        this.slotEndTime = slotEndTime;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.frequency = frequency;
+        this.status = status;
+        this.materializedThrough = materializedThrough;
+        this.occurrenceCount = occurrenceCount;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public String getUserName() { return userName; }
+    public void setUserName(String userName) { this.userName = userName; }
+
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public String getTurfName() { return turfName; }
+    public void setTurfName(String turfName) { this.turfName = turfName; }
+
+    public LocalTime getSlotStartTime() { return slotStartTime; }
+    public void setSlotStartTime(LocalTime slotStartTime) { this.slotStartTime = slotStartTime; }
+
+    public LocalTime getSlotEndTime() { return slotEndTime; }
+    public void setSlotEndTime(LocalTime slotEndTime) { this.slotEndTime = slotEndTime; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public RecurrenceFrequency getFrequency() { return frequency; }
+    public void setFrequency(RecurrenceFrequency frequency) { this.frequency = frequency; }
+
+    public BookingStatus getStatus() { return status; }
+    public void setStatus(BookingStatus status) { this.status = status; }
+
+    public LocalDate getMaterializedThrough() { return materializedThrough; }
+    public void setMaterializedThrough(LocalDate materializedThrough) { this.materializedThrough = materializedThrough; }
+
+    public long getOccurrenceCount() { return occurrenceCount; }
+    public void setOccurrenceCount(long occurrenceCount) { this.occurrenceCount = occurrenceCount; }
+}
@@ -0,0 +1,48 @@
+// BookingSlotDTO.java
+package com.turfBooking.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public class BookingSlotDTO {
+
+    @NotNull(message = "Turf ID is required")
+    private Long turfId;
+
+    @NotNull(message = "Booking date is required")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate bookingDate;
+
+    @NotNull(message = "Start time is required")
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime slotStartTime;
+
+    @NotNull(message = "End time is required")
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime slotEndTime;
+
+    // Constructors
+    public BookingSlotDTO() {}
+
+    public BookingSlotDTO(Long turfId, LocalDate bookingDate, LocalTime slotStartTime, LocalTime slotEndTime) {
+        this.turfId = turfId;
+        this.bookingDate = bookingDate;
+        this.slotStartTime = slotStartTime;
+        this.slotEndTime = slotEndTime;
+    }
+
+    // Getters and Setters
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public LocalDate getBookingDate() { return bookingDate; }
+    public void setBookingDate(LocalDate bookingDate) { this.bookingDate = bookingDate; }
+
+    public LocalTime getSlotStartTime() { return slotStartTime; }
+    public void setSlotStartTime(LocalTime slotStartTime) { this.slotStartTime = slotStartTime; }
+
+    public LocalTime getSlotEndTime() { return slotEndTime; }
+    public void setSlotEndTime(LocalTime slotEndTime) { this.slotEndTime = slotEndTime; }
+}
@@ -12,6 +12,9 @@ public class BookingUpdateDTO {
     private LocalDate bookingDate;
     private BookingStatus status;
 
+    // Version the client last read; when set, the update is rejected if the booking changed since
+    private Long version;
+
     // Constructors
     public BookingUpdateDTO() {}
 
@@ -35,5 +38,8 @@ public class BookingUpdateDTO {
 
     public BookingStatus getStatus() { return status; }
     public void setStatus(BookingStatus status) { this.status = status; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
 
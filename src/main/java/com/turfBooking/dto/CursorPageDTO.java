@@ -0,0 +1,27 @@
+// CursorPageDTO.java
+package com.turfBooking.dto;
+
+import java.util.List;
+
+public class CursorPageDTO<T> {
+
+    private List<T> items;
+
+    // Pass back as pageToken to fetch the next page; null on the last page
+    private String nextPageToken;
+
+    // Constructors
+    public CursorPageDTO() {}
+
+    public CursorPageDTO(List<T> items, String nextPageToken) {
+        this.items = items;
+        this.nextPageToken = nextPageToken;
+    }
+
+    // Getters and Setters
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public String getNextPageToken() { return nextPageToken; }
+    public void setNextPageToken(String nextPageToken) { this.nextPageToken = nextPageToken; }
+}
@@ -0,0 +1,42 @@
+// DailyRevenueDTO.java
+package com.turfBooking.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class DailyRevenueDTO {
+
+    private LocalDate date;
+    private long confirmedBookings;
+    private long cancelledBookings;
+    private long bookedMinutes;
+    private BigDecimal revenue;
+
+    // Constructors
+    public DailyRevenueDTO() {}
+
+    public DailyRevenueDTO(LocalDate date, long confirmedBookings, long cancelledBookings,
+                           long bookedMinutes, BigDecimal revenue) {
+        this.date = date;
+        this.confirmedBookings = confirmedBookings;
+        this.cancelledBookings = cancelledBookings;
+        this.bookedMinutes = bookedMinutes;
+        this.revenue = revenue;
+    }
+
+    // Getters and Setters
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public long getConfirmedBookings() { return confirmedBookings; }
+    public void setConfirmedBookings(long confirmedBookings) { this.confirmedBookings = confirmedBookings; }
+
+    public long getCancelledBookings() { return cancelledBookings; }
+    public void setCancelledBookings(long cancelledBookings) { this.cancelledBookings = cancelledBookings; }
+
+    public long getBookedMinutes() { return bookedMinutes; }
+    public void setBookedMinutes(long bookedMinutes) { this.bookedMinutes = bookedMinutes; }
+
+    public BigDecimal getRevenue() { return revenue; }
+    public void setRevenue(BigDecimal revenue) { this.revenue = revenue; }
+}
@@ -0,0 +1,73 @@
+// DayAvailabilityDTO.java
+package com.turfBooking.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public class DayAvailabilityDTO {
+
+    private Long turfId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    private int slotMinutes;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime operatingStartTime;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime operatingEndTime;
+
+    // Free/busy timeline covering the operating hours
+    private List<TimeSlotDTO> slots;
+
+    // Merged busy periods within the operating hours
+    private List<TimeSlotDTO> busyPeriods;
+
+    private int availableSlotCount;
+
+    // Constructors
+    public DayAvailabilityDTO() {}
+
+    public DayAvailabilityDTO(Long turfId, LocalDate date, int slotMinutes,
+                              LocalTime operatingStartTime, LocalTime operatingEndTime,
+                              List<TimeSlotDTO> slots, List<TimeSlotDTO> busyPeriods) {
+        this.turfId = turfId;
+        this.date = date;
+        this.slotMinutes = slotMinutes;
+        this.operatingStartTime = operatingStartTime;
+        this.operatingEndTime = operatingEndTime;
+        this.slots = slots;
+        this.busyPeriods = busyPeriods;
+        this.availableSlotCount = (int) slots.stream().filter(TimeSlotDTO::isAvailable).count();
+    }
+
+    // Getters and Setters
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public int getSlotMinutes() { return slotMinutes; }
+    public void setSlotMinutes(int slotMinutes) { this.slotMinutes = slotMinutes; }
+
+    public LocalTime getOperatingStartTime() { return operatingStartTime; }
+    public void setOperatingStartTime(LocalTime operatingStartTime) { this.operatingStartTime = operatingStartTime; }
+
+    public LocalTime getOperatingEndTime() { return operatingEndTime; }
+    public void setOperatingEndTime(LocalTime operatingEndTime) { this.operatingEndTime = operatingEndTime; }
+
+    public List<TimeSlotDTO> getSlots() { return slots; }
+    public void setSlots(List<TimeSlotDTO> slots) { this.slots = slots; }
+
+    public List<TimeSlotDTO> getBusyPeriods() { return busyPeriods; }
+    public void setBusyPeriods(List<TimeSlotDTO> busyPeriods) { this.busyPeriods = busyPeriods; }
+
+    public int getAvailableSlotCount() { return availableSlotCount; }
+    public void setAvailableSlotCount(int availableSlotCount) { this.availableSlotCount = availableSlotCount; }
+}
@@ -5,11 +5,19 @@ public class JwtResponse {
     private final String jwttoken;
     private final String role;
     private final Long userId;
+    private final String refreshToken;
+    private final Long expiresIn;
 
     public JwtResponse(String jwttoken, String role, Long userId) {
+        this(jwttoken, role, userId, null, null);
+    }
+
+    public JwtResponse(String jwttoken, String role, Long userId, String refreshToken, Long expiresIn) {
         this.jwttoken = jwttoken;
         this.role = role;
         this.userId = userId;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
     }
 
     public String getToken() {
@@ -23,4 +31,14 @@ public class JwtResponse {
     public Long getUserId() {
         return this.userId;
     }
-}
\ No newline at end of file
+
+    // Single-use token for POST /api/auth/refresh
+    public String getRefreshToken() {
+        return this.refreshToken;
+    }
+
+    // Seconds until the access token expires
+    public Long getExpiresIn() {
+        return this.expiresIn;
+    }
+}
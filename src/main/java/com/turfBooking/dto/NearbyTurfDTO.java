@@ -0,0 +1,23 @@
+// NearbyTurfDTO.java
+package com.turfBooking.dto;
+
+public class NearbyTurfDTO {
+
+    private TurfResponseDTO turf;
+    private double distanceKm;
+
+    // Constructors
+    public NearbyTurfDTO() {}
+
+    public NearbyTurfDTO(TurfResponseDTO turf, double distanceKm) {
+        this.turf = turf;
+        this.distanceKm = distanceKm;
+    }
+
+    // Getters and Setters
+    public TurfResponseDTO getTurf() { return turf; }
+    public void setTurf(TurfResponseDTO turf) { this.turf = turf; }
+
+    public double getDistanceKm() { return distanceKm; }
+    public void setDistanceKm(double distanceKm) { this.distanceKm = distanceKm; }
+}
@@ -0,0 +1,83 @@
+// OwnerAnalyticsDTO.java
+package com.turfBooking.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public class OwnerAnalyticsDTO {
+
+    private Long ownerId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long confirmedBookings;
+    private long cancelledBookings;
+    private long bookedMinutes;
+    private BigDecimal totalRevenue;
+
+    // Booked minutes as a percentage of the operating minutes of all the owner's turfs
+    private double utilizationPercent;
+
+    // Cancelled bookings as a fraction of all bookings in the date range
+    private double cancellationRate;
+
+    // Hours of the day (0-23) with the most booked minutes, busiest first
+    private List<Integer> peakHours;
+
+    // Confirmed booked minutes falling in each hour of the day, indexed 0-23
+    private List<Long> bookedMinutesByHour;
+
+    private List<TurfAnalyticsDTO> turfs;
+
+    // Days with at least one booking across all turfs, in date order
+    private List<DailyRevenueDTO> daily;
+
+    // Constructors
+    public OwnerAnalyticsDTO() {}
+
+    public OwnerAnalyticsDTO(Long ownerId, LocalDate startDate, LocalDate endDate) {
+        this.ownerId = ownerId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    // Getters and Setters
+    public Long getOwnerId() { return ownerId; }
+    public void setOwnerId(Long ownerId) { this.ownerId = ownerId; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public long getConfirmedBookings() { return confirmedBookings; }
+    public void setConfirmedBookings(long confirmedBookings) { this.confirmedBookings = confirmedBookings; }
+
+    public long getCancelledBookings() { return cancelledBookings; }
+    public void setCancelledBookings(long cancelledBookings) { this.cancelledBookings = cancelledBookings; }
+
+    public long getBookedMinutes() { return bookedMinutes; }
+    public void setBookedMinutes(long bookedMinutes) { this.bookedMinutes = bookedMinutes; }
+
+    public BigDecimal getTotalRevenue() { return totalRevenue; }
+    public void setTotalRevenue(BigDecimal totalRevenue) { this.totalRevenue = totalRevenue; }
+
+    public double getUtilizationPercent() { return utilizationPercent; }
+    public void setUtilizationPercent(double utilizationPercent) { this.utilizationPercent = utilizationPercent; }
+
+    public double getCancellationRate() { return cancellationRate; }
+    public void setCancellationRate(double cancellationRate) { this.cancellationRate = cancellationRate; }
+
+    public List<Integer> getPeakHours() { return peakHours; }
+    public void setPeakHours(List<Integer> peakHours) { this.peakHours = peakHours; }
+
+    public List<Long> getBookedMinutesByHour() { return bookedMinutesByHour; }
+    public void setBookedMinutesByHour(List<Long> bookedMinutesByHour) { this.bookedMinutesByHour = bookedMinutesByHour; }
+
+    public List<TurfAnalyticsDTO> getTurfs() { return turfs; }
+    public void setTurfs(List<TurfAnalyticsDTO> turfs) { this.turfs = turfs; }
+
+    public List<DailyRevenueDTO> getDaily() { return daily; }
+    public void setDaily(List<DailyRevenueDTO> daily) { this.daily = daily; }
+}
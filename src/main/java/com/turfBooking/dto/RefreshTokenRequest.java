@@ -0,0 +1,21 @@
+package com.turfBooking.dto;
+
+public class RefreshTokenRequest {
+    private String refreshToken;
+
+    // Default constructor for JSON Parsing
+    public RefreshTokenRequest() {
+    }
+
+    public RefreshTokenRequest(String refreshToken) {
+        this.setRefreshToken(refreshToken);
+    }
+
+    public String getRefreshToken() {
+        return this.refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
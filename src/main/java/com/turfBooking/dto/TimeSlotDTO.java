@@ -0,0 +1,36 @@
+// TimeSlotDTO.java
+package com.turfBooking.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalTime;
+
+public class TimeSlotDTO {
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTime;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime endTime;
+
+    private boolean available;
+
+    // Constructors
+    public TimeSlotDTO() {}
+
+    public TimeSlotDTO(LocalTime startTime, LocalTime endTime, boolean available) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.available = available;
+    }
+
+    // Getters and Setters
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public boolean isAvailable() { return available; }
+    public void setAvailable(boolean available) { this.available = available; }
+}
@@ -0,0 +1,69 @@
+// TurfAnalyticsDTO.java
+package com.turfBooking.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class TurfAnalyticsDTO {
+
+    private Long turfId;
+    private String turfName;
+    private long confirmedBookings;
+    private long cancelledBookings;
+    private long bookedMinutes;
+    private BigDecimal revenue;
+
+    // Booked minutes as a percentage of operating minutes over the date range
+    private double utilizationPercent;
+
+    // Cancelled bookings as a fraction of all bookings in the date range
+    private double cancellationRate;
+
+    // Days with at least one booking, in date order
+    private List<DailyRevenueDTO> daily;
+
+    // Constructors
+    public TurfAnalyticsDTO() {}
+
+    public TurfAnalyticsDTO(Long turfId, String turfName, long confirmedBookings, long cancelledBookings,
+                            long bookedMinutes, BigDecimal revenue, double utilizationPercent,
+                            double cancellationRate, List<DailyRevenueDTO> daily) {
+        this.turfId = turfId;
+        this.turfName = turfName;
+        this.confirmedBookings = confirmedBookings;
+        this.cancelledBookings = cancelledBookings;
+        this.bookedMinutes = bookedMinutes;
+        this.revenue = revenue;
+        this.utilizationPercent = utilizationPercent;
+        this.cancellationRate = cancellationRate;
+        this.daily = daily;
+    }
+
+    // Getters and Setters
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public String getTurfName() { return turfName; }
+    public void setTurfName(String turfName) { this.turfName = turfName; }
+
+    public long getConfirmedBookings() { return confirmedBookings; }
+    public void setConfirmedBookings(long confirmedBookings) { this.confirmedBookings = confirmedBookings; }
+
+    public long getCancelledBookings() { return cancelledBookings; }
+    public void setCancelledBookings(long cancelledBookings) { this.cancelledBookings = cancelledBookings; }
+
+    public long getBookedMinutes() { return bookedMinutes; }
+    public void setBookedMinutes(long bookedMinutes) { this.bookedMinutes = bookedMinutes; }
+
+    public BigDecimal getRevenue() { return revenue; }
+    public void setRevenue(BigDecimal revenue) { this.revenue = revenue; }
+
+    public double getUtilizationPercent() { return utilizationPercent; }
+    public void setUtilizationPercent(double utilizationPercent) { this.utilizationPercent = utilizationPercent; }
+
+    public double getCancellationRate() { return cancellationRate; }
+    public void setCancellationRate(double cancellationRate) { this.cancellationRate = cancellationRate; }
+
+    public List<DailyRevenueDTO> getDaily() { return daily; }
+    public void setDaily(List<DailyRevenueDTO> daily) { this.daily = daily; }
+}
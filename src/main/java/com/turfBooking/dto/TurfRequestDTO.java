@@ -30,6 +30,14 @@ public class TurfRequestDTO {
     @Size(max = 500, message = "Description cannot exceed 500 characters")
     private String description;
 
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
     @NotNull(message = "Operating start time is required")
     private LocalTime operatingStartTime;
 
@@ -75,6 +83,12 @@ public class TurfRequestDTO {
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
 
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
     public LocalTime getOperatingStartTime() { return operatingStartTime; }
     public void setOperatingStartTime(LocalTime operatingStartTime) { this.operatingStartTime = operatingStartTime; }
 
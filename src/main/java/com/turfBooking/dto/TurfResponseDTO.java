@@ -17,6 +17,8 @@ public class TurfResponseDTO {
     private SportType type;
     private BigDecimal pricePerSlot;
     private String description;
+    private Double latitude;
+    private Double longitude;
     private LocalTime operatingStartTime;
     private LocalTime operatingEndTime;
     private Long ownerId;
@@ -24,6 +26,7 @@ public class TurfResponseDTO {
     private String ownerPhone;
     private int totalBookings;
     private int totalBlockedSlots;
+    private Long version;
 
     // Constructors
     public TurfResponseDTO() {}
@@ -46,6 +49,19 @@ public class TurfResponseDTO {
         this.ownerPhone = ownerPhone;
     }
 
+    // Used by the constructor-expression queries in TurfRepository
+    public TurfResponseDTO(Long id, String name, String phone, String location, SportType type,
+                           BigDecimal pricePerSlot, String description,
+                           LocalTime operatingStartTime, LocalTime operatingEndTime,
+                           Long ownerId, String ownerName, String ownerPhone, Long version,
+                           Double latitude, Double longitude) {
+        this(id, name, phone, location, type, pricePerSlot, description, operatingStartTime, operatingEndTime,
+                ownerId, ownerName, ownerPhone);
+        this.version = version;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -68,6 +84,12 @@ public class TurfResponseDTO {
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
 
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
     public LocalTime getOperatingStartTime() { return operatingStartTime; }
     public void setOperatingStartTime(LocalTime operatingStartTime) { this.operatingStartTime = operatingStartTime; }
 
@@ -88,5 +110,8 @@ public class TurfResponseDTO {
 
     public int getTotalBlockedSlots() { return totalBlockedSlots; }
     public void setTotalBlockedSlots(int totalBlockedSlots) { this.totalBlockedSlots = totalBlockedSlots; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
 
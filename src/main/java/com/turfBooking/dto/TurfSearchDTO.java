@@ -6,6 +6,7 @@ import java.math.BigDecimal;
 
 public class TurfSearchDTO {
 
+    private String query;
     private String name;
     private String location;
     private SportType type;
@@ -24,6 +25,9 @@ public class TurfSearchDTO {
     }
 
     // Getters and Setters
+    public String getQuery() { return query; }
+    public void setQuery(String query) { this.query = query; }
+
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
 
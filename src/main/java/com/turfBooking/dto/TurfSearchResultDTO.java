@@ -0,0 +1,46 @@
+// TurfSearchResultDTO.java
+package com.turfBooking.dto;
+
+import com.turfBooking.enums.SportType;
+
+import java.util.List;
+import java.util.Map;
+
+public class TurfSearchResultDTO {
+
+    private List<TurfResponseDTO> turfs;
+    private long totalMatches;
+
+    // Each facet counts the turfs matching every filter except the facet's own
+    private Map<SportType, Long> sportTypeCounts;
+    private Map<String, Long> priceRangeCounts;
+    private Map<String, Long> locationCounts;
+
+    // Constructors
+    public TurfSearchResultDTO() {}
+
+    public TurfSearchResultDTO(List<TurfResponseDTO> turfs, Map<SportType, Long> sportTypeCounts,
+                               Map<String, Long> priceRangeCounts, Map<String, Long> locationCounts) {
+        this.turfs = turfs;
+        this.totalMatches = turfs.size();
+        this.sportTypeCounts = sportTypeCounts;
+        this.priceRangeCounts = priceRangeCounts;
+        this.locationCounts = locationCounts;
+    }
+
+    // Getters and Setters
+    public List<TurfResponseDTO> getTurfs() { return turfs; }
+    public void setTurfs(List<TurfResponseDTO> turfs) { this.turfs = turfs; }
+
+    public long getTotalMatches() { return totalMatches; }
+    public void setTotalMatches(long totalMatches) { this.totalMatches = totalMatches; }
+
+    public Map<SportType, Long> getSportTypeCounts() { return sportTypeCounts; }
+    public void setSportTypeCounts(Map<SportType, Long> sportTypeCounts) { this.sportTypeCounts = sportTypeCounts; }
+
+    public Map<String, Long> getPriceRangeCounts() { return priceRangeCounts; }
+    public void setPriceRangeCounts(Map<String, Long> priceRangeCounts) { this.priceRangeCounts = priceRangeCounts; }
+
+    public Map<String, Long> getLocationCounts() { return locationCounts; }
+    public void setLocationCounts(Map<String, Long> locationCounts) { this.locationCounts = locationCounts; }
+}
@@ -2,6 +2,7 @@
 package com.turfBooking.dto;
 
 import com.turfBooking.enums.SportType;
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
@@ -26,10 +27,21 @@ public class TurfUpdateDTO {
     @Size(max = 500, message = "Description cannot exceed 500 characters")
     private String description;
 
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
     private LocalTime operatingStartTime;
 
     private LocalTime operatingEndTime;
 
+    // Version the client last read; when set, the update is rejected if the turf changed since
+    private Long version;
+
     // Constructors
     public TurfUpdateDTO() {}
 
@@ -52,10 +64,19 @@ public class TurfUpdateDTO {
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
 
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
     public LocalTime getOperatingStartTime() { return operatingStartTime; }
     public void setOperatingStartTime(LocalTime operatingStartTime) { this.operatingStartTime = operatingStartTime; }
 
     public LocalTime getOperatingEndTime() { return operatingEndTime; }
     public void setOperatingEndTime(LocalTime operatingEndTime) { this.operatingEndTime = operatingEndTime; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
 
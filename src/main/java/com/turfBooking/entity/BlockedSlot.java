@@ -7,7 +7,10 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "blocked_slots")
+@Table(name = "blocked_slots", indexes = {
+        @Index(name = "idx_blocked_slots_turf_date_time", columnList = "turf_id, blocked_date, start_time, end_time"),
+        @Index(name = "idx_blocked_slots_date_time", columnList = "blocked_date, start_time, end_time, turf_id")
+})
 public class BlockedSlot {
 
     @Id
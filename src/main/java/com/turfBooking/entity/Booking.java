@@ -8,7 +8,11 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_date_time_id", columnList = "booking_date, slot_start_time, id"),
+        @Index(name = "idx_bookings_turf_date_status_time",
+                columnList = "turf_id, booking_date, status, slot_start_time, slot_end_time")
+})
 public class Booking {
 
     @Id
@@ -27,6 +31,14 @@ public class Booking {
     @Enumerated(EnumType.STRING)
     private BookingStatus status = BookingStatus.CONFIRMED;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Set when the booking is a materialized occurrence of a BookingSeries
+    @Column(name = "series_id")
+    private Long seriesId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -52,6 +64,12 @@ public class Booking {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public Long getSeriesId() { return seriesId; }
+    public void setSeriesId(Long seriesId) { this.seriesId = seriesId; }
+
     public LocalTime getSlotStartTime() { return slotStartTime; }
     public void setSlotStartTime(LocalTime slotStartTime) { this.slotStartTime = slotStartTime; }
 
@@ -0,0 +1,61 @@
+package com.turfBooking.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Bookings of one turf on one day, aggregated by the rollup refresh job
+@Entity
+@Table(name = "booking_daily_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_booking_daily_rollup_turf_date", columnNames = {"turf_id", "booking_date"})
+})
+public class BookingDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "turf_id", nullable = false)
+    private Turf turf;
+
+    @NotNull
+    private LocalDate bookingDate;
+
+    private long confirmedCount;
+
+    private long cancelledCount;
+
+    // Minutes of confirmed bookings
+    private long bookedMinutes;
+
+    // Confirmed bookings priced like calculateTotalPrice, at the turf's price when last refreshed
+    private BigDecimal revenue;
+
+    // Constructors
+    public BookingDailyRollup() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Turf getTurf() { return turf; }
+    public void setTurf(Turf turf) { this.turf = turf; }
+
+    public LocalDate getBookingDate() { return bookingDate; }
+    public void setBookingDate(LocalDate bookingDate) { this.bookingDate = bookingDate; }
+
+    public long getConfirmedCount() { return confirmedCount; }
+    public void setConfirmedCount(long confirmedCount) { this.confirmedCount = confirmedCount; }
+
+    public long getCancelledCount() { return cancelledCount; }
+    public void setCancelledCount(long cancelledCount) { this.cancelledCount = cancelledCount; }
+
+    public long getBookedMinutes() { return bookedMinutes; }
+    public void setBookedMinutes(long bookedMinutes) { this.bookedMinutes = bookedMinutes; }
+
+    public BigDecimal getRevenue() { return revenue; }
+    public void setRevenue(BigDecimal revenue) { this.revenue = revenue; }
+}
@@ -0,0 +1,34 @@
+package com.turfBooking.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+// A turf and day whose daily rollup is out of date, written in the same transaction as the
+// booking change; both fields null asks for a full rebuild
+@Entity
+@Table(name = "booking_rollup_changes")
+public class BookingRollupChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "turf_id")
+    private Long turfId;
+
+    private LocalDate bookingDate;
+
+    // Constructors
+    public BookingRollupChange() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public LocalDate getBookingDate() { return bookingDate; }
+    public void setBookingDate(LocalDate bookingDate) { this.bookingDate = bookingDate; }
+}
@@ -0,0 +1,146 @@
+package com.turfBooking.entity;
+
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.RecurrenceFrequency;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.stream.Stream;
+
+/**
+ * A recurring reservation stored as a rule. Occurrences up to materializedThrough exist
+ * as Booking rows (linked by seriesId); later occurrences are derived from the rule:
+ * every intervalDays days counted from anchorEpochDay, within [startDate, endDate].
+ */
+@Entity
+@Table(name = "booking_series")
+public class BookingSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    private LocalTime slotStartTime;
+
+    @NotNull
+    private LocalTime slotEndTime;
+
+    @NotNull
+    private LocalDate startDate;
+
+    @NotNull
+    private LocalDate endDate;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private RecurrenceFrequency frequency;
+
+    // Denormalized from frequency and startDate so occurrence checks can run in SQL
+    @Column(nullable = false)
+    private int intervalDays;
+
+    @Column(nullable = false)
+    private long anchorEpochDay;
+
+    // Last date whose occurrence has been written to the bookings table
+    @NotNull
+    private LocalDate materializedThrough;
+
+    @Enumerated(EnumType.STRING)
+    private BookingStatus status = BookingStatus.CONFIRMED;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "turf_id", nullable = false)
+    private Turf turf;
+
+    // Constructors
+    public BookingSeries() {}
+
+    public BookingSeries(LocalTime slotStartTime, LocalTime slotEndTime, LocalDate startDate, LocalDate endDate,
+                         RecurrenceFrequency frequency, User user, Turf turf) {
+        this.slotStartTime = slotStartTime;
+        this.slotEndTime = slotEndTime;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.frequency = frequency;
+        this.intervalDays = frequency.getIntervalDays();
+        this.anchorEpochDay = startDate.toEpochDay();
+        this.materializedThrough = startDate.minusDays(1);
+        this.user = user;
+        this.turf = turf;
+    }
+
+    // Whether the rule has an occurrence on this date
+    public boolean occursOn(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate)
+                && Math.floorMod(date.toEpochDay() - anchorEpochDay, intervalDays) == 0;
+    }
+
+    // Occurrence dates within [from, to], bounded by the series dates
+    public Stream<LocalDate> occurrencesBetween(LocalDate from, LocalDate to) {
+        LocalDate first = from.isAfter(startDate) ? from : startDate;
+        LocalDate last = to.isBefore(endDate) ? to : endDate;
+        if (first.isAfter(last)) {
+            return Stream.empty();
+        }
+        long offset = Math.floorMod(anchorEpochDay - first.toEpochDay(), intervalDays);
+        return Stream.iterate(first.plusDays(offset), date -> !date.isAfter(last), date -> date.plusDays(intervalDays));
+    }
+
+    // Occurrences within [from, to] that are not yet backed by a Booking row
+    public Stream<LocalDate> pendingOccurrencesBetween(LocalDate from, LocalDate to) {
+        LocalDate firstPending = materializedThrough.plusDays(1);
+        return occurrencesBetween(from.isAfter(firstPending) ? from : firstPending, to);
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalTime getSlotStartTime() { return slotStartTime; }
+    public void setSlotStartTime(LocalTime slotStartTime) { this.slotStartTime = slotStartTime; }
+
+    public LocalTime getSlotEndTime() { return slotEndTime; }
+    public void setSlotEndTime(LocalTime slotEndTime) { this.slotEndTime = slotEndTime; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public RecurrenceFrequency getFrequency() { return frequency; }
+    public void setFrequency(RecurrenceFrequency frequency) { this.frequency = frequency; }
+
+    public int getIntervalDays() { return intervalDays; }
+    public void setIntervalDays(int intervalDays) { this.intervalDays = intervalDays; }
+
+    public long getAnchorEpochDay() { return anchorEpochDay; }
+    public void setAnchorEpochDay(long anchorEpochDay) { this.anchorEpochDay = anchorEpochDay; }
+
+    public LocalDate getMaterializedThrough() { return materializedThrough; }
+    public void setMaterializedThrough(LocalDate materializedThrough) { this.materializedThrough = materializedThrough; }
+
+    public BookingStatus getStatus() { return status; }
+    public void setStatus(BookingStatus status) { this.status = status; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public User getUser() { return user; }
+    public void setUser(User user) { this.user = user; }
+
+    public Turf getTurf() { return turf; }
+    public void setTurf(Turf turf) { this.turf = turf; }
+}
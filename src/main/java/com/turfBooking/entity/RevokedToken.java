@@ -0,0 +1,40 @@
+package com.turfBooking.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+// A token revoked before its expiry (by logout), identified by its jti claim; kept until
+// the token would have expired anyway
+@Entity
+@Table(name = "revoked_tokens")
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String jti;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    // Constructors
+    public RevokedToken() {}
+
+    public RevokedToken(String jti, Instant expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getJti() { return jti; }
+    public void setJti(String jti) { this.jti = jti; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+}
@@ -37,12 +37,25 @@ public class Turf {
 
     private String description;
 
+    // Venue coordinates in degrees; both set or both empty
+    @DecimalMin(value = "-90.0")
+    @DecimalMax(value = "90.0")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0")
+    @DecimalMax(value = "180.0")
+    private Double longitude;
+
     @NotNull(message = "Operating start time is required")
     private LocalTime operatingStartTime;
 
     @NotNull(message = "Operating end time is required")
     private LocalTime operatingEndTime;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Owner relationship
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
@@ -52,10 +65,18 @@ public class Turf {
     @OneToMany(mappedBy = "turf", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Booking> bookings;
 
+    // Recurring booking series
+    @OneToMany(mappedBy = "turf", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private List<BookingSeries> bookingSeries;
+
     // Blocked Slots
     @OneToMany(mappedBy = "turf", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<BlockedSlot> blockedSlots;
 
+    // Daily booking rollups
+    @OneToMany(mappedBy = "turf", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private List<BookingDailyRollup> dailyRollups;
+
     // Constructors
     public Turf(String name, String phone, String location, SportType type,
                 BigDecimal pricePerSlot, String description,
@@ -80,6 +101,9 @@ public class Turf {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
 
@@ -98,6 +122,12 @@ public class Turf {
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
 
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
     public LocalTime getOperatingStartTime() { return operatingStartTime; }
     public void setOperatingStartTime(LocalTime operatingStartTime) { this.operatingStartTime = operatingStartTime; }
 
@@ -110,6 +140,12 @@ public class Turf {
     public List<Booking> getBookings() { return bookings; }
     public void setBookings(List<Booking> bookings) { this.bookings = bookings; }
 
+    public List<BookingSeries> getBookingSeries() { return bookingSeries; }
+    public void setBookingSeries(List<BookingSeries> bookingSeries) { this.bookingSeries = bookingSeries; }
+
     public List<BlockedSlot> getBlockedSlots() { return blockedSlots; }
     public void setBlockedSlots(List<BlockedSlot> blockedSlots) { this.blockedSlots = blockedSlots; }
+
+    public List<BookingDailyRollup> getDailyRollups() { return dailyRollups; }
+    public void setDailyRollups(List<BookingDailyRollup> dailyRollups) { this.dailyRollups = dailyRollups; }
 }
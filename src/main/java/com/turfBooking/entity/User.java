@@ -6,10 +6,13 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.time.Instant;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_credentials_changed_at", columnList = "credentials_changed_at")
+})
 public class User {
 
     @Id
@@ -43,15 +46,27 @@ public class User {
 
 
 
+    // Last phone or password change; tokens issued before it are no longer accepted
+    @Column(name = "credentials_changed_at")
+    private Instant credentialsChangedAt;
+
+
+
 
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Booking> bookings;
 
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private List<BookingSeries> bookingSeries;
+
 
 
     @OneToMany(mappedBy = "owner", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Turf> turfs;
 
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private List<RefreshToken> refreshTokens;
+
 
 
     // Constructors
@@ -81,15 +96,24 @@ public class User {
     public UserRole getRole() { return role; }
     public void setRole(UserRole role) { this.role = role; }
 
+    public Instant getCredentialsChangedAt() { return credentialsChangedAt; }
+    public void setCredentialsChangedAt(Instant credentialsChangedAt) { this.credentialsChangedAt = credentialsChangedAt; }
+
 //    public boolean isVerified() { return isVerified; }
 //    public void setVerified(boolean verified) { isVerified = verified; }
 
     public List<Booking> getBookings() { return bookings; }
     public void setBookings(List<Booking> bookings) { this.bookings = bookings; }
 
+    public List<BookingSeries> getBookingSeries() { return bookingSeries; }
+    public void setBookingSeries(List<BookingSeries> bookingSeries) { this.bookingSeries = bookingSeries; }
+
     public List<Turf> getTurfs() { return turfs; }
     public void setTurfs(List<Turf> turfs) { this.turfs = turfs; }
 
+    public List<RefreshToken> getRefreshTokens() { return refreshTokens; }
+    public void setRefreshTokens(List<RefreshToken> refreshTokens) { this.refreshTokens = refreshTokens; }
+
 
 
 }
@@ -0,0 +1,43 @@
+package com.turfBooking.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+// Removal of a user, recorded so every instance stops accepting the user's tokens; kept
+// until any token issued before it would have expired anyway
+@Entity
+@Table(name = "user_revocations", indexes = {
+        @Index(name = "idx_user_revocations_revoked_at", columnList = "revoked_at")
+})
+public class UserRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // No foreign key: the user row is gone
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    // Constructors
+    public UserRevocation() {}
+
+    public UserRevocation(Long userId, Instant revokedAt) {
+        this.userId = userId;
+        this.revokedAt = revokedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Instant getRevokedAt() { return revokedAt; }
+    public void setRevokedAt(Instant revokedAt) { this.revokedAt = revokedAt; }
+}
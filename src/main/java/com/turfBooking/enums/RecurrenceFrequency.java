@@ -0,0 +1,14 @@
+package com.turfBooking.enums;
+
+public enum RecurrenceFrequency {
+    WEEKLY(7),
+    BIWEEKLY(14);
+
+    private final int intervalDays;
+
+    RecurrenceFrequency(int intervalDays) {
+        this.intervalDays = intervalDays;
+    }
+
+    public int getIntervalDays() { return intervalDays; }
+}
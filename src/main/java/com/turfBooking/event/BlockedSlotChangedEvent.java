@@ -0,0 +1,34 @@
+package com.turfBooking.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Published whenever a blocked slot is created or deleted.
+ */
+public class BlockedSlotChangedEvent {
+
+    private final Long blockedSlotId;
+    private final Long turfId;
+    private final LocalDate blockedDate;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final boolean removed;
+
+    public BlockedSlotChangedEvent(Long blockedSlotId, Long turfId, LocalDate blockedDate,
+                                   LocalTime startTime, LocalTime endTime, boolean removed) {
+        this.blockedSlotId = blockedSlotId;
+        this.turfId = turfId;
+        this.blockedDate = blockedDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.removed = removed;
+    }
+
+    public Long getBlockedSlotId() { return blockedSlotId; }
+    public Long getTurfId() { return turfId; }
+    public LocalDate getBlockedDate() { return blockedDate; }
+    public LocalTime getStartTime() { return startTime; }
+    public LocalTime getEndTime() { return endTime; }
+    public boolean isRemoved() { return removed; }
+}
@@ -0,0 +1,19 @@
+package com.turfBooking.event;
+
+/**
+ * Published whenever a booking is created, modified or deleted.
+ * {@code previous} is null for new bookings and {@code current} is null for deleted ones.
+ */
+public class BookingChangedEvent {
+
+    private final BookingSnapshot previous;
+    private final BookingSnapshot current;
+
+    public BookingChangedEvent(BookingSnapshot previous, BookingSnapshot current) {
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public BookingSnapshot getPrevious() { return previous; }
+    public BookingSnapshot getCurrent() { return current; }
+}
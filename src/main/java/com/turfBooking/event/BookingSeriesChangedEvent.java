@@ -0,0 +1,18 @@
+package com.turfBooking.event;
+
+/**
+ * Published whenever a recurring booking series is created or cancelled.
+ */
+public class BookingSeriesChangedEvent {
+
+    private final Long seriesId;
+    private final Long turfId;
+
+    public BookingSeriesChangedEvent(Long seriesId, Long turfId) {
+        this.seriesId = seriesId;
+        this.turfId = turfId;
+    }
+
+    public Long getSeriesId() { return seriesId; }
+    public Long getTurfId() { return turfId; }
+}
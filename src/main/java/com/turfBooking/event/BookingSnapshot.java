@@ -0,0 +1,70 @@
+package com.turfBooking.event;
+
+import com.turfBooking.entity.Booking;
+import com.turfBooking.enums.BookingStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Immutable copy of the booking fields listeners care about, taken inside the
+ * transaction so it can be used safely after commit.
+ */
+public class BookingSnapshot {
+
+    private final Long id;
+    private final Long turfId;
+    private final Long userId;
+    private final LocalDate bookingDate;
+    private final LocalTime slotStartTime;
+    private final LocalTime slotEndTime;
+    private final BookingStatus status;
+    private final Long seriesId;
+
+    public BookingSnapshot(Long id, Long turfId, Long userId, LocalDate bookingDate,
+                           LocalTime slotStartTime, LocalTime slotEndTime, BookingStatus status, Long seriesId) {
+        this.id = id;
+        this.turfId = turfId;
+        this.userId = userId;
+        this.bookingDate = bookingDate;
+        this.slotStartTime = slotStartTime;
+        this.slotEndTime = slotEndTime;
+        this.status = status;
+        this.seriesId = seriesId;
+    }
+
+    public static BookingSnapshot of(Booking booking) {
+        return new BookingSnapshot(
+                booking.getId(),
+                booking.getTurf().getId(),
+                booking.getUser().getId(),
+                booking.getBookingDate(),
+                booking.getSlotStartTime(),
+                booking.getSlotEndTime(),
+                booking.getStatus(),
+                booking.getSeriesId()
+        );
+    }
+
+    public boolean isConfirmed() {
+        return status == BookingStatus.CONFIRMED;
+    }
+
+    // True when both snapshots occupy exactly the same turf, date and time range
+    public boolean occupiesSameSlot(BookingSnapshot other) {
+        return other != null &&
+                turfId.equals(other.turfId) &&
+                bookingDate.equals(other.bookingDate) &&
+                slotStartTime.equals(other.slotStartTime) &&
+                slotEndTime.equals(other.slotEndTime);
+    }
+
+    public Long getId() { return id; }
+    public Long getTurfId() { return turfId; }
+    public Long getUserId() { return userId; }
+    public LocalDate getBookingDate() { return bookingDate; }
+    public LocalTime getSlotStartTime() { return slotStartTime; }
+    public LocalTime getSlotEndTime() { return slotEndTime; }
+    public BookingStatus getStatus() { return status; }
+    public Long getSeriesId() { return seriesId; }
+}
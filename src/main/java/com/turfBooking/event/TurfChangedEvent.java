@@ -0,0 +1,18 @@
+package com.turfBooking.event;
+
+/**
+ * Published whenever a turf is created, updated or deleted.
+ */
+public class TurfChangedEvent {
+
+    private final Long turfId;
+    private final boolean removed;
+
+    public TurfChangedEvent(Long turfId, boolean removed) {
+        this.turfId = turfId;
+        this.removed = removed;
+    }
+
+    public Long getTurfId() { return turfId; }
+    public boolean isRemoved() { return removed; }
+}
@@ -0,0 +1,50 @@
+package com.turfBooking.event;
+
+import com.turfBooking.enums.UserRole;
+
+import java.util.List;
+
+/**
+ * Published whenever a user is created, updated or deleted.
+ * {@code role} is known for new and updated users; {@code credentialsChanged} is set
+ * when an update changed the phone or password. {@code phones} lists every phone
+ * the change touched (the old and new one when the phone itself changed).
+ */
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final UserRole role;
+    private final boolean created;
+    private final boolean credentialsChanged;
+    private final boolean removed;
+    private final List<String> phones;
+
+    public UserChangedEvent(Long userId, boolean removed, List<String> phones) {
+        this(userId, null, false, false, removed, phones);
+    }
+
+    private UserChangedEvent(Long userId, UserRole role, boolean created, boolean credentialsChanged,
+                             boolean removed, List<String> phones) {
+        this.userId = userId;
+        this.role = role;
+        this.created = created;
+        this.credentialsChanged = credentialsChanged;
+        this.removed = removed;
+        this.phones = List.copyOf(phones);
+    }
+
+    public static UserChangedEvent created(Long userId, UserRole role, String phone) {
+        return new UserChangedEvent(userId, role, true, false, false, List.of(phone));
+    }
+
+    public static UserChangedEvent updated(Long userId, UserRole role, boolean credentialsChanged, List<String> phones) {
+        return new UserChangedEvent(userId, role, false, credentialsChanged, false, phones);
+    }
+
+    public Long getUserId() { return userId; }
+    public UserRole getRole() { return role; }
+    public boolean isCreated() { return created; }
+    public boolean isCredentialsChanged() { return credentialsChanged; }
+    public boolean isRemoved() { return removed; }
+    public List<String> getPhones() { return phones; }
+}
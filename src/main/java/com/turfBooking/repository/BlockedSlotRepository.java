@@ -1,18 +1,35 @@
 package com.turfBooking.repository;
 
+import com.turfBooking.dto.BlockedSlotResponseDTO;
 import com.turfBooking.entity.BlockedSlot;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.List;
 
 @Repository
 public interface BlockedSlotRepository extends JpaRepository<BlockedSlot, Long> {
 
+    // Builds BlockedSlotResponseDTO rows in one select joined to the turf
+    String RESPONSE_SELECT = "SELECT new com.turfBooking.dto.BlockedSlotResponseDTO(" +
+            "bs.id, bs.blockedDate, bs.startTime, bs.endTime, t.id, t.name, t.location) " +
+            "FROM BlockedSlot bs JOIN bs.turf t ";
+
+    // Keyset pagination over id: rows after the given id
+    @Query(RESPONSE_SELECT + "WHERE bs.id > :afterId ORDER BY bs.id")
+    List<BlockedSlotResponseDTO> findResponsePageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // All blocked slot responses in id order, for StreamingQueries
+    String STREAM_ALL_RESPONSES = RESPONSE_SELECT + "ORDER BY bs.id";
+
+    // Find all blocked slot responses
+    @Query(RESPONSE_SELECT + "ORDER BY bs.id")
+    List<BlockedSlotResponseDTO> findAllResponses();
+
     // Find blocked slots by turf ID
     List<BlockedSlot> findByTurfId(Long turfId);
 
@@ -25,14 +42,6 @@ public interface BlockedSlotRepository extends JpaRepository<BlockedSlot, Long>
     // Find blocked slots by date range
     List<BlockedSlot> findByBlockedDateBetween(LocalDate startDate, LocalDate endDate);
 
-    // Check if slot is blocked - find conflicting blocked slots
-    @Query("SELECT bs FROM BlockedSlot bs WHERE bs.turf.id = :turfId AND bs.blockedDate = :date " +
-            "AND ((bs.startTime < :endTime AND bs.endTime > :startTime))")
-    List<BlockedSlot> findConflictingBlockedSlots(@Param("turfId") Long turfId,
-                                                  @Param("date") LocalDate date,
-                                                  @Param("startTime") LocalTime startTime,
-                                                  @Param("endTime") LocalTime endTime);
-
     // Find blocked slots for turf owner (all their turfs)
     @Query("SELECT bs FROM BlockedSlot bs WHERE bs.turf.owner.id = :ownerId")
     List<BlockedSlot> findBlockedSlotsByTurfOwnerId(@Param("ownerId") Long ownerId);
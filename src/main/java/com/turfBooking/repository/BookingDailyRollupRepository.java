@@ -0,0 +1,17 @@
+package com.turfBooking.repository;
+
+import com.turfBooking.entity.BookingDailyRollup;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BookingDailyRollupRepository extends JpaRepository<BookingDailyRollup, Long> {
+
+    // Find rollup ids (used with a limit of one to check whether any rollup exists)
+    @Query("SELECT r.id FROM BookingDailyRollup r")
+    List<Long> findIds(Limit limit);
+}
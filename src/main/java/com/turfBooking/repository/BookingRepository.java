@@ -1,21 +1,96 @@
 package com.turfBooking.repository;
 
+import com.turfBooking.dto.BookingResponseDTO;
 import com.turfBooking.entity.Booking;
 import com.turfBooking.entity.Turf;
 import com.turfBooking.entity.User;
 import com.turfBooking.enums.BookingStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    // Builds BookingResponseDTO rows straight from one joined select instead of lazy-loading user, turf and owner per row
+    String RESPONSE_SELECT = "SELECT new com.turfBooking.dto.BookingResponseDTO(" +
+            "b.id, b.slotStartTime, b.slotEndTime, b.bookingDate, b.status, b.version, " +
+            "u.id, u.name, u.phone, t.id, t.name, t.location, t.type, t.pricePerSlot, o.name, o.phone) " +
+            "FROM Booking b JOIN b.user u JOIN b.turf t JOIN t.owner o ";
+
+    // Length of a booking's slot in minutes, and the whole hours it is billed for (see calculateTotalPrice)
+    String SLOT_MINUTES = "(HOUR(b.slotEndTime) * 60 + MINUTE(b.slotEndTime) - HOUR(b.slotStartTime) * 60 - MINUTE(b.slotStartTime))";
+    String BILLED_HOURS = "CEILING(" + SLOT_MINUTES + " / 60.0)";
+
+    // Aggregates bookings into daily rollup rows
+    // (turfId, date, confirmedCount, cancelledCount, confirmedMinutes, confirmedRevenue)
+    String ROLLUP_SELECT = "SELECT b.turf.id, b.bookingDate, " +
+            "SUM(CASE WHEN b.status = 'CONFIRMED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN b.status = 'CANCELLED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN b.status = 'CONFIRMED' THEN " + SLOT_MINUTES + " ELSE 0 END), " +
+            "SUM(CASE WHEN b.status = 'CONFIRMED' THEN b.turf.pricePerSlot * " + BILLED_HOURS + " ELSE 0 END) " +
+            "FROM Booking b ";
+
+    // Find booking and lock its row until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.id = :id")
+    Optional<Booking> findByIdForUpdate(@Param("id") Long id);
+
+    // Find booking response by ID
+    @Query(RESPONSE_SELECT + "WHERE b.id = :id")
+    Optional<BookingResponseDTO> findResponseById(@Param("id") Long id);
+
+    // Find all booking responses
+    @Query(RESPONSE_SELECT + "ORDER BY b.id")
+    List<BookingResponseDTO> findAllResponses();
+
+    // Find booking responses by user ID
+    @Query(RESPONSE_SELECT + "WHERE u.id = :userId ORDER BY b.id")
+    List<BookingResponseDTO> findResponsesByUserId(@Param("userId") Long userId);
+
+    // Find booking responses by turf ID
+    @Query(RESPONSE_SELECT + "WHERE t.id = :turfId ORDER BY b.id")
+    List<BookingResponseDTO> findResponsesByTurfId(@Param("turfId") Long turfId);
+
+    // Find booking responses by status
+    @Query(RESPONSE_SELECT + "WHERE b.status = :status ORDER BY b.id")
+    List<BookingResponseDTO> findResponsesByStatus(@Param("status") BookingStatus status);
+
+    // Find booking responses by booking date
+    @Query(RESPONSE_SELECT + "WHERE b.bookingDate = :date ORDER BY b.id")
+    List<BookingResponseDTO> findResponsesByBookingDate(@Param("date") LocalDate date);
+
+    // Find booking responses by date range
+    @Query(RESPONSE_SELECT + "WHERE b.bookingDate BETWEEN :startDate AND :endDate ORDER BY b.id")
+    List<BookingResponseDTO> findResponsesByBookingDateBetween(@Param("startDate") LocalDate startDate,
+                                                               @Param("endDate") LocalDate endDate);
+
+    // Keyset pagination over (bookingDate, slotStartTime, id): first page
+    @Query(RESPONSE_SELECT + "ORDER BY b.bookingDate, b.slotStartTime, b.id")
+    List<BookingResponseDTO> findResponsePage(Limit limit);
+
+    // Keyset pagination over (bookingDate, slotStartTime, id): rows strictly after the given key
+    @Query(RESPONSE_SELECT + "WHERE b.bookingDate > :date " +
+            "OR (b.bookingDate = :date AND (b.slotStartTime > :time OR (b.slotStartTime = :time AND b.id > :id))) " +
+            "ORDER BY b.bookingDate, b.slotStartTime, b.id")
+    List<BookingResponseDTO> findResponsePageAfter(@Param("date") LocalDate date,
+                                                   @Param("time") LocalTime time,
+                                                   @Param("id") Long id,
+                                                   Limit limit);
+
+    // All booking responses in key order, for StreamingQueries
+    String STREAM_ALL_RESPONSES = RESPONSE_SELECT + "ORDER BY b.bookingDate, b.slotStartTime, b.id";
+
     // Find bookings by user
     List<Booking> findByUser(User user);
 
@@ -49,39 +124,129 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     // Find bookings by turf and date
     List<Booking> findByTurfAndBookingDate(Turf turf, LocalDate bookingDate);
 
-    // Check for conflicting bookings (time overlap)
-    @Query("SELECT b FROM Booking b WHERE b.turf.id = :turfId AND b.bookingDate = :date AND b.status = 'CONFIRMED' AND " +
-            "((:startTime < b.slotEndTime AND :endTime > b.slotStartTime))")
-    List<Booking> findConflictingBookings(@Param("turfId") Long turfId,
-                                          @Param("date") LocalDate date,
-                                          @Param("startTime") LocalTime startTime,
-                                          @Param("endTime") LocalTime endTime);
+    // Check whether anything occupies the slot - a confirmed booking other than excludeBookingId, a blocked slot
+    // or an unmaterialized series occurrence - in one round trip. Each EXISTS stops at its first index hit.
+    @Query("SELECT CASE WHEN EXISTS (SELECT 1 FROM Booking b WHERE b.turf.id = :turfId AND b.bookingDate = :date " +
+            "AND b.status = 'CONFIRMED' AND b.slotStartTime < :endTime AND b.slotEndTime > :startTime " +
+            "AND (:excludeBookingId IS NULL OR b.id <> :excludeBookingId)) " +
+            "OR EXISTS (SELECT 1 FROM BlockedSlot bs WHERE bs.turf.id = :turfId AND bs.blockedDate = :date " +
+            "AND bs.startTime < :endTime AND bs.endTime > :startTime) " +
+            "OR EXISTS (SELECT 1 FROM BookingSeries s WHERE s.turf.id = :turfId AND s.status = 'CONFIRMED' " +
+            "AND :date BETWEEN s.startDate AND s.endDate AND s.materializedThrough < :date " +
+            "AND MOD(:epochDay - s.anchorEpochDay, s.intervalDays) = 0 " +
+            "AND s.slotStartTime < :endTime AND s.slotEndTime > :startTime) " +
+            "THEN true ELSE false END")
+    boolean existsSlotConflict(@Param("turfId") Long turfId,
+                               @Param("date") LocalDate date,
+                               @Param("epochDay") long epochDay,
+                               @Param("startTime") LocalTime startTime,
+                               @Param("endTime") LocalTime endTime,
+                               @Param("excludeBookingId") Long excludeBookingId);
+
+    default boolean existsSlotConflict(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime,
+                                       Long excludeBookingId) {
+        return existsSlotConflict(turfId, date, date.toEpochDay(), startTime, endTime, excludeBookingId);
+    }
+
+    // Find busy time ranges (confirmed bookings, blocked slots and unmaterialized series occurrences)
+    // for a turf on a date in one round trip
+    @Query("SELECT b.slotStartTime, b.slotEndTime FROM Booking b WHERE b.turf.id = :turfId " +
+            "AND b.bookingDate = :date AND b.status = 'CONFIRMED' " +
+            "UNION ALL " +
+            "SELECT bs.startTime, bs.endTime FROM BlockedSlot bs WHERE bs.turf.id = :turfId AND bs.blockedDate = :date " +
+            "UNION ALL " +
+            "SELECT s.slotStartTime, s.slotEndTime FROM BookingSeries s WHERE s.turf.id = :turfId AND s.status = 'CONFIRMED' " +
+            "AND :date BETWEEN s.startDate AND s.endDate AND s.materializedThrough < :date " +
+            "AND MOD(:epochDay - s.anchorEpochDay, s.intervalDays) = 0")
+    List<Object[]> findBusyTimesOnDate(@Param("turfId") Long turfId, @Param("date") LocalDate date,
+                                       @Param("epochDay") long epochDay);
+
+    default List<Object[]> findBusyTimesOnDate(Long turfId, LocalDate date) {
+        return findBusyTimesOnDate(turfId, date, date.toEpochDay());
+    }
+
+    // Find busy time ranges for many turfs over a date range in one round trip (turfId, date, start, end)
+    @Query("SELECT b.turf.id, b.bookingDate, b.slotStartTime, b.slotEndTime FROM Booking b " +
+            "WHERE b.turf.id IN :turfIds AND b.bookingDate BETWEEN :startDate AND :endDate AND b.status = 'CONFIRMED' " +
+            "UNION ALL " +
+            "SELECT bs.turf.id, bs.blockedDate, bs.startTime, bs.endTime FROM BlockedSlot bs " +
+            "WHERE bs.turf.id IN :turfIds AND bs.blockedDate BETWEEN :startDate AND :endDate")
+    List<Object[]> findBusyTimesForTurfsBetween(@Param("turfIds") Collection<Long> turfIds,
+                                                @Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
+
+    // Find busy time ranges of every turf on a date in one round trip (turfId, start, end)
+    @Query("SELECT b.turf.id, b.slotStartTime, b.slotEndTime FROM Booking b " +
+            "WHERE b.bookingDate = :date AND b.status = 'CONFIRMED' " +
+            "UNION ALL " +
+            "SELECT bs.turf.id, bs.startTime, bs.endTime FROM BlockedSlot bs WHERE bs.blockedDate = :date " +
+            "UNION ALL " +
+            "SELECT s.turf.id, s.slotStartTime, s.slotEndTime FROM BookingSeries s WHERE s.status = 'CONFIRMED' " +
+            "AND :date BETWEEN s.startDate AND s.endDate AND s.materializedThrough < :date " +
+            "AND MOD(:epochDay - s.anchorEpochDay, s.intervalDays) = 0")
+    List<Object[]> findBusyTimesOfAllTurfsOnDate(@Param("date") LocalDate date, @Param("epochDay") long epochDay);
+
+    default List<Object[]> findBusyTimesOfAllTurfsOnDate(LocalDate date) {
+        return findBusyTimesOfAllTurfsOnDate(date, date.toEpochDay());
+    }
+
+    // Find IDs of turfs where a confirmed booking, blocked slot or unmaterialized series occurrence
+    // overlaps the time window on a date (the complement is every turf free for the whole window)
+    @Query("SELECT b.turf.id FROM Booking b WHERE b.bookingDate = :date AND b.status = 'CONFIRMED' " +
+            "AND b.slotStartTime < :endTime AND b.slotEndTime > :startTime " +
+            "UNION " +
+            "SELECT bs.turf.id FROM BlockedSlot bs WHERE bs.blockedDate = :date " +
+            "AND bs.startTime < :endTime AND bs.endTime > :startTime " +
+            "UNION " +
+            "SELECT s.turf.id FROM BookingSeries s WHERE s.status = 'CONFIRMED' " +
+            "AND :date BETWEEN s.startDate AND s.endDate AND s.materializedThrough < :date " +
+            "AND MOD(:epochDay - s.anchorEpochDay, s.intervalDays) = 0 " +
+            "AND s.slotStartTime < :endTime AND s.slotEndTime > :startTime")
+    List<Long> findTurfIdsBusyDuring(@Param("date") LocalDate date,
+                                     @Param("epochDay") long epochDay,
+                                     @Param("startTime") LocalTime startTime,
+                                     @Param("endTime") LocalTime endTime);
+
+    default List<Long> findTurfIdsBusyDuring(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return findTurfIdsBusyDuring(date, date.toEpochDay(), startTime, endTime);
+    }
+
+    // Busy intervals of one turf over a date range, tagged with their source so they can be updated one by one:
+    // (source, id, date, start, end) where source 0 is a confirmed booking and 1 a blocked slot
+    @Query("SELECT 0, b.id, b.bookingDate, b.slotStartTime, b.slotEndTime FROM Booking b " +
+            "WHERE b.turf.id = :turfId AND b.bookingDate BETWEEN :startDate AND :endDate AND b.status = 'CONFIRMED' " +
+            "UNION ALL " +
+            "SELECT 1, bs.id, bs.blockedDate, bs.startTime, bs.endTime FROM BlockedSlot bs " +
+            "WHERE bs.turf.id = :turfId AND bs.blockedDate BETWEEN :startDate AND :endDate")
+    List<Object[]> findBusyIntervalsForTurfBetween(@Param("turfId") Long turfId,
+                                                   @Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate);
 
     // Find upcoming bookings for a user
-    @Query("SELECT b FROM Booking b WHERE b.user.id = :userId AND " +
+    @Query(RESPONSE_SELECT + "WHERE u.id = :userId AND " +
             "(b.bookingDate > :currentDate OR (b.bookingDate = :currentDate AND b.slotStartTime > :currentTime)) " +
             "AND b.status = 'CONFIRMED' ORDER BY b.bookingDate ASC, b.slotStartTime ASC")
-    List<Booking> findUpcomingBookingsForUser(@Param("userId") Long userId,
+    List<BookingResponseDTO> findUpcomingBookingsForUser(@Param("userId") Long userId,
                                               @Param("currentDate") LocalDate currentDate,
                                               @Param("currentTime") LocalTime currentTime);
 
     // Find upcoming bookings for a turf
-    @Query("SELECT b FROM Booking b WHERE b.turf.id = :turfId AND " +
+    @Query(RESPONSE_SELECT + "WHERE t.id = :turfId AND " +
             "(b.bookingDate > :currentDate OR (b.bookingDate = :currentDate AND b.slotStartTime > :currentTime)) " +
             "AND b.status = 'CONFIRMED' ORDER BY b.bookingDate ASC, b.slotStartTime ASC")
-    List<Booking> findUpcomingBookingsForTurf(@Param("turfId") Long turfId,
+    List<BookingResponseDTO> findUpcomingBookingsForTurf(@Param("turfId") Long turfId,
                                               @Param("currentDate") LocalDate currentDate,
                                               @Param("currentTime") LocalTime currentTime);
 
     // Find bookings for turf owner (all turfs owned by the user)
-    @Query("SELECT b FROM Booking b WHERE b.turf.owner.id = :ownerId ORDER BY b.bookingDate DESC, b.slotStartTime DESC")
-    List<Booking> findBookingsForTurfOwner(@Param("ownerId") Long ownerId);
+    @Query(RESPONSE_SELECT + "WHERE o.id = :ownerId ORDER BY b.bookingDate DESC, b.slotStartTime DESC")
+    List<BookingResponseDTO> findBookingsForTurfOwner(@Param("ownerId") Long ownerId);
 
     // Find upcoming bookings for turf owner
-    @Query("SELECT b FROM Booking b WHERE b.turf.owner.id = :ownerId AND " +
+    @Query(RESPONSE_SELECT + "WHERE o.id = :ownerId AND " +
             "(b.bookingDate > :currentDate OR (b.bookingDate = :currentDate AND b.slotStartTime > :currentTime)) " +
             "AND b.status = 'CONFIRMED' ORDER BY b.bookingDate ASC, b.slotStartTime ASC")
-    List<Booking> findUpcomingBookingsForTurfOwner(@Param("ownerId") Long ownerId,
+    List<BookingResponseDTO> findUpcomingBookingsForTurfOwner(@Param("ownerId") Long ownerId,
                                                    @Param("currentDate") LocalDate currentDate,
                                                    @Param("currentTime") LocalTime currentTime);
 
@@ -97,15 +262,64 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     // Count bookings by date range
     long countByBookingDateBetween(LocalDate startDate, LocalDate endDate);
 
+    // Count bookings by user id
+    long countByUserId(Long userId);
+
+    // Count bookings per turf and status in one pass (turfId, status, count)
+    @Query("SELECT b.turf.id, b.status, COUNT(b) FROM Booking b GROUP BY b.turf.id, b.status")
+    List<Object[]> countGroupedByTurfAndStatus();
+
+    // Aggregate an owner's bookings per turf and day over a date range in one pass
+    // (turfId, date, confirmedCount, cancelledCount, confirmedMinutes, confirmedBilledHours)
+    @Query("SELECT b.turf.id, b.bookingDate, " +
+            "SUM(CASE WHEN b.status = 'CONFIRMED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN b.status = 'CANCELLED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN b.status = 'CONFIRMED' THEN " + SLOT_MINUTES + " ELSE 0 END), " +
+            "SUM(CASE WHEN b.status = 'CONFIRMED' THEN " + BILLED_HOURS + " ELSE 0 END) " +
+            "FROM Booking b WHERE b.turf.owner.id = :ownerId AND b.bookingDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY b.turf.id, b.bookingDate")
+    List<Object[]> aggregateOwnerBookingsByTurfAndDate(@Param("ownerId") Long ownerId,
+                                                       @Param("startDate") LocalDate startDate,
+                                                       @Param("endDate") LocalDate endDate);
+
+    // Count an owner's confirmed bookings per slot shape over a date range (start, end, count)
+    @Query("SELECT b.slotStartTime, b.slotEndTime, COUNT(b) FROM Booking b " +
+            "WHERE b.turf.owner.id = :ownerId AND b.bookingDate BETWEEN :startDate AND :endDate AND b.status = 'CONFIRMED' " +
+            "GROUP BY b.slotStartTime, b.slotEndTime")
+    List<Object[]> countOwnerConfirmedBookingsBySlot(@Param("ownerId") Long ownerId,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
+
+    // Aggregate the bookings of the given turfs on the given dates into daily rollup rows
+    @Query(ROLLUP_SELECT + "WHERE b.turf.id IN :turfIds AND b.bookingDate IN :dates GROUP BY b.turf.id, b.bookingDate")
+    List<Object[]> aggregateDailyRollups(@Param("turfIds") Collection<Long> turfIds,
+                                         @Param("dates") Collection<LocalDate> dates);
+
+    // Aggregate every booking of the given turfs into daily rollup rows
+    @Query(ROLLUP_SELECT + "WHERE b.turf.id IN :turfIds GROUP BY b.turf.id, b.bookingDate")
+    List<Object[]> aggregateDailyRollupsForTurfs(@Param("turfIds") Collection<Long> turfIds);
+
+    // Find booking ids (used with a limit of one to check whether any booking exists)
+    @Query("SELECT b.id FROM Booking b")
+    List<Long> findIds(Limit limit);
+
+    // Find the dates of a series' materialized bookings
+    @Query("SELECT DISTINCT b.bookingDate FROM Booking b WHERE b.seriesId = :seriesId")
+    List<LocalDate> findBookingDatesBySeriesId(@Param("seriesId") Long seriesId);
+
+    // Count bookings per booking date in one pass (date, count)
+    @Query("SELECT b.bookingDate, COUNT(b) FROM Booking b GROUP BY b.bookingDate")
+    List<Object[]> countGroupedByBookingDate();
+
     // Find bookings by multiple criteria
-    @Query("SELECT b FROM Booking b WHERE " +
-            "(:userId IS NULL OR b.user.id = :userId) AND " +
-            "(:turfId IS NULL OR b.turf.id = :turfId) AND " +
+    @Query(RESPONSE_SELECT + "WHERE " +
+            "(:userId IS NULL OR u.id = :userId) AND " +
+            "(:turfId IS NULL OR t.id = :turfId) AND " +
             "(:status IS NULL OR b.status = :status) AND " +
             "(:startDate IS NULL OR b.bookingDate >= :startDate) AND " +
             "(:endDate IS NULL OR b.bookingDate <= :endDate) " +
             "ORDER BY b.bookingDate DESC, b.slotStartTime DESC")
-    List<Booking> searchBookings(@Param("userId") Long userId,
+    List<BookingResponseDTO> searchBookings(@Param("userId") Long userId,
                                  @Param("turfId") Long turfId,
                                  @Param("status") BookingStatus status,
                                  @Param("startDate") LocalDate startDate,
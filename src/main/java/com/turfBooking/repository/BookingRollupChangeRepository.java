@@ -0,0 +1,21 @@
+package com.turfBooking.repository;
+
+import com.turfBooking.entity.BookingRollupChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BookingRollupChangeRepository extends JpaRepository<BookingRollupChange, Long> {
+
+    // Find the oldest recorded changes
+    @Query("SELECT c FROM BookingRollupChange c ORDER BY c.id")
+    List<BookingRollupChange> findOldest(Limit limit);
+
+    // Find the ids of every recorded change
+    @Query("SELECT c.id FROM BookingRollupChange c")
+    List<Long> findAllIds();
+}
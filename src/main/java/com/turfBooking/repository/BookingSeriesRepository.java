@@ -0,0 +1,48 @@
+package com.turfBooking.repository;
+
+import com.turfBooking.entity.BookingSeries;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BookingSeriesRepository extends JpaRepository<BookingSeries, Long> {
+
+    // Find series and lock its row until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM BookingSeries s WHERE s.id = :id")
+    Optional<BookingSeries> findByIdForUpdate(@Param("id") Long id);
+
+    // Find series by user ID
+    List<BookingSeries> findByUserId(Long userId);
+
+    // Find series by turf ID
+    List<BookingSeries> findByTurfId(Long turfId);
+
+    // Find active series with occurrences not yet materialized inside [startDate, endDate]
+    @Query("SELECT s FROM BookingSeries s WHERE s.turf.id IN :turfIds AND s.status = 'CONFIRMED' " +
+            "AND s.startDate <= :endDate AND s.endDate >= :startDate AND s.materializedThrough < :endDate")
+    List<BookingSeries> findActiveForTurfsBetween(@Param("turfIds") Collection<Long> turfIds,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
+    // Find IDs of active series whose materialized window ends before the horizon
+    @Query("SELECT s.id FROM BookingSeries s WHERE s.status = 'CONFIRMED' " +
+            "AND s.materializedThrough < s.endDate AND s.materializedThrough < :horizon")
+    List<Long> findIdsDueForMaterialization(@Param("horizon") LocalDate horizon);
+
+    // Cancel materialized occurrences of a series from a date on
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = com.turfBooking.enums.BookingStatus.CANCELLED, b.version = b.version + 1 " +
+            "WHERE b.seriesId = :seriesId AND b.bookingDate >= :fromDate AND b.status = com.turfBooking.enums.BookingStatus.CONFIRMED")
+    int cancelMaterializedBookings(@Param("seriesId") Long seriesId, @Param("fromDate") LocalDate fromDate);
+}
@@ -0,0 +1,27 @@
+package com.turfBooking.repository;
+
+import com.turfBooking.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    // Check if a token id was already revoked
+    boolean existsByJti(String jti);
+
+    // Find the ids of tokens revoked and not yet expired
+    @Query("SELECT r.jti FROM RevokedToken r WHERE r.expiresAt > :now")
+    List<String> findUnexpiredJtis(@Param("now") Instant now);
+
+    // Delete revocations of tokens that have expired on their own
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
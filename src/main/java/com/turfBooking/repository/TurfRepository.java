@@ -1,26 +1,74 @@
 package com.turfBooking.repository;
 
+import com.turfBooking.dto.TurfResponseDTO;
 import com.turfBooking.entity.Turf;
 import com.turfBooking.entity.User;
 import com.turfBooking.enums.SportType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TurfRepository extends JpaRepository<Turf, Long> {
 
+    // Builds TurfResponseDTO rows in one select joined to the owner
+    String RESPONSE_SELECT = "SELECT new com.turfBooking.dto.TurfResponseDTO(" +
+            "t.id, t.name, t.phone, t.location, t.type, t.pricePerSlot, t.description, " +
+            "t.operatingStartTime, t.operatingEndTime, o.id, o.name, o.phone, t.version, t.latitude, t.longitude) " +
+            "FROM Turf t JOIN t.owner o ";
+
+    // Keyset pagination over id: rows after the given id
+    @Query(RESPONSE_SELECT + "WHERE t.id > :afterId ORDER BY t.id")
+    List<TurfResponseDTO> findResponsePageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Keyset pagination over turf ids: ids after the given id
+    @Query("SELECT t.id FROM Turf t WHERE t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // All turf responses in id order, for StreamingQueries
+    String STREAM_ALL_RESPONSES = RESPONSE_SELECT + "ORDER BY t.id";
+
+    // Find all turf responses
+    @Query(RESPONSE_SELECT + "ORDER BY t.id")
+    List<TurfResponseDTO> findAllResponses();
+
+    // Find one turf response
+    @Query(RESPONSE_SELECT + "WHERE t.id = :id")
+    Optional<TurfResponseDTO> findResponseById(@Param("id") Long id);
+
+    // Find the turf responses of one owner
+    @Query(RESPONSE_SELECT + "WHERE o.id = :ownerId ORDER BY t.id")
+    List<TurfResponseDTO> findResponsesByOwnerId(@Param("ownerId") Long ownerId);
+
+    // Find turf and lock its row until the transaction ends (serializes booking admission per turf)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Turf t WHERE t.id = :id")
+    Optional<Turf> findByIdForUpdate(@Param("id") Long id);
+
+    // Find turfs and lock their rows in primary key order until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Turf t WHERE t.id IN :ids ORDER BY t.id")
+    List<Turf> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
     // Find turfs by owner
     List<Turf> findByOwner(User owner);
 
     // Find turfs by owner ID
     List<Turf> findByOwnerId(Long ownerId);
 
+    // Find the ids of an owner's turfs
+    @Query("SELECT t.id FROM Turf t WHERE t.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(@Param("ownerId") Long ownerId);
+
     // Find turfs by sport type
     List<Turf> findByType(SportType type);
 
@@ -55,15 +103,19 @@ public interface TurfRepository extends JpaRepository<Turf, Long> {
     // Count turfs by owner
     long countByOwner(User owner);
 
-    // Find turfs with bookings count
-    @Query("SELECT t FROM Turf t LEFT JOIN t.bookings b GROUP BY t.id ORDER BY COUNT(b) DESC")
+    // Find the owner and sport type of every turf (turfId, ownerId, type)
+    @Query("SELECT t.id, t.owner.id, t.type FROM Turf t")
+    List<Object[]> findOwnerIdsAndTypes();
+
+    // Find the owner and sport type of a turf (turfId, ownerId, type)
+    @Query("SELECT t.id, t.owner.id, t.type FROM Turf t WHERE t.id = :id")
+    List<Object[]> findOwnerIdAndTypeById(@Param("id") Long id);
+
+    // Find turfs ordered by bookings count, read from the daily rollups
+    @Query("SELECT t FROM Turf t LEFT JOIN t.dailyRollups r GROUP BY t.id " +
+            "ORDER BY COALESCE(SUM(r.confirmedCount + r.cancelledCount), 0) DESC")
     List<Turf> findTurfsOrderedByBookingCount();
 
     // Check if turf name exists for owner (to prevent duplicate names per owner)
     boolean existsByNameAndOwner(String name, User owner);
-
-    // Find available turfs (not having bookings in a specific time slot - to be used with additional logic)
-    @Query("SELECT DISTINCT t FROM Turf t WHERE t.id NOT IN " +
-            "(SELECT b.turf.id FROM Booking b WHERE b.bookingDate = :date)")
-    List<Turf> findAvailableTurfsOnDate(@Param("date") java.time.LocalDate date);
 }
\ No newline at end of file
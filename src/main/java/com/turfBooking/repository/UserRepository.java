@@ -1,21 +1,41 @@
 package com.turfBooking.repository;
 
+import com.turfBooking.dto.UserResponseDTO;
 import com.turfBooking.entity.User;
 import com.turfBooking.enums.UserRole;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    String RESPONSE_SELECT = "SELECT new com.turfBooking.dto.UserResponseDTO(u.id, u.name, u.phone, u.role) FROM User u ";
+
+    // Keyset pagination over id: rows after the given id
+    @Query(RESPONSE_SELECT + "WHERE u.id > :afterId ORDER BY u.id")
+    List<UserResponseDTO> findResponsePageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // All user responses in id order, for StreamingQueries
+    String STREAM_ALL_RESPONSES = RESPONSE_SELECT + "ORDER BY u.id";
+
+    // Find all user responses
+    @Query(RESPONSE_SELECT + "ORDER BY u.id")
+    List<UserResponseDTO> findAllResponses();
+
     // Find user by phone (unique identifier)
     Optional<User> findByPhone(String phone);
 
+    // Phone of a user, without loading the entity
+    @Query("SELECT u.phone FROM User u WHERE u.id = :id")
+    Optional<String> findPhoneById(@Param("id") Long id);
+
     // Check if phone already exists
     boolean existsByPhone(String phone);
 
@@ -36,4 +56,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Count users by role
     long countByRole(UserRole role);
 
+    // Count users per role in one pass (role, count)
+    @Query("SELECT u.role, COUNT(u) FROM User u GROUP BY u.role")
+    List<Object[]> countGroupedByRole();
+
+    // Users whose phone or password changed after the given instant (id, credentialsChangedAt)
+    @Query("SELECT u.id, u.credentialsChangedAt FROM User u WHERE u.credentialsChangedAt > :since")
+    List<Object[]> findCredentialsChangedSince(@Param("since") Instant since);
+
 }
\ No newline at end of file
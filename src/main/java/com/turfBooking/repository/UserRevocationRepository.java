@@ -0,0 +1,24 @@
+package com.turfBooking.repository;
+
+import com.turfBooking.entity.UserRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface UserRevocationRepository extends JpaRepository<UserRevocation, Long> {
+
+    // Users removed after the given instant (userId, revokedAt)
+    @Query("SELECT r.userId, r.revokedAt FROM UserRevocation r WHERE r.revokedAt > :since")
+    List<Object[]> findRevokedSince(@Param("since") Instant since);
+
+    // Delete removals older than any token that could still be unexpired
+    @Modifying
+    @Query("DELETE FROM UserRevocation r WHERE r.revokedAt <= :before")
+    int deleteRevokedBefore(@Param("before") Instant before);
+}
@@ -1,6 +1,7 @@
 package com.turfBooking.security;
 
 import com.turfBooking.entity.User;
+import com.turfBooking.enums.UserRole;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,27 +11,43 @@ import java.util.Collections;
 
 public class CustomUserDetails implements UserDetails {
 
+    // Null when the principal was rebuilt from token claims
     private final User user;
 
+    private final Long userId;
+    private final String phone;
+    private final UserRole role;
+
     public CustomUserDetails(User user) {
         this.user = user;
+        this.userId = user.getId();
+        this.phone = user.getPhone();
+        this.role = user.getRole();
+    }
+
+    // Principal of an already verified token, built without loading the user
+    public CustomUserDetails(Long userId, String phone, UserRole role) {
+        this.user = null;
+        this.userId = userId;
+        this.phone = phone;
+        this.role = role;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
+                new SimpleGrantedAuthority("ROLE_" + role.name())
         );
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return user != null ? user.getPassword() : null;
     }
 
     @Override
     public String getUsername() {
-        return user.getPhone(); // Using phone as username
+        return phone; // Using phone as username
     }
 
     @Override
@@ -58,10 +75,10 @@ public class CustomUserDetails implements UserDetails {
     }
 
     public Long getUserId() {
-        return user.getId();
+        return userId;
     }
 
     public String getRole() {
-        return user.getRole().name();
+        return role.name();
     }
-}
\ No newline at end of file
+}
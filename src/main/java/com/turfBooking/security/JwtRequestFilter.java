@@ -1,13 +1,17 @@
 package com.turfBooking.security;
 
+import com.turfBooking.enums.UserRole;
 import com.turfBooking.service.implementation.CustomUserDetailsService;
+import com.turfBooking.service.interfaces.RevokedTokenService;
 import com.turfBooking.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -23,10 +27,19 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RevokedTokenService revokedTokenService;
+    private final boolean statelessPrincipal;
 
-    public JwtRequestFilter(JwtUtil jwtUtil, @Lazy CustomUserDetailsService userDetailsService) {
+    public JwtRequestFilter(JwtUtil jwtUtil, @Lazy CustomUserDetailsService userDetailsService,
+                            TokenRevocationRegistry tokenRevocationRegistry,
+                            RevokedTokenService revokedTokenService,
+                            @Value("${jwt.stateless-principal:true}") boolean statelessPrincipal) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.revokedTokenService = revokedTokenService;
+        this.statelessPrincipal = statelessPrincipal;
     }
 
     @Override
@@ -36,17 +49,21 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         final String requestTokenHeader = request.getHeader("Authorization");
 
         String username = null;
-        String jwtToken = null;
+        Claims claims = null;
 
         // JWT Token is in the form "Bearer token". Remove Bearer word and get only the Token
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
+            String jwtToken = requestTokenHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwtToken);
+                // Verified once here (or served from the verified-claims cache) and reused below
+                claims = jwtUtil.extractVerifiedClaims(jwtToken);
+                username = claims.getSubject();
             } catch (IllegalArgumentException e) {
                 logger.warn("Unable to get JWT Token: " + e.getMessage());
             } catch (ExpiredJwtException e) {
                 logger.warn("JWT Token has expired: " + e.getMessage());
+            } catch (JwtException e) {
+                logger.warn("Invalid JWT Token: " + e.getMessage());
             }
         } else {
             logger.debug("JWT Token does not begin with Bearer String");
@@ -55,10 +72,10 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         // Once we get the token validate it.
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = loadPrincipal(claims);
 
             // if token is valid configure Spring Security to manually set authentication
-            if (jwtUtil.validateToken(jwtToken, userDetails)) {
+            if (userDetails != null && jwtUtil.validateClaims(claims, userDetails)) {
 
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -72,4 +89,24 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         }
         chain.doFilter(request, response);
     }
+
+    // Principal for verified claims, or null when the token was logged out or revoked by a later
+    // phone or password change
+    private UserDetails loadPrincipal(Claims claims) {
+        if (claims.getId() != null && revokedTokenService.isRevoked(claims.getId())) {
+            logger.debug("JWT Token has been revoked");
+            return null;
+        }
+        Long userId = jwtUtil.extractUserId(claims);
+        String role = claims.get("role", String.class);
+        if (userId != null && tokenRevocationRegistry.isRevoked(userId, jwtUtil.extractIssuedAtMillis(claims))) {
+            logger.debug("JWT Token was issued before the last credentials change or removal of its user");
+            return null;
+        }
+        if (statelessPrincipal && userId != null && role != null) {
+            return new CustomUserDetails(userId, claims.getSubject(), UserRole.valueOf(role));
+        }
+        // Tokens issued before user ids were carried as claims still go to the database
+        return this.userDetailsService.loadUserByUsername(claims.getSubject());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.turfBooking.security;
+
+/**
+ * Thrown when a refresh token that was already used is presented again. The renewal still
+ * fails, but the revocation of the token's family made before it is committed.
+ */
+public class RefreshTokenReuseException extends RuntimeException {
+
+    public RefreshTokenReuseException(String message) {
+        super(message);
+    }
+}
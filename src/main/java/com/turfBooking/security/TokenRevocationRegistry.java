@@ -0,0 +1,92 @@
+package com.turfBooking.security;
+
+import com.turfBooking.event.UserChangedEvent;
+import com.turfBooking.repository.UserRepository;
+import com.turfBooking.repository.UserRevocationRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory "revoked before" instant per user, so a token can be trusted from its claims
+ * alone. A token is rejected when it was issued no later than the last phone or password
+ * change (or removal) of its user, compared to the millisecond. Entries are kept only as
+ * long as a token issued before them could still be unexpired.
+ *
+ * Changes made through this instance apply immediately; changes made elsewhere are picked
+ * up from {@code users.credentials_changed_at} and {@code user_revocations} at startup and
+ * on every refresh.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+
+    private final UserRepository userRepository;
+    private final UserRevocationRepository userRevocationRepository;
+    private final long tokenLifetimeMillis;
+
+    // userId -> epoch millisecond; tokens issued at or before it are revoked
+    private final Map<Long, Long> revokedThrough = new ConcurrentHashMap<>();
+
+    public TokenRevocationRegistry(UserRepository userRepository,
+                                   UserRevocationRepository userRevocationRepository,
+                                   @Value("${jwt.expiration:900000}") long tokenLifetimeMillis) {
+        this.userRepository = userRepository;
+        this.userRevocationRepository = userRevocationRepository;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+    }
+
+    @PostConstruct
+    void init() {
+        refresh();
+    }
+
+    // issuedAtMillis as returned by JwtUtil.extractIssuedAtMillis; a token without one is revoked
+    public boolean isRevoked(Long userId, Long issuedAtMillis) {
+        if (issuedAtMillis == null) {
+            return true;
+        }
+        Long through = revokedThrough.get(userId);
+        // A re-login cannot complete in the millisecond of the change, so that millisecond is revoked too
+        return through != null && issuedAtMillis <= through;
+    }
+
+    public void revoke(Long userId, Instant at) {
+        revokedThrough.merge(userId, at.toEpochMilli(), Math::max);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.isRemoved() || event.isCredentialsChanged()) {
+            revoke(event.getUserId(), Instant.now());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-ms:30000}",
+            initialDelayString = "${jwt.revocation.refresh-interval-ms:30000}")
+    public void refresh() {
+        Instant cutoff = Instant.now().minusMillis(tokenLifetimeMillis);
+        try {
+            for (Object[] row : userRepository.findCredentialsChangedSince(cutoff)) {
+                revoke((Long) row[0], (Instant) row[1]);
+            }
+            for (Object[] row : userRevocationRepository.findRevokedSince(cutoff)) {
+                revoke((Long) row[0], (Instant) row[1]);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh token revocations", e);
+        }
+        // Every token issued before the cutoff has expired on its own
+        long cutoffMillis = cutoff.toEpochMilli();
+        revokedThrough.values().removeIf(through -> through < cutoffMillis);
+    }
+}
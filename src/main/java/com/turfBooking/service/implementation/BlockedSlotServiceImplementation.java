@@ -3,18 +3,28 @@ package com.turfBooking.service.implementation;
 
 import com.turfBooking.dto.BlockedSlotRequestDTO;
 import com.turfBooking.dto.BlockedSlotResponseDTO;
+import com.turfBooking.dto.CursorPageDTO;
 import com.turfBooking.entity.BlockedSlot;
 import com.turfBooking.entity.Turf;
+import com.turfBooking.event.BlockedSlotChangedEvent;
 import com.turfBooking.repository.BlockedSlotRepository;
-import com.turfBooking.repository.TurfRepository;
 import com.turfBooking.service.interfaces.BlockedSlotService;
+import com.turfBooking.service.interfaces.SlotConflictService;
+import com.turfBooking.service.interfaces.SlotLockService;
+import com.turfBooking.util.PageTokens;
+import com.turfBooking.util.StreamingQueries;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -24,13 +34,24 @@ public class BlockedSlotServiceImplementation implements BlockedSlotService {
     private BlockedSlotRepository blockedSlotRepository;
 
     @Autowired
-    private TurfRepository turfRepository;
+    private SlotLockService slotLockService;
+
+    @Autowired
+    private SlotConflictService slotConflictService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private StreamingQueries streamingQueries;
+
+    @Value("${pagination.max-page-size:500}")
+    private int maxPageSize;
 
     @Override
     public BlockedSlotResponseDTO createBlockedSlot(BlockedSlotRequestDTO requestDTO) {
-        // Validate turf exists
-        Turf turf = turfRepository.findById(requestDTO.getTurfId())
-                .orElseThrow(() -> new RuntimeException("Turf not found with ID: " + requestDTO.getTurfId()));
+        // Lock the turf and date first so the checks below cannot interleave with a competing booking
+        Turf turf = slotLockService.lockTurfDates(requestDTO.getTurfId(), List.of(requestDTO.getBlockedDate()));
 
         // Validate start time is before end time
         if (!requestDTO.getStartTime().isBefore(requestDTO.getEndTime())) {
@@ -43,6 +64,12 @@ public class BlockedSlotServiceImplementation implements BlockedSlotService {
             throw new RuntimeException("Blocked slot must be within turf operating hours");
         }
 
+        // Check against the database that no booking, series occurrence or other blocked slot overlaps it
+        if (slotConflictService.hasConflict(turf.getId(), requestDTO.getBlockedDate(),
+                requestDTO.getStartTime(), requestDTO.getEndTime(), null)) {
+            throw new RuntimeException("Time slot is not available");
+        }
+
         // Create blocked slot
         BlockedSlot blockedSlot = new BlockedSlot();
         blockedSlot.setTurf(turf);
@@ -51,15 +78,32 @@ public class BlockedSlotServiceImplementation implements BlockedSlotService {
         blockedSlot.setEndTime(requestDTO.getEndTime());
 
         BlockedSlot savedBlockedSlot = blockedSlotRepository.save(blockedSlot);
+        eventPublisher.publishEvent(new BlockedSlotChangedEvent(savedBlockedSlot.getId(), turf.getId(), savedBlockedSlot.getBlockedDate(),
+                savedBlockedSlot.getStartTime(), savedBlockedSlot.getEndTime(), false));
         return convertToResponseDTO(savedBlockedSlot);
     }
 
     @Override
     public List<BlockedSlotResponseDTO> getAllBlockedSlots() {
-        return blockedSlotRepository.findAll()
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return blockedSlotRepository.findAllResponses();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BlockedSlotResponseDTO> getBlockedSlotsPage(String pageToken, int size) {
+        PageTokens.checkPageSize(size, maxPageSize);
+        Long afterId = pageToken == null || pageToken.isBlank() ? 0L : PageTokens.decodeId(pageToken);
+
+        List<BlockedSlotResponseDTO> rows = blockedSlotRepository.findResponsePageAfter(afterId, Limit.of(size + 1));
+        return PageTokens.toPage(rows, size, blockedSlot -> new Object[]{blockedSlot.getId()});
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllBlockedSlots(Consumer<? super BlockedSlotResponseDTO> consumer) {
+        try (Stream<BlockedSlotResponseDTO> blockedSlots = streamingQueries.stream(BlockedSlotRepository.STREAM_ALL_RESPONSES, BlockedSlotResponseDTO.class)) {
+            blockedSlots.forEach(consumer);
+        }
     }
 
     @Override
@@ -71,10 +115,12 @@ public class BlockedSlotServiceImplementation implements BlockedSlotService {
 
     @Override
     public void deleteBlockedSlot(Long id) {
-        if (!blockedSlotRepository.existsById(id)) {
-            throw new RuntimeException("Blocked slot not found with ID: " + id);
-        }
-        blockedSlotRepository.deleteById(id);
+        BlockedSlot blockedSlot = blockedSlotRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Blocked slot not found with ID: " + id));
+
+        blockedSlotRepository.delete(blockedSlot);
+        eventPublisher.publishEvent(new BlockedSlotChangedEvent(blockedSlot.getId(), blockedSlot.getTurf().getId(),
+                blockedSlot.getBlockedDate(), blockedSlot.getStartTime(), blockedSlot.getEndTime(), true));
     }
 
     @Override
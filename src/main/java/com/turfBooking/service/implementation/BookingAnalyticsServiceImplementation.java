@@ -0,0 +1,170 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.dto.DailyRevenueDTO;
+import com.turfBooking.dto.OwnerAnalyticsDTO;
+import com.turfBooking.dto.TurfAnalyticsDTO;
+import com.turfBooking.entity.Turf;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.repository.UserRepository;
+import com.turfBooking.service.interfaces.BookingAnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Owner analytics computed in the database: bookings are aggregated per turf and day, and
+ * per slot shape for the hour-of-day profile, so only grouped rows reach the application
+ * however many bookings the owner has. Both queries are range scans of the
+ * (turf, date, status, start, end) booking index.
+ */
+@Service
+@Transactional
+public class BookingAnalyticsServiceImplementation implements BookingAnalyticsService {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int PEAK_HOUR_COUNT = 3;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${analytics.max-range-days:366}")
+    private int maxRangeDays;
+
+    @Override
+    @Transactional(readOnly = true)
+    public OwnerAnalyticsDTO getOwnerAnalytics(Long ownerId, LocalDate startDate, LocalDate endDate) {
+        LocalDate end = endDate != null ? endDate : startDate != null ? startDate.plusDays(DEFAULT_RANGE_DAYS - 1) : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new RuntimeException("Start date must not be after end date");
+        }
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+        if (days > maxRangeDays) {
+            throw new RuntimeException("Date range cannot exceed " + maxRangeDays + " days");
+        }
+        if (!userRepository.existsById(ownerId)) {
+            throw new RuntimeException("Owner not found with id: " + ownerId);
+        }
+
+        Map<Long, Turf> turfs = new HashMap<>();
+        for (Turf turf : turfRepository.findByOwnerId(ownerId)) {
+            turfs.put(turf.getId(), turf);
+        }
+
+        // Turf id -> date -> totals of that turf on that day
+        Map<Long, TreeMap<LocalDate, DailyRevenueDTO>> dailyByTurf = new HashMap<>();
+        for (Object[] row : bookingRepository.aggregateOwnerBookingsByTurfAndDate(ownerId, start, end)) {
+            Turf turf = turfs.get((Long) row[0]);
+            if (turf == null) {
+                continue;
+            }
+            LocalDate date = (LocalDate) row[1];
+            long billedHours = ((Number) row[5]).longValue();
+            DailyRevenueDTO day = new DailyRevenueDTO(date, ((Number) row[2]).longValue(), ((Number) row[3]).longValue(),
+                    ((Number) row[4]).longValue(), turf.getPricePerSlot().multiply(BigDecimal.valueOf(billedHours)));
+            dailyByTurf.computeIfAbsent(turf.getId(), key -> new TreeMap<>()).put(date, day);
+        }
+
+        OwnerAnalyticsDTO analytics = new OwnerAnalyticsDTO(ownerId, start, end);
+        TreeMap<LocalDate, DailyRevenueDTO> ownerDaily = new TreeMap<>();
+        List<TurfAnalyticsDTO> turfAnalytics = new ArrayList<>();
+        long operatingMinutes = 0;
+        for (Turf turf : turfs.values()) {
+            List<DailyRevenueDTO> daily = new ArrayList<>(dailyByTurf.getOrDefault(turf.getId(), new TreeMap<>()).values());
+            DailyRevenueDTO total = sum(null, daily);
+            long turfOperatingMinutes = days * Duration.between(turf.getOperatingStartTime(), turf.getOperatingEndTime()).toMinutes();
+            operatingMinutes += turfOperatingMinutes;
+            turfAnalytics.add(new TurfAnalyticsDTO(turf.getId(), turf.getName(), total.getConfirmedBookings(),
+                    total.getCancelledBookings(), total.getBookedMinutes(), total.getRevenue(),
+                    percent(total.getBookedMinutes(), turfOperatingMinutes),
+                    rate(total.getCancelledBookings(), total.getConfirmedBookings() + total.getCancelledBookings()),
+                    daily));
+            for (DailyRevenueDTO day : daily) {
+                ownerDaily.merge(day.getDate(), copy(day), (left, right) -> sum(left.getDate(), List.of(left, right)));
+            }
+        }
+        turfAnalytics.sort(Comparator.comparing(TurfAnalyticsDTO::getRevenue).reversed()
+                .thenComparing(TurfAnalyticsDTO::getTurfId));
+
+        DailyRevenueDTO total = sum(null, ownerDaily.values());
+        analytics.setConfirmedBookings(total.getConfirmedBookings());
+        analytics.setCancelledBookings(total.getCancelledBookings());
+        analytics.setBookedMinutes(total.getBookedMinutes());
+        analytics.setTotalRevenue(total.getRevenue());
+        analytics.setUtilizationPercent(percent(total.getBookedMinutes(), operatingMinutes));
+        analytics.setCancellationRate(rate(total.getCancelledBookings(), total.getConfirmedBookings() + total.getCancelledBookings()));
+        analytics.setTurfs(turfAnalytics);
+        analytics.setDaily(new ArrayList<>(ownerDaily.values()));
+
+        long[] minutesByHour = bookedMinutesByHour(bookingRepository.countOwnerConfirmedBookingsBySlot(ownerId, start, end));
+        analytics.setBookedMinutesByHour(IntStream.range(0, 24).mapToObj(hour -> minutesByHour[hour]).collect(Collectors.toList()));
+        analytics.setPeakHours(IntStream.range(0, 24)
+                .filter(hour -> minutesByHour[hour] > 0)
+                .boxed()
+                .sorted(Comparator.comparingLong((Integer hour) -> minutesByHour[hour]).reversed())
+                .limit(PEAK_HOUR_COUNT)
+                .collect(Collectors.toList()));
+        return analytics;
+    }
+
+    // Spread each slot shape's minutes over the hours of the day it covers
+    private long[] bookedMinutesByHour(List<Object[]> slotCounts) {
+        long[] minutes = new long[24];
+        for (Object[] row : slotCounts) {
+            int from = ((LocalTime) row[0]).toSecondOfDay() / 60;
+            int to = ((LocalTime) row[1]).toSecondOfDay() / 60;
+            long count = ((Number) row[2]).longValue();
+            for (int hour = from / 60; hour * 60 < to; hour++) {
+                int overlap = Math.min(to, (hour + 1) * 60) - Math.max(from, hour * 60);
+                minutes[hour] += overlap * count;
+            }
+        }
+        return minutes;
+    }
+
+    private static DailyRevenueDTO sum(LocalDate date, Iterable<DailyRevenueDTO> days) {
+        DailyRevenueDTO total = new DailyRevenueDTO(date, 0, 0, 0, BigDecimal.ZERO);
+        for (DailyRevenueDTO day : days) {
+            total.setConfirmedBookings(total.getConfirmedBookings() + day.getConfirmedBookings());
+            total.setCancelledBookings(total.getCancelledBookings() + day.getCancelledBookings());
+            total.setBookedMinutes(total.getBookedMinutes() + day.getBookedMinutes());
+            total.setRevenue(total.getRevenue().add(day.getRevenue()));
+        }
+        return total;
+    }
+
+    private static DailyRevenueDTO copy(DailyRevenueDTO day) {
+        return new DailyRevenueDTO(day.getDate(), day.getConfirmedBookings(), day.getCancelledBookings(),
+                day.getBookedMinutes(), day.getRevenue());
+    }
+
+    private static double percent(long part, long whole) {
+        return whole == 0 ? 0.0 : Math.round(10000.0 * part / whole) / 100.0;
+    }
+
+    private static double rate(long part, long whole) {
+        return whole == 0 ? 0.0 : Math.round(10000.0 * part / whole) / 10000.0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.service.interfaces.BookingRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the booking rollup change queue on a schedule. Each batch is applied in its own
+ * transaction; a failed batch stays queued and is retried on the next run.
+ */
+@Component
+public class BookingRollupRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingRollupRefresher.class);
+
+    @Autowired
+    private BookingRollupService bookingRollupService;
+
+    @Value("${booking-rollup.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${booking-rollup.refresh-interval-ms:60000}",
+            initialDelayString = "${booking-rollup.refresh-initial-delay-ms:30000}")
+    public void refreshRollups() {
+        try {
+            int consumed;
+            do {
+                consumed = bookingRollupService.refreshRollups();
+                // A full batch means more changes may be waiting
+            } while (consumed >= batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh booking rollups", e);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.BookingRollupChange;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSeriesChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
+import com.turfBooking.event.UserChangedEvent;
+import com.turfBooking.repository.BookingDailyRollupRepository;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.repository.BookingRollupChangeRepository;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.service.interfaces.BookingRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains booking_daily_rollup, one row of counts, booked minutes and revenue per turf and
+ * day. Every booking write records the turf and day(s) it touched in booking_rollup_changes,
+ * inside its own transaction, so a change is queued exactly when the booking commits. The
+ * refresh job recomputes only the queued turf-days and then deletes the change rows it read;
+ * changes that commit while it runs stay queued for the next run.
+ *
+ * Bookings do not record the price they were made at, so revenue is priced at the turf's
+ * pricePerSlot when the day is recomputed, as calculateTotalPrice and the owner analytics do.
+ * A price change queues nothing: days keep the price of their last refresh until a booking
+ * change touches them again, and rebuildRollups reprices every day, past ones included.
+ */
+@Service
+@Transactional
+public class BookingRollupServiceImplementation implements BookingRollupService {
+
+    private static final String INSERT_CHANGE_SQL = "INSERT INTO booking_rollup_changes (turf_id, booking_date) VALUES (?, ?)";
+    private static final String DELETE_ROLLUP_SQL = "DELETE FROM booking_daily_rollup WHERE turf_id = ? AND booking_date = ?";
+    private static final String DELETE_ALL_ROLLUPS_SQL = "DELETE FROM booking_daily_rollup";
+    private static final String INSERT_ROLLUP_SQL = "INSERT INTO booking_daily_rollup "
+            + "(turf_id, booking_date, confirmed_count, cancelled_count, booked_minutes, revenue) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final int REBUILD_TURFS_PER_PAGE = 100;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Autowired
+    private BookingDailyRollupRepository bookingDailyRollupRepository;
+
+    @Autowired
+    private BookingRollupChangeRepository bookingRollupChangeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${booking-rollup.batch-size:1000}")
+    private int batchSize;
+
+    // Transaction resource key for the turf-days changed by the current transaction
+    private final Object pendingChangesKey = new Object();
+
+    @Override
+    public int refreshRollups() {
+        List<BookingRollupChange> changes = bookingRollupChangeRepository.findOldest(Limit.of(batchSize));
+        boolean rebuildRequested = changes.stream().anyMatch(change -> change.getTurfId() == null);
+        boolean neverBuilt = bookingDailyRollupRepository.findIds(Limit.of(1)).isEmpty()
+                && !bookingRepository.findIds(Limit.of(1)).isEmpty();
+        if (rebuildRequested || neverBuilt) {
+            return rebuildRollups();
+        }
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        Set<RollupKey> keys = changes.stream()
+                .map(change -> new RollupKey(change.getTurfId(), change.getBookingDate()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Long> turfIds = keys.stream().map(key -> key.turfId).collect(Collectors.toSet());
+        Set<LocalDate> dates = keys.stream().map(key -> key.date).collect(Collectors.toSet());
+
+        // The query covers every turf-date pairing of the batch; keep just the changed ones
+        List<Object[]> rows = new ArrayList<>();
+        for (Object[] row : bookingRepository.aggregateDailyRollups(turfIds, dates)) {
+            if (keys.contains(new RollupKey((Long) row[0], (LocalDate) row[1]))) {
+                rows.add(row);
+            }
+        }
+
+        jdbcTemplate.batchUpdate(DELETE_ROLLUP_SQL, keys.stream()
+                .map(key -> new Object[]{key.turfId, key.date})
+                .collect(Collectors.toList()));
+        insertRollups(rows);
+        bookingRollupChangeRepository.deleteAllByIdInBatch(
+                changes.stream().map(BookingRollupChange::getId).collect(Collectors.toList()));
+        return changes.size();
+    }
+
+    @Override
+    public int rebuildRollups() {
+        // Read the queue first: every change listed here is already visible to the aggregation below
+        List<Long> changeIds = bookingRollupChangeRepository.findAllIds();
+
+        jdbcTemplate.update(DELETE_ALL_ROLLUPS_SQL);
+        // Aggregate a page of turfs at a time rather than streaming one big result: the inserts
+        // run on the same connection, which a streaming MySQL result set would keep busy
+        List<Long> turfIds = turfRepository.findIdsAfter(0L, Limit.of(REBUILD_TURFS_PER_PAGE));
+        while (!turfIds.isEmpty()) {
+            insertRollups(bookingRepository.aggregateDailyRollupsForTurfs(turfIds));
+            turfIds = turfRepository.findIdsAfter(turfIds.get(turfIds.size() - 1), Limit.of(REBUILD_TURFS_PER_PAGE));
+        }
+
+        for (int from = 0; from < changeIds.size(); from += batchSize) {
+            bookingRollupChangeRepository.deleteAllByIdInBatch(
+                    changeIds.subList(from, Math.min(from + batchSize, changeIds.size())));
+        }
+        return changeIds.size();
+    }
+
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        for (BookingSnapshot snapshot : new BookingSnapshot[]{event.getPrevious(), event.getCurrent()}) {
+            if (snapshot != null) {
+                recordChange(snapshot.getTurfId(), snapshot.getBookingDate());
+            }
+        }
+    }
+
+    @EventListener
+    public void onBookingSeriesChanged(BookingSeriesChangedEvent event) {
+        // Cancelling a series updates the statuses of its bookings in bulk, without booking events
+        for (LocalDate date : bookingRepository.findBookingDatesBySeriesId(event.getSeriesId())) {
+            recordChange(event.getTurfId(), date);
+        }
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        // Deleting a user cascades to their bookings on any turf; the deleted rows can no longer
+        // be looked up, so ask for a full rebuild
+        if (event.isRemoved()) {
+            recordChange(null, null);
+        }
+    }
+
+    // Queue the turf-day for the refresh job. Changes of one transaction are collected and
+    // written together just before it commits, so they commit (or roll back) with it.
+    @SuppressWarnings("unchecked")
+    private void recordChange(Long turfId, LocalDate date) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jdbcTemplate.update(INSERT_CHANGE_SQL, turfId, date);
+            return;
+        }
+        Set<RollupKey> pending = (Set<RollupKey>) TransactionSynchronizationManager.getResource(pendingChangesKey);
+        if (pending == null) {
+            Set<RollupKey> changes = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(pendingChangesKey, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    jdbcTemplate.batchUpdate(INSERT_CHANGE_SQL, changes.stream()
+                            .map(key -> new Object[]{key.turfId, key.date})
+                            .collect(Collectors.toList()));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingChangesKey);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(new RollupKey(turfId, date));
+    }
+
+    private void insertRollups(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ROLLUP_SQL, rows.stream()
+                .map(row -> new Object[]{row[0], row[1], ((Number) row[2]).longValue(), ((Number) row[3]).longValue(),
+                        ((Number) row[4]).longValue(), toBigDecimal((Number) row[5])})
+                .collect(Collectors.toList()));
+    }
+
+    private static BigDecimal toBigDecimal(Number value) {
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+
+    private static final class RollupKey {
+
+        private final Long turfId;
+        private final LocalDate date;
+
+        private RollupKey(Long turfId, LocalDate date) {
+            this.turfId = turfId;
+            this.date = date;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof RollupKey)) {
+                return false;
+            }
+            RollupKey key = (RollupKey) other;
+            return Objects.equals(turfId, key.turfId) && Objects.equals(date, key.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(turfId, date);
+        }
+    }
+}
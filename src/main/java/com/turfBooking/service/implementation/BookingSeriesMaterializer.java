@@ -0,0 +1,33 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.service.interfaces.BookingSeriesService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rolls the materialized window of every active booking series forward. Each series is
+ * materialized in its own transaction so one failure does not hold back the rest.
+ */
+@Component
+public class BookingSeriesMaterializer {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingSeriesMaterializer.class);
+
+    @Autowired
+    private BookingSeriesService bookingSeriesService;
+
+    @Scheduled(fixedDelayString = "${booking-series.materialize-interval-ms:3600000}",
+            initialDelayString = "${booking-series.materialize-initial-delay-ms:60000}")
+    public void materializeDueSeries() {
+        for (Long seriesId : bookingSeriesService.getSeriesIdsDueForMaterialization()) {
+            try {
+                bookingSeriesService.materializeSeries(seriesId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to materialize booking series {}", seriesId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.dto.BookingSeriesRequestDTO;
+import com.turfBooking.dto.BookingSeriesResponseDTO;
+import com.turfBooking.entity.Booking;
+import com.turfBooking.entity.BookingSeries;
+import com.turfBooking.entity.Turf;
+import com.turfBooking.entity.User;
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSeriesChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.repository.BookingSeriesRepository;
+import com.turfBooking.repository.UserRepository;
+import com.turfBooking.service.interfaces.BookingSeriesService;
+import com.turfBooking.service.interfaces.SlotConflictService;
+import com.turfBooking.service.interfaces.SlotLockService;
+import com.turfBooking.util.DaySlotBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class BookingSeriesServiceImplementation implements BookingSeriesService {
+
+    @Autowired
+    private BookingSeriesRepository bookingSeriesRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SlotLockService slotLockService;
+
+    @Autowired
+    private SlotConflictService slotConflictService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${booking-series.window-days:28}")
+    private int windowDays;
+
+    @Value("${booking-series.max-days:366}")
+    private int maxSeriesDays;
+
+    @Override
+    public BookingSeriesResponseDTO createSeries(BookingSeriesRequestDTO seriesRequestDTO) {
+        LocalDate startDate = seriesRequestDTO.getStartDate();
+        LocalDate endDate = seriesRequestDTO.getEndDate();
+        LocalTime startTime = seriesRequestDTO.getSlotStartTime();
+        LocalTime endTime = seriesRequestDTO.getSlotEndTime();
+
+        if (seriesRequestDTO.getFrequency() == null) {
+            throw new RuntimeException("Recurrence frequency is required");
+        }
+        if (startDate.isBefore(LocalDate.now())) {
+            throw new RuntimeException("Cannot book for past dates");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new RuntimeException("End date must not be before start date");
+        }
+        if (endDate.isAfter(startDate.plusDays(maxSeriesDays))) {
+            throw new RuntimeException("Series cannot span more than " + maxSeriesDays + " days");
+        }
+        if (!startTime.isBefore(endTime)) {
+            throw new RuntimeException("Invalid booking time: start time must be before end time");
+        }
+
+        BookingSeries series = new BookingSeries(startTime, endTime, startDate, endDate,
+                seriesRequestDTO.getFrequency(), null, null);
+        Set<LocalDate> occurrences = series.occurrencesBetween(startDate, endDate)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        // Lock every occurrence date first so the checks below cannot interleave with a competing booking
+        Turf turf = slotLockService.lockTurfDates(seriesRequestDTO.getTurfId(), occurrences);
+
+        User user = userRepository.findById(seriesRequestDTO.getUserId())
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + seriesRequestDTO.getUserId()));
+
+        if (startTime.isBefore(turf.getOperatingStartTime()) || endTime.isAfter(turf.getOperatingEndTime())) {
+            throw new RuntimeException("Invalid booking time: outside turf operating hours");
+        }
+
+        // Bookings, blocked slots and other series over the whole series span, in one set-based load
+        Map<LocalDate, DaySlotBitmap> busyDays = slotConflictService.loadBusyDays(List.of(turf.getId()), startDate, endDate)
+                .get(turf.getId());
+        for (LocalDate date : occurrences) {
+            DaySlotBitmap day = busyDays.get(date);
+            if (day != null && !day.isFree(startTime, endTime)) {
+                throw new RuntimeException("Time slot is not available on " + date);
+            }
+        }
+
+        series.setUser(user);
+        series.setTurf(turf);
+        BookingSeries savedSeries = bookingSeriesRepository.save(series);
+        materialize(savedSeries, LocalDate.now().plusDays(windowDays));
+        eventPublisher.publishEvent(new BookingSeriesChangedEvent(savedSeries.getId(), turf.getId()));
+
+        return convertToResponseDTO(savedSeries);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookingSeriesResponseDTO getSeriesById(Long id) {
+        BookingSeries series = bookingSeriesRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Booking series not found with id: " + id));
+
+        return convertToResponseDTO(series);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingSeriesResponseDTO> getSeriesByUserId(Long userId) {
+        return bookingSeriesRepository.findByUserId(userId)
+                .stream()
+                .map(this::convertToResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingSeriesResponseDTO> getSeriesByTurfId(Long turfId) {
+        return bookingSeriesRepository.findByTurfId(turfId)
+                .stream()
+                .map(this::convertToResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public BookingSeriesResponseDTO cancelSeries(Long id) {
+        BookingSeries series = bookingSeriesRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new RuntimeException("Booking series not found with id: " + id));
+
+        if (series.getStatus() != BookingStatus.CONFIRMED) {
+            throw new RuntimeException("Only confirmed series can be cancelled");
+        }
+
+        series.setStatus(BookingStatus.CANCELLED);
+        bookingSeriesRepository.cancelMaterializedBookings(id, LocalDate.now());
+        eventPublisher.publishEvent(new BookingSeriesChangedEvent(id, series.getTurf().getId()));
+
+        return convertToResponseDTO(series);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> getSeriesIdsDueForMaterialization() {
+        return bookingSeriesRepository.findIdsDueForMaterialization(LocalDate.now().plusDays(windowDays));
+    }
+
+    @Override
+    public int materializeSeries(Long id) {
+        // The row lock makes concurrent materializers for the same series wait and then see the advanced window
+        BookingSeries series = bookingSeriesRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new RuntimeException("Booking series not found with id: " + id));
+
+        if (series.getStatus() != BookingStatus.CONFIRMED) {
+            return 0;
+        }
+
+        // The series row lock above is a locking read, so the conflict checks in materialize still
+        // read what the previous holder of these turf-date locks committed
+        LocalDate horizon = LocalDate.now().plusDays(windowDays);
+        slotLockService.lockTurfDates(series.getTurf().getId(),
+                series.pendingOccurrencesBetween(series.getStartDate(), horizon).collect(Collectors.toCollection(TreeSet::new)));
+        return materialize(series, horizon);
+    }
+
+    // Write occurrences up to the horizon as bookings; the caller holds the turf-date locks. The slot
+    // stays busy throughout: before this commits the rule covers the dates, afterwards the booking rows
+    // do. An occurrence that something else took in the meantime (e.g. a blocked slot) is skipped.
+    private int materialize(BookingSeries series, LocalDate horizon) {
+        LocalDate through = series.getEndDate().isBefore(horizon) ? series.getEndDate() : horizon;
+        if (!through.isAfter(series.getMaterializedThrough())) {
+            return 0;
+        }
+        List<LocalDate> dates = series.pendingOccurrencesBetween(series.getStartDate(), through)
+                .collect(Collectors.toList());
+
+        // Advance the window first so the series' own occurrences no longer count as busy
+        series.setMaterializedThrough(through);
+        if (dates.isEmpty()) {
+            return 0;
+        }
+        Map<LocalDate, DaySlotBitmap> busyDays = slotConflictService.loadBusyDays(List.of(series.getTurf().getId()),
+                dates.get(0), through).get(series.getTurf().getId());
+
+        List<Booking> bookings = dates.stream()
+                .filter(date -> {
+                    DaySlotBitmap day = busyDays.get(date);
+                    return day == null || day.isFree(series.getSlotStartTime(), series.getSlotEndTime());
+                })
+                .map(date -> {
+                    Booking booking = new Booking(series.getSlotStartTime(), series.getSlotEndTime(), date,
+                            series.getUser(), series.getTurf(), BookingStatus.CONFIRMED);
+                    booking.setSeriesId(series.getId());
+                    return booking;
+                })
+                .collect(Collectors.toList());
+
+        bookingRepository.saveAll(bookings);
+        bookings.forEach(booking -> eventPublisher.publishEvent(new BookingChangedEvent(null, BookingSnapshot.of(booking))));
+        return bookings.size();
+    }
+
+    // Helper method to convert BookingSeries entity to BookingSeriesResponseDTO
+    private BookingSeriesResponseDTO convertToResponseDTO(BookingSeries series) {
+        return new BookingSeriesResponseDTO(
+                series.getId(),
+                series.getUser().getId(),
+                series.getUser().getName(),
+                series.getTurf().getId(),
+                series.getTurf().getName(),
+                series.getSlotStartTime(),
+                series.getSlotEndTime(),
+                series.getStartDate(),
+                series.getEndDate(),
+                series.getFrequency(),
+                series.getStatus(),
+                series.getMaterializedThrough(),
+                series.occurrencesBetween(series.getStartDate(), series.getEndDate()).count()
+        );
+    }
+}
@@ -1,31 +1,81 @@
 package com.turfBooking.service.implementation;
 
+import com.turfBooking.dto.BatchBookingFailureDTO;
+import com.turfBooking.dto.BatchBookingRequestDTO;
+import com.turfBooking.dto.BatchBookingResponseDTO;
 import com.turfBooking.dto.BookingRequestDTO;
 import com.turfBooking.dto.BookingResponseDTO;
 import com.turfBooking.dto.BookingUpdateDTO;
 import com.turfBooking.dto.BookingSearchDTO;
+import com.turfBooking.dto.BookingSlotDTO;
+import com.turfBooking.dto.CursorPageDTO;
 import com.turfBooking.entity.Booking;
 import com.turfBooking.entity.Turf;
 import com.turfBooking.entity.User;
+import com.turfBooking.enums.BatchBookingMode;
 import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.SportType;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
 import com.turfBooking.repository.BookingRepository;
 import com.turfBooking.repository.TurfRepository;
 import com.turfBooking.repository.UserRepository;
 import com.turfBooking.service.interfaces.BookingService;
+import com.turfBooking.service.interfaces.SlotConflictService;
+import com.turfBooking.service.interfaces.SlotLockService;
+import com.turfBooking.service.interfaces.StatisticsCounterService;
+import com.turfBooking.util.DaySlotBitmap;
+import com.turfBooking.util.OptimisticLockRetry;
+import com.turfBooking.util.PageTokens;
+import com.turfBooking.util.StreamingQueries;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class BookingServiceImplementation implements BookingService {
+
+    /**
+     * Columns written by the JDBC batch insert, in parameter order. This must name every
+     * column the Booking mapping persists (BookingBatchInsertTests checks it against the
+     * Hibernate metamodel), so a new mapped field cannot be silently skipped here.
+     */
+    public static final List<String> BATCH_INSERT_COLUMNS = List.of(
+            "slot_start_time", "slot_end_time", "booking_date", "status", "version", "series_id", "user_id", "turf_id");
+
+    private static final String INSERT_BOOKING_SQL = "INSERT INTO bookings ("
+            + String.join(", ", BATCH_INSERT_COLUMNS) + ") VALUES ("
+            + String.join(", ", Collections.nCopies(BATCH_INSERT_COLUMNS.size(), "?")) + ")";
+
     @Autowired
     private BookingRepository bookingRepository;
 
@@ -35,16 +85,43 @@ public class BookingServiceImplementation implements BookingService {
     @Autowired
     private TurfRepository turfRepository;
 
+    @Autowired
+    private SlotConflictService slotConflictService;
+
+    @Autowired
+    private SlotLockService slotLockService;
+
+    @Autowired
+    private StatisticsCounterService statisticsCounterService;
+
+    @Autowired
+    private OptimisticLockRetry optimisticLockRetry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${pagination.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${booking.batch.max-slots:500}")
+    private int maxBatchSlots;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private StreamingQueries streamingQueries;
+
     @Override
     public BookingResponseDTO createBooking(BookingRequestDTO bookingRequestDTO) {
+        // Lock the turf and date first so the checks below cannot interleave with a competing booking
+        Turf turf = slotLockService.lockTurfDates(bookingRequestDTO.getTurfId(),
+                List.of(bookingRequestDTO.getBookingDate()));
+
         // Validate user exists
         User user = userRepository.findById(bookingRequestDTO.getUserId())
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + bookingRequestDTO.getUserId()));
 
-        // Validate turf exists
-        Turf turf = turfRepository.findById(bookingRequestDTO.getTurfId())
-                .orElseThrow(() -> new RuntimeException("Turf not found with id: " + bookingRequestDTO.getTurfId()));
-
         // Validate booking time
         if (!validateBookingTime(bookingRequestDTO.getTurfId(),
                 bookingRequestDTO.getSlotStartTime(),
@@ -52,23 +129,15 @@ public class BookingServiceImplementation implements BookingService {
             throw new RuntimeException("Invalid booking time: outside turf operating hours");
         }
 
-        // Check if slot is available
-        if (!isSlotAvailable(bookingRequestDTO.getTurfId(),
+        // Check if slot is available (against the database, not the in-memory index). A duplicate of an
+        // existing confirmed booking overlaps it, so this also rejects duplicates.
+        if (slotConflictService.hasConflict(bookingRequestDTO.getTurfId(),
                 bookingRequestDTO.getBookingDate(),
                 bookingRequestDTO.getSlotStartTime(),
-                bookingRequestDTO.getSlotEndTime())) {
+                bookingRequestDTO.getSlotEndTime(), null)) {
             throw new RuntimeException("Time slot is not available");
         }
 
-        // Check for duplicate booking
-        if (isDuplicateBooking(bookingRequestDTO.getUserId(),
-                bookingRequestDTO.getTurfId(),
-                bookingRequestDTO.getBookingDate(),
-                bookingRequestDTO.getSlotStartTime(),
-                bookingRequestDTO.getSlotEndTime())) {
-            throw new RuntimeException("Duplicate booking: User already has this exact booking");
-        }
-
         // Validate booking date (should not be in the past)
         if (bookingRequestDTO.getBookingDate().isBefore(LocalDate.now())) {
             throw new RuntimeException("Cannot book for past dates");
@@ -85,32 +154,135 @@ public class BookingServiceImplementation implements BookingService {
 
         // Save booking
         Booking savedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(null, BookingSnapshot.of(savedBooking)));
 
         return convertToResponseDTO(savedBooking);
     }
 
+    @Override
+    public BatchBookingResponseDTO createBookings(BatchBookingRequestDTO batchRequestDTO) {
+        List<BookingSlotDTO> slots = batchRequestDTO.getSlots();
+        if (slots.size() > maxBatchSlots) {
+            throw new RuntimeException("Batch cannot contain more than " + maxBatchSlots + " slots");
+        }
+        BatchBookingMode mode = batchRequestDTO.getMode() != null ? batchRequestDTO.getMode() : BatchBookingMode.ALL_OR_NOTHING;
+
+        // Lock every turf and date of the batch in one ordered pass before reading anything
+        Map<Long, TreeSet<LocalDate>> datesByTurf = slots.stream()
+                .collect(Collectors.groupingBy(BookingSlotDTO::getTurfId, TreeMap::new,
+                        Collectors.mapping(BookingSlotDTO::getBookingDate, Collectors.toCollection(TreeSet::new))));
+        Map<Long, Turf> turfs = slotLockService.lockTurfDates(datesByTurf);
+
+        User user = userRepository.findById(batchRequestDTO.getUserId())
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + batchRequestDTO.getUserId()));
+
+        // One busy-time range query per turf, folded into a bitmap per day
+        Map<Long, Map<LocalDate, DaySlotBitmap>> busyDays = new HashMap<>();
+        datesByTurf.forEach((turfId, dates) -> {
+            if (turfs.containsKey(turfId)) {
+                busyDays.putAll(slotConflictService.loadBusyDays(List.of(turfId), dates.first(), dates.last()));
+            }
+        });
+
+        LocalDate today = LocalDate.now();
+        List<Booking> accepted = new ArrayList<>();
+        List<BatchBookingFailureDTO> failures = new ArrayList<>();
+        for (int i = 0; i < slots.size(); i++) {
+            BookingSlotDTO slot = slots.get(i);
+            Turf turf = turfs.get(slot.getTurfId());
+            String reason = checkBatchSlot(slot, turf, busyDays.get(slot.getTurfId()), today);
+            if (reason != null) {
+                failures.add(new BatchBookingFailureDTO(i, slot, reason));
+                continue;
+            }
+
+            // Later slots in the same batch must not overlap the ones already accepted
+            busyDays.get(slot.getTurfId()).compute(slot.getBookingDate(), (date, day) ->
+                    (day != null ? day : DaySlotBitmap.empty()).withBusy(slot.getSlotStartTime(), slot.getSlotEndTime()));
+            accepted.add(new Booking(slot.getSlotStartTime(), slot.getSlotEndTime(), slot.getBookingDate(),
+                    user, turf, BookingStatus.CONFIRMED));
+        }
+
+        if (mode == BatchBookingMode.ALL_OR_NOTHING && !failures.isEmpty()) {
+            return new BatchBookingResponseDTO(mode, slots.size(), List.of(), failures);
+        }
+
+        insertBookings(accepted);
+        accepted.forEach(booking -> eventPublisher.publishEvent(new BookingChangedEvent(null, BookingSnapshot.of(booking))));
+
+        return new BatchBookingResponseDTO(mode, slots.size(),
+                accepted.stream().map(this::convertToResponseDTO).collect(Collectors.toList()),
+                failures);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public BookingResponseDTO getBookingById(Long id) {
-        Booking booking = bookingRepository.findById(id)
+        return bookingRepository.findResponseById(id)
                 .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
-
-        return convertToResponseDTO(booking);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getAllBookings() {
-        return bookingRepository.findAll()
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findAllResponses();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BookingResponseDTO> getBookingsPage(String pageToken, int size) {
+        PageTokens.checkPageSize(size, maxPageSize);
+        Limit limit = Limit.of(size + 1);
+
+        List<BookingResponseDTO> rows;
+        if (pageToken == null || pageToken.isBlank()) {
+            rows = bookingRepository.findResponsePage(limit);
+        } else {
+            String[] key = PageTokens.decode(pageToken, 3);
+            try {
+                rows = bookingRepository.findResponsePageAfter(LocalDate.parse(key[0]), LocalTime.parse(key[1]),
+                        Long.valueOf(key[2]), limit);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new RuntimeException("Invalid page token");
+            }
+        }
+
+        return PageTokens.toPage(rows, size,
+                booking -> new Object[]{booking.getBookingDate(), booking.getSlotStartTime(), booking.getId()});
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllBookings(Consumer<? super BookingResponseDTO> consumer) {
+        try (Stream<BookingResponseDTO> bookings = streamingQueries.stream(BookingRepository.STREAM_ALL_RESPONSES, BookingResponseDTO.class)) {
+            bookings.forEach(consumer);
+        }
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BookingResponseDTO updateBooking(Long id, BookingUpdateDTO bookingUpdateDTO) {
-        Booking booking = bookingRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
+        return optimisticLockRetry.execute("booking.update", () -> applyBookingUpdate(id, bookingUpdateDTO));
+    }
+
+    private BookingResponseDTO applyBookingUpdate(Long id, BookingUpdateDTO bookingUpdateDTO) {
+        boolean claimsSlot = bookingUpdateDTO.getBookingDate() != null
+                || (bookingUpdateDTO.getSlotStartTime() != null && bookingUpdateDTO.getSlotEndTime() != null)
+                || bookingUpdateDTO.getStatus() == BookingStatus.CONFIRMED;
+
+        Booking booking;
+        if (claimsSlot) {
+            // Slot changes go through admission: booking row first, then the turf and target date
+            booking = bookingRepository.findByIdForUpdate(id)
+                    .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
+            LocalDate targetDate = bookingUpdateDTO.getBookingDate() != null
+                    ? bookingUpdateDTO.getBookingDate() : booking.getBookingDate();
+            slotLockService.lockTurfDates(booking.getTurf().getId(), List.of(targetDate));
+        } else {
+            booking = bookingRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
+        }
+        checkExpectedVersion(booking, bookingUpdateDTO.getVersion());
 
         // Only allow updates for future bookings or confirmed bookings
         if (booking.getBookingDate().isBefore(LocalDate.now()) &&
@@ -118,6 +290,7 @@ public class BookingServiceImplementation implements BookingService {
             throw new RuntimeException("Cannot update past or non-confirmed bookings");
         }
 
+        BookingSnapshot previous = BookingSnapshot.of(booking);
         boolean needsAvailabilityCheck = false;
 
         // Update time slots if provided
@@ -141,35 +314,35 @@ public class BookingServiceImplementation implements BookingService {
             booking.setBookingDate(bookingUpdateDTO.getBookingDate());
         }
 
-        // Check availability if time or date changed
-        if (needsAvailabilityCheck) {
-            // Temporarily exclude current booking from availability check
-            Long currentBookingId = booking.getId();
-            List<Booking> conflictingBookings = bookingRepository.findConflictingBookings(
-                    booking.getTurf().getId(), booking.getBookingDate(),
-                    booking.getSlotStartTime(), booking.getSlotEndTime());
-
-            // Remove current booking from conflicts
-            conflictingBookings = conflictingBookings.stream()
-                    .filter(b -> !b.getId().equals(currentBookingId))
-                    .collect(Collectors.toList());
-
-            if (!conflictingBookings.isEmpty()) {
-                throw new RuntimeException("Updated time slot is not available");
+        // Update status if provided; re-confirming a booking claims its slot again
+        if (bookingUpdateDTO.getStatus() != null) {
+            if (bookingUpdateDTO.getStatus() == BookingStatus.CONFIRMED && booking.getStatus() != BookingStatus.CONFIRMED) {
+                needsAvailabilityCheck = true;
             }
+            booking.setStatus(bookingUpdateDTO.getStatus());
         }
 
-        // Update status if provided
-        if (bookingUpdateDTO.getStatus() != null) {
-            booking.setStatus(bookingUpdateDTO.getStatus());
+        // Check availability if time, date or status changed
+        if (needsAvailabilityCheck && booking.getStatus() == BookingStatus.CONFIRMED) {
+            // Exclude current booking from availability check
+            if (slotConflictService.hasConflict(booking.getTurf().getId(), booking.getBookingDate(),
+                    booking.getSlotStartTime(), booking.getSlotEndTime(), booking.getId())) {
+                throw new RuntimeException("Updated time slot is not available");
+            }
         }
 
-        Booking updatedBooking = bookingRepository.save(booking);
+        Booking updatedBooking = bookingRepository.saveAndFlush(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(previous, BookingSnapshot.of(updatedBooking)));
         return convertToResponseDTO(updatedBooking);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BookingResponseDTO cancelBooking(Long id) {
+        return optimisticLockRetry.execute("booking.cancel", () -> applyCancellation(id));
+    }
+
+    private BookingResponseDTO applyCancellation(Long id) {
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
 
@@ -178,8 +351,10 @@ public class BookingServiceImplementation implements BookingService {
             throw new RuntimeException("Only confirmed bookings can be cancelled");
         }
 
+        BookingSnapshot previous = BookingSnapshot.of(booking);
         booking.setStatus(BookingStatus.CANCELLED);
-        Booking cancelledBooking = bookingRepository.save(booking);
+        Booking cancelledBooking = bookingRepository.saveAndFlush(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(previous, BookingSnapshot.of(cancelledBooking)));
         return convertToResponseDTO(cancelledBooking);
     }
 
@@ -187,55 +362,42 @@ public class BookingServiceImplementation implements BookingService {
 
     @Override
     public void deleteBooking(Long id) {
-        if (!bookingRepository.existsById(id)) {
-            throw new RuntimeException("Booking not found with id: " + id);
-        }
-        bookingRepository.deleteById(id);
+        Booking booking = bookingRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
+
+        BookingSnapshot previous = BookingSnapshot.of(booking);
+        bookingRepository.delete(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(previous, null));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getBookingsByUserId(Long userId) {
-        return bookingRepository.findByUserId(userId)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findResponsesByUserId(userId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getBookingsByTurfId(Long turfId) {
-        return bookingRepository.findByTurfId(turfId)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findResponsesByTurfId(turfId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getBookingsByStatus(BookingStatus status) {
-        return bookingRepository.findByStatus(status)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findResponsesByStatus(status);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getBookingsByDate(LocalDate date) {
-        return bookingRepository.findByBookingDate(date)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findResponsesByBookingDate(date);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getBookingsByDateRange(LocalDate startDate, LocalDate endDate) {
-        return bookingRepository.findByBookingDateBetween(startDate, endDate)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findResponsesByBookingDateBetween(startDate, endDate);
     }
 
     @Override
@@ -244,10 +406,7 @@ public class BookingServiceImplementation implements BookingService {
         LocalDate currentDate = LocalDate.now();
         LocalTime currentTime = LocalTime.now();
 
-        return bookingRepository.findUpcomingBookingsForUser(userId, currentDate, currentTime)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findUpcomingBookingsForUser(userId, currentDate, currentTime);
     }
 
     @Override
@@ -256,19 +415,13 @@ public class BookingServiceImplementation implements BookingService {
         LocalDate currentDate = LocalDate.now();
         LocalTime currentTime = LocalTime.now();
 
-        return bookingRepository.findUpcomingBookingsForTurf(turfId, currentDate, currentTime)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findUpcomingBookingsForTurf(turfId, currentDate, currentTime);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getBookingsForTurfOwner(Long ownerId) {
-        return bookingRepository.findBookingsForTurfOwner(ownerId)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findBookingsForTurfOwner(ownerId);
     }
 
     @Override
@@ -277,32 +430,25 @@ public class BookingServiceImplementation implements BookingService {
         LocalDate currentDate = LocalDate.now();
         LocalTime currentTime = LocalTime.now();
 
-        return bookingRepository.findUpcomingBookingsForTurfOwner(ownerId, currentDate, currentTime)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findUpcomingBookingsForTurfOwner(ownerId, currentDate, currentTime);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> searchBookings(BookingSearchDTO searchDTO) {
         return bookingRepository.searchBookings(
-                        searchDTO.getUserId(),
-                        searchDTO.getTurfId(),
-                        searchDTO.getStatus(),
-                        searchDTO.getStartDate(),
-                        searchDTO.getEndDate()
-                ).stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+                searchDTO.getUserId(),
+                searchDTO.getTurfId(),
+                searchDTO.getStatus(),
+                searchDTO.getStartDate(),
+                searchDTO.getEndDate()
+        );
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean isSlotAvailable(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime) {
-        List<Booking> conflictingBookings = bookingRepository.findConflictingBookings(
-                turfId, date, startTime, endTime);
-        return conflictingBookings.isEmpty();
+        return slotConflictService.isSlotFree(turfId, date, startTime, endTime);
     }
 
     @Override
@@ -313,47 +459,90 @@ public class BookingServiceImplementation implements BookingService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BookingResponseDTO updateBookingStatus(Long id, BookingStatus status) {
-        Booking booking = bookingRepository.findById(id)
+        return optimisticLockRetry.execute("booking.status", () -> applyStatusChange(id, status));
+    }
+
+    private BookingResponseDTO applyStatusChange(Long id, BookingStatus status) {
+        // Re-confirming a booking claims its slot again, so it goes through admission like a new one
+        Booking booking = (status == BookingStatus.CONFIRMED
+                ? bookingRepository.findByIdForUpdate(id)
+                : bookingRepository.findById(id))
                 .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
 
+        if (status == BookingStatus.CONFIRMED && booking.getStatus() != BookingStatus.CONFIRMED) {
+            slotLockService.lockTurfDates(booking.getTurf().getId(), List.of(booking.getBookingDate()));
+            if (slotConflictService.hasConflict(booking.getTurf().getId(), booking.getBookingDate(),
+                    booking.getSlotStartTime(), booking.getSlotEndTime(), booking.getId())) {
+                throw new RuntimeException("Time slot is not available");
+            }
+        }
+
+        BookingSnapshot previous = BookingSnapshot.of(booking);
         booking.setStatus(status);
-        Booking updatedBooking = bookingRepository.save(booking);
+        Booking updatedBooking = bookingRepository.saveAndFlush(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(previous, BookingSnapshot.of(updatedBooking)));
         return convertToResponseDTO(updatedBooking);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getTotalBookingsCount() {
-        return bookingRepository.count();
+        return statisticsCounterService.getBookingCountsByStatus().values().stream().mapToLong(Long::longValue).sum();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getBookingsCountByStatus(BookingStatus status) {
-        return bookingRepository.countByStatus(status);
+        return statisticsCounterService.getBookingCountsByStatus().get(status);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<BookingStatus, Long> getBookingCountsByStatus() {
+        return statisticsCounterService.getBookingCountsByStatus();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<SportType, Long> getBookingCountsBySportType() {
+        return statisticsCounterService.getBookingCountsBySportType();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getBookingsCountByUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
-        return bookingRepository.countByUser(user);
+        long count = statisticsCounterService.getBookingCountByUser(userId);
+        if (count == 0 && !userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found with id: " + userId);
+        }
+        return count;
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getBookingsCountByTurf(Long turfId) {
-        Turf turf = turfRepository.findById(turfId)
-                .orElseThrow(() -> new RuntimeException("Turf not found with id: " + turfId));
-        return bookingRepository.countByTurf(turf);
+        if (!statisticsCounterService.containsTurf(turfId)) {
+            throw new RuntimeException("Turf not found with id: " + turfId);
+        }
+        return statisticsCounterService.getBookingCountByTurf(turfId);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long getBookingsCountByOwner(Long ownerId) {
+        long count = statisticsCounterService.getBookingCountByOwner(ownerId);
+        if (count == 0 && !userRepository.existsById(ownerId)) {
+            throw new RuntimeException("Owner not found with id: " + ownerId);
+        }
+        return count;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getBookingsCountByDateRange(LocalDate startDate, LocalDate endDate) {
-        return bookingRepository.countByBookingDateBetween(startDate, endDate);
+        return statisticsCounterService.getBookingCountBetween(startDate, endDate);
     }
 
     @Override
@@ -390,37 +579,91 @@ public class BookingServiceImplementation implements BookingService {
         return turf.getPricePerSlot().multiply(BigDecimal.valueOf(hours));
     }
 
+    // Validate one batch slot in memory; returns the rejection reason or null when it can be booked
+    private String checkBatchSlot(BookingSlotDTO slot, Turf turf, Map<LocalDate, DaySlotBitmap> busyDays, LocalDate today) {
+        if (turf == null) {
+            return "Turf not found with id: " + slot.getTurfId();
+        }
+        if (slot.getBookingDate().isBefore(today)) {
+            return "Cannot book for past dates";
+        }
+        if (!slot.getSlotStartTime().isBefore(slot.getSlotEndTime())
+                || slot.getSlotStartTime().isBefore(turf.getOperatingStartTime())
+                || slot.getSlotEndTime().isAfter(turf.getOperatingEndTime())) {
+            return "Invalid booking time: outside turf operating hours";
+        }
+        DaySlotBitmap day = busyDays.get(slot.getBookingDate());
+        if (day != null && !day.isFree(slot.getSlotStartTime(), slot.getSlotEndTime())) {
+            return "Time slot is not available";
+        }
+        return null;
+    }
+
+    // Insert new bookings with one JDBC batch; IDENTITY keys keep Hibernate from batching these inserts itself
+    private void insertBookings(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_BOOKING_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Booking booking = bookings.get(i);
+                        ps.setObject(1, booking.getSlotStartTime());
+                        ps.setObject(2, booking.getSlotEndTime());
+                        ps.setObject(3, booking.getBookingDate());
+                        ps.setString(4, booking.getStatus().name());
+                        ps.setLong(5, 0L);
+                        ps.setObject(6, booking.getSeriesId(), Types.BIGINT);
+                        ps.setLong(7, booking.getUser().getId());
+                        ps.setLong(8, booking.getTurf().getId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return bookings.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < bookings.size(); i++) {
+            Booking booking = bookings.get(i);
+            booking.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            booking.setVersion(0L);
+        }
+    }
+
+    // Reject the change when the client edited a version that is no longer current
+    private void checkExpectedVersion(Booking booking, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(booking.getVersion())) {
+            throw new RuntimeException("Booking was modified by another request (expected version "
+                    + expectedVersion + ", current version " + booking.getVersion() + ")");
+        }
+    }
+
     // Helper method to convert Booking entity to BookingResponseDTO
     private BookingResponseDTO convertToResponseDTO(Booking booking) {
-        BookingResponseDTO responseDTO = new BookingResponseDTO(
+        return new BookingResponseDTO(
                 booking.getId(),
                 booking.getSlotStartTime(),
                 booking.getSlotEndTime(),
                 booking.getBookingDate(),
                 booking.getStatus(),
+                booking.getVersion(),
                 booking.getUser().getId(),
                 booking.getUser().getName(),
                 booking.getUser().getPhone(),
                 booking.getTurf().getId(),
                 booking.getTurf().getName(),
                 booking.getTurf().getLocation(),
-                booking.getTurf().getType().toString(),
+                booking.getTurf().getType(),
                 booking.getTurf().getPricePerSlot(),
                 booking.getTurf().getOwner().getName(),
                 booking.getTurf().getOwner().getPhone()
         );
-
-        // Calculate additional fields
-        Duration duration = Duration.between(booking.getSlotStartTime(), booking.getSlotEndTime());
-        long hours = duration.toHours();
-        if (duration.toMinutes() % 60 != 0) {
-            hours++;
-        }
-        responseDTO.setDurationHours(hours);
-        responseDTO.setTotalPrice(booking.getTurf().getPricePerSlot().multiply(BigDecimal.valueOf(hours)));
-
-        return responseDTO;
     }
 }
-
-
@@ -1,25 +1,54 @@
 package com.turfBooking.service.implementation;
 
-import com.turfBooking.entity.User;
+import com.turfBooking.event.UserChangedEvent;
 import com.turfBooking.security.CustomUserDetails;
 import com.turfBooking.service.interfaces.UserService;
+import com.turfBooking.util.BoundedCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Loads users by phone through a bounded cache. Unknown phones are cached too, so a storm
+ * of requests for a missing account costs one query. Entries are dropped after every
+ * commit that creates, updates or removes a user with that phone.
+ */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     @Autowired
     private UserService userService;
 
+    private final BoundedCache<String, Optional<CustomUserDetails>> userDetailsByPhone;
+
+    public CustomUserDetailsService(@Value("${user-details-cache.max-entries:10000}") int maxEntries,
+                                    @Value("${user-details-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userDetailsByPhone = new BoundedCache<>(maxEntries, ttlSeconds * 1000);
+    }
+
     @Override
     public UserDetails loadUserByUsername(String phone) throws UsernameNotFoundException {
-        User user = userService.findByPhone(phone)
+        return userDetailsByPhone.get(phone, () -> userService.findByPhone(phone).map(CustomUserDetails::new))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with phone: " + phone));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        // A new user replaces a cached "not found"; updates and removals replace the cached user
+        for (String phone : event.getPhones()) {
+            userDetailsByPhone.invalidate(phone);
+        }
+    }
 
-        return new CustomUserDetails(user);
+    // Size, hit, miss and eviction counts of the user details cache
+    public Map<String, Number> getStatistics() {
+        return userDetailsByPhone.getStatistics();
     }
-}
\ No newline at end of file
+}
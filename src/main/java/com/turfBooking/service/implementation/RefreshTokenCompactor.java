@@ -0,0 +1,34 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.service.interfaces.RefreshTokenService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes refresh tokens past their expiry, used or not, so refresh_tokens only holds
+ * tokens that could still be presented.
+ */
+@Component
+public class RefreshTokenCompactor {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenCompactor.class);
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-compaction-interval-ms:3600000}",
+            initialDelayString = "${jwt.refresh-compaction-interval-ms:3600000}")
+    public void compactRefreshTokens() {
+        try {
+            int deleted = refreshTokenService.compactRefreshTokens();
+            if (deleted > 0) {
+                log.info("Deleted {} expired refresh tokens", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to compact refresh tokens", e);
+        }
+    }
+}
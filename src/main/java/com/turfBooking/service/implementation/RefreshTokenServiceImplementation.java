@@ -0,0 +1,121 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.dto.JwtResponse;
+import com.turfBooking.entity.RefreshToken;
+import com.turfBooking.entity.User;
+import com.turfBooking.event.UserChangedEvent;
+import com.turfBooking.repository.RefreshTokenRepository;
+import com.turfBooking.repository.UserRepository;
+import com.turfBooking.security.CustomUserDetails;
+import com.turfBooking.security.RefreshTokenReuseException;
+import com.turfBooking.service.interfaces.RefreshTokenService;
+import com.turfBooking.util.JwtUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Rotating refresh tokens. Renewal is one indexed lookup and two updates: no password hash
+ * is checked, so access tokens can be short-lived without sending clients back to login.
+ * Each token is single-use; presenting one that was already used means it leaked, and the
+ * whole family (every token descended from the same login) is revoked.
+ */
+@Service
+@Transactional
+public class RefreshTokenServiceImplementation implements RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${jwt.refresh-expiration:2592000000}") // 30 days in milliseconds
+    private long refreshExpiration;
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Override
+    public String issueRefreshToken(Long userId) {
+        User user = userRepository.getReferenceById(userId);
+        return createToken(UUID.randomUUID().toString(), user);
+    }
+
+    @Override
+    @Transactional(noRollbackFor = RefreshTokenReuseException.class) // a detected reuse must still revoke the family
+    public JwtResponse rotateRefreshToken(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashWithUser(hash(refreshToken))
+                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
+        if (current.isRevoked() || current.getExpiresAt().isBefore(Instant.now())) {
+            throw new RuntimeException("Refresh token has expired or been revoked");
+        }
+        // The conditional update lets only one of two concurrent renewals win
+        if (refreshTokenRepository.markUsed(current.getId(), Instant.now()) == 0) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            throw new RefreshTokenReuseException("Refresh token was already used; all sessions of this login were revoked");
+        }
+
+        CustomUserDetails userDetails = new CustomUserDetails(current.getUser());
+        String accessToken = jwtUtil.generateToken(userDetails, userDetails.getRole());
+        String nextRefreshToken = createToken(current.getFamilyId(), current.getUser());
+        return new JwtResponse(accessToken, userDetails.getRole(), userDetails.getUserId(),
+                nextRefreshToken, jwtUtil.getExpirationMillis() / 1000);
+    }
+
+    @Override
+    public void revokeRefreshToken(String refreshToken) {
+        refreshTokenRepository.findByTokenHashWithUser(hash(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    @Override
+    public int compactRefreshTokens() {
+        return refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        // New phone or password: sessions started with the old credentials end with them.
+        // Removed users take their tokens along by cascade.
+        if (event.isCredentialsChanged()) {
+            refreshTokenRepository.revokeAllByUserId(event.getUserId());
+        }
+    }
+
+    private String createToken(String familyId, User user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(new RefreshToken(hash(token), familyId, user,
+                Instant.now().plusMillis(refreshExpiration)));
+        return token;
+    }
+
+    private static String hash(String token) {
+        if (token == null || token.isBlank()) {
+            throw new RuntimeException("Refresh token is required");
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.service.interfaces.RevokedTokenService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the in-memory token revocation list in step with revoked_tokens, which picks up
+ * logouts handled by other instances, and deletes revocations of tokens that have expired.
+ */
+@Component
+public class RevokedTokenRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(RevokedTokenRefresher.class);
+
+    @Autowired
+    private RevokedTokenService revokedTokenService;
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-ms:30000}",
+            initialDelayString = "${jwt.revocation.refresh-interval-ms:30000}")
+    public void refreshRevocations() {
+        try {
+            revokedTokenService.refreshRevocations();
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh token revocations", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.compaction-interval-ms:3600000}",
+            initialDelayString = "${jwt.revocation.compaction-interval-ms:3600000}")
+    public void compactRevocations() {
+        try {
+            int deleted = revokedTokenService.compactRevocations();
+            if (deleted > 0) {
+                log.info("Deleted {} expired token revocations", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to compact token revocations", e);
+        }
+    }
+}
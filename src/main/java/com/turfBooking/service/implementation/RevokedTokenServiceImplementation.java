@@ -0,0 +1,184 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.RevokedToken;
+import com.turfBooking.repository.RevokedTokenRepository;
+import com.turfBooking.repository.UserRevocationRepository;
+import com.turfBooking.service.interfaces.RevokedTokenService;
+import com.turfBooking.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Persisted token revocations (revoked_tokens) mirrored in memory, so the request filter
+ * never queries for them. A Bloom filter answers the common "not revoked" case; its
+ * positives are confirmed against an exact set. Both are rebuilt from the table on every
+ * refresh, which is how revocations made on other instances arrive. Revocations made here
+ * are applied after commit and carried over any refresh that may have read before them.
+ */
+@Service
+@Transactional
+public class RevokedTokenServiceImplementation implements RevokedTokenService {
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private UserRevocationRepository userRevocationRepository;
+
+    @Value("${jwt.expiration:900000}")
+    private long tokenLifetimeMillis;
+
+    @Value("${jwt.revocation.bloom-expected-entries:100000}")
+    private int bloomExpectedEntries;
+
+    @Value("${jwt.revocation.bloom-false-positive-rate:0.01}")
+    private double bloomFalsePositiveRate;
+
+    private volatile Revocations revocations;
+
+    // Guards swapping revocations and the local revocations a refresh must carry over
+    private final Object lock = new Object();
+    private final Map<String, LocalRevocation> localRevocations = new HashMap<>();
+    private long localSequence;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder bloomPositives = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        refreshRevocations();
+    }
+
+    @Override
+    public boolean revokeToken(String jti, Date expiresAt) {
+        if (jti == null) {
+            return false;
+        }
+        if (!revokedTokenRepository.existsByJti(jti)) {
+            revokedTokenRepository.save(new RevokedToken(jti, expiresAt.toInstant()));
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyLocally(jti, expiresAt.toInstant());
+                }
+            });
+        } else {
+            applyLocally(jti, expiresAt.toInstant());
+        }
+        return true;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public boolean isRevoked(String jti) {
+        checks.increment();
+        Revocations current = revocations;
+        if (!current.filter.mightContain(jti)) {
+            return false;
+        }
+        bloomPositives.increment();
+        boolean revoked = current.jtis.contains(jti);
+        if (revoked) {
+            rejections.increment();
+        }
+        return revoked;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void refreshRevocations() {
+        long sequenceBeforeLoad;
+        synchronized (lock) {
+            sequenceBeforeLoad = localSequence;
+        }
+
+        Instant now = Instant.now();
+        List<String> jtis = revokedTokenRepository.findUnexpiredJtis(now);
+        Revocations loaded = new Revocations(Math.max(bloomExpectedEntries, jtis.size() * 2), bloomFalsePositiveRate);
+        jtis.forEach(loaded::add);
+
+        synchronized (lock) {
+            // Revocations committed before the load started are in it; later ones are carried over
+            localRevocations.values().removeIf(revocation ->
+                    revocation.sequence <= sequenceBeforeLoad || revocation.expiresAt.isBefore(now));
+            localRevocations.keySet().forEach(loaded::add);
+            revocations = loaded;
+        }
+    }
+
+    @Override
+    public int compactRevocations() {
+        Instant now = Instant.now();
+        // A user removal only matters while a token issued before it could be unexpired
+        return revokedTokenRepository.deleteExpired(now)
+                + userRevocationRepository.deleteRevokedBefore(now.minusMillis(tokenLifetimeMillis));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, Number> getStatistics() {
+        long checkCount = checks.sum();
+        long positives = bloomPositives.sum();
+        long rejected = rejections.sum();
+        Map<String, Number> statistics = new LinkedHashMap<>();
+        statistics.put("size", revocations.jtis.size());
+        statistics.put("checks", checkCount);
+        statistics.put("bloomPositives", positives);
+        statistics.put("falsePositives", positives - rejected);
+        statistics.put("rejections", rejected);
+        return statistics;
+    }
+
+    private void applyLocally(String jti, Instant expiresAt) {
+        synchronized (lock) {
+            localRevocations.put(jti, new LocalRevocation(++localSequence, expiresAt));
+            revocations.add(jti);
+        }
+    }
+
+    private static final class Revocations {
+
+        private final BloomFilter filter;
+        private final Set<String> jtis = ConcurrentHashMap.newKeySet();
+
+        private Revocations(int expectedEntries, double falsePositiveRate) {
+            this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+        }
+
+        // Exact set first, so a lookup that passes the filter always finds the entry
+        private void add(String jti) {
+            jtis.add(jti);
+            filter.add(jti);
+        }
+    }
+
+    private static final class LocalRevocation {
+
+        private final long sequence;
+        private final Instant expiresAt;
+
+        private LocalRevocation(long sequence, Instant expiresAt) {
+            this.sequence = sequence;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
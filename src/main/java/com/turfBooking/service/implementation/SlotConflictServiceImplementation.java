@@ -0,0 +1,93 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.BookingSeries;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.repository.BookingSeriesRepository;
+import com.turfBooking.service.interfaces.SlotConflictService;
+import com.turfBooking.service.interfaces.SlotIndexService;
+import com.turfBooking.util.DaySlotBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The single place that decides whether a slot is taken. Everything that can occupy a
+ * slot - confirmed bookings, blocked slots and unmaterialized series occurrences - is
+ * considered on every path, with the same half-open [start, end) overlap rule.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SlotConflictServiceImplementation implements SlotConflictService {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingSeriesRepository bookingSeriesRepository;
+
+    @Autowired
+    private SlotIndexService slotIndexService;
+
+    @Override
+    public boolean isSlotFree(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return slotIndexService.isSlotFree(turfId, date, startTime, endTime);
+    }
+
+    @Override
+    public boolean hasConflict(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime, Long excludeBookingId) {
+        return bookingRepository.existsSlotConflict(turfId, date, startTime, endTime, excludeBookingId);
+    }
+
+    @Override
+    public Set<Long> findBusyTurfIds(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return new HashSet<>(bookingRepository.findTurfIdsBusyDuring(date, startTime, endTime));
+    }
+
+    @Override
+    public Map<Long, DaySlotBitmap> loadBusyTurfsOnDate(LocalDate date) {
+        Map<Long, DaySlotBitmap.Builder> builders = new HashMap<>();
+        for (Object[] row : bookingRepository.findBusyTimesOfAllTurfsOnDate(date)) {
+            builders.computeIfAbsent((Long) row[0], id -> DaySlotBitmap.builder())
+                    .addBusy((LocalTime) row[1], (LocalTime) row[2]);
+        }
+
+        Map<Long, DaySlotBitmap> busyTurfs = new HashMap<>();
+        builders.forEach((turfId, builder) -> busyTurfs.put(turfId, builder.build()));
+        return busyTurfs;
+    }
+
+    @Override
+    public Map<Long, Map<LocalDate, DaySlotBitmap>> loadBusyDays(Collection<Long> turfIds, LocalDate startDate, LocalDate endDate) {
+        // One set-based query for every booked and blocked interval of every turf and day
+        Map<Long, Map<LocalDate, DaySlotBitmap.Builder>> builders = new HashMap<>();
+        for (Object[] row : bookingRepository.findBusyTimesForTurfsBetween(turfIds, startDate, endDate)) {
+            builders.computeIfAbsent((Long) row[0], id -> new HashMap<>())
+                    .computeIfAbsent((LocalDate) row[1], date -> DaySlotBitmap.builder())
+                    .addBusy((LocalTime) row[2], (LocalTime) row[3]);
+        }
+
+        // Recurring series occurrences not yet written as bookings, expanded only within the range
+        for (BookingSeries series : bookingSeriesRepository.findActiveForTurfsBetween(turfIds, startDate, endDate)) {
+            Map<LocalDate, DaySlotBitmap.Builder> busyByDate = builders.computeIfAbsent(series.getTurf().getId(), id -> new HashMap<>());
+            series.pendingOccurrencesBetween(startDate, endDate)
+                    .forEach(date -> busyByDate.computeIfAbsent(date, d -> DaySlotBitmap.builder())
+                            .addBusy(series.getSlotStartTime(), series.getSlotEndTime()));
+        }
+
+        Map<Long, Map<LocalDate, DaySlotBitmap>> busyDays = new HashMap<>();
+        for (Long turfId : turfIds) {
+            Map<LocalDate, DaySlotBitmap> days = new HashMap<>();
+            builders.getOrDefault(turfId, Map.of()).forEach((date, builder) -> days.put(date, builder.build()));
+            busyDays.put(turfId, days);
+        }
+        return busyDays;
+    }
+}
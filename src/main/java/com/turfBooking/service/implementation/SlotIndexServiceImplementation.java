@@ -0,0 +1,340 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.BookingSeries;
+import com.turfBooking.event.BlockedSlotChangedEvent;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSeriesChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
+import com.turfBooking.event.TurfChangedEvent;
+import com.turfBooking.event.UserChangedEvent;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.repository.BookingSeriesRepository;
+import com.turfBooking.service.interfaces.SlotIndexService;
+import com.turfBooking.util.DaySlotBitmap;
+import com.turfBooking.util.IntervalTree;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory availability index holding one {@link IntervalTree} per turf over a rolling
+ * window (today to today + horizon). A window is loaded with one range query on first
+ * access and then kept current from booking, blocked slot and series change events,
+ * applied only after commit: each write inserts or removes exactly its own interval.
+ * Days outside the window are read from the database.
+ */
+@Service
+public class SlotIndexServiceImplementation implements SlotIndexService {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingSeriesRepository bookingSeriesRepository;
+
+    @Value("${slot-index.horizon-days:60}")
+    private int horizonDays;
+
+    @Value("${slot-index.max-turfs:5000}")
+    private int maxTurfs;
+
+    @Value("${slot-index.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final Map<Long, TurfWindow> windows = new ConcurrentHashMap<>();
+
+    // Bumped on every write to a turf so a load of that turf that raced with a commit is never cached;
+    // kept for every turf written since startup, which is bounded by the catalog
+    private final Map<Long, AtomicLong> turfModifications = new ConcurrentHashMap<>();
+
+    // Bumped when every window is dropped at once
+    private final AtomicLong allModifications = new AtomicLong();
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isSlotFree(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        TurfWindow window = getWindow(turfId, date);
+        if (window == null) {
+            return loadDay(turfId, date).isFree(startTime, endTime);
+        }
+        long from = toIndexMinute(date, DaySlotBitmap.floorMinute(startTime));
+        long to = toIndexMinute(date, DaySlotBitmap.ceilMinute(endTime));
+        return from < to && !window.overlapsAny(from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DaySlotBitmap getDay(Long turfId, LocalDate date) {
+        TurfWindow window = getWindow(turfId, date);
+        if (window == null) {
+            return loadDay(turfId, date);
+        }
+        long dayStart = toIndexMinute(date, 0);
+        DaySlotBitmap.Builder builder = DaySlotBitmap.builder();
+        window.forEachOverlapping(dayStart, dayStart + DaySlotBitmap.MINUTES_PER_DAY, (start, end, entry) ->
+                builder.addBusy((int) (start - dayStart), (int) (end - dayStart)));
+        return builder.build();
+    }
+
+    @Override
+    public void invalidateTurf(Long turfId) {
+        modified(turfId);
+        windows.remove(turfId);
+    }
+
+    @Override
+    public void invalidateAll() {
+        allModifications.incrementAndGet();
+        windows.clear();
+    }
+
+    @Override
+    public int size() {
+        return windows.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        BookingSnapshot previous = event.getPrevious();
+        BookingSnapshot current = event.getCurrent();
+        if (previous != null) {
+            modified(previous.getTurfId());
+        }
+        if (current != null && (previous == null || !current.getTurfId().equals(previous.getTurfId()))) {
+            modified(current.getTurfId());
+        }
+
+        if (previous != null && previous.isConfirmed()) {
+            if (current != null && current.isConfirmed() && current.occupiesSameSlot(previous)) {
+                return;
+            }
+            apply(previous.getTurfId(), window -> window.remove(BusySource.BOOKING, previous.getId(),
+                    previous.getBookingDate(), previous.getSlotStartTime(), previous.getSlotEndTime()));
+        }
+
+        if (current != null && current.isConfirmed()) {
+            apply(current.getTurfId(), window -> {
+                // A materialized series occurrence now covers the date as a booking instead of as the rule
+                if (previous == null && current.getSeriesId() != null) {
+                    window.remove(BusySource.SERIES, current.getSeriesId(),
+                            current.getBookingDate(), current.getSlotStartTime(), current.getSlotEndTime());
+                }
+                window.add(BusySource.BOOKING, current.getId(),
+                        current.getBookingDate(), current.getSlotStartTime(), current.getSlotEndTime());
+            });
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlockedSlotChanged(BlockedSlotChangedEvent event) {
+        modified(event.getTurfId());
+        apply(event.getTurfId(), window -> {
+            if (event.isRemoved()) {
+                window.remove(BusySource.BLOCKED_SLOT, event.getBlockedSlotId(),
+                        event.getBlockedDate(), event.getStartTime(), event.getEndTime());
+            } else {
+                window.add(BusySource.BLOCKED_SLOT, event.getBlockedSlotId(),
+                        event.getBlockedDate(), event.getStartTime(), event.getEndTime());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingSeriesChanged(BookingSeriesChangedEvent event) {
+        // A series touches many dates of the turf at once
+        invalidateTurf(event.getTurfId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTurfChanged(TurfChangedEvent event) {
+        if (event.isRemoved()) {
+            invalidateTurf(event.getTurfId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        // Deleting a user cascades to their bookings and turfs
+        if (event.isRemoved()) {
+            invalidateAll();
+        }
+    }
+
+    // Returns the turf's window when the date falls inside it, loading or reloading it as needed
+    private TurfWindow getWindow(Long turfId, LocalDate date) {
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(horizonDays);
+        if (date.isBefore(today) || date.isAfter(horizon)) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        TurfWindow cached = windows.get(turfId);
+        if (cached != null && cached.covers(today, horizon) && !cached.isExpired(now, ttlSeconds)) {
+            cached.lastUsed = now;
+            return cached;
+        }
+
+        AtomicLong modifications = turfModifications.computeIfAbsent(turfId, id -> new AtomicLong());
+        long modificationsBeforeLoad = modifications.get();
+        long allModificationsBeforeLoad = allModifications.get();
+        TurfWindow window = loadWindow(turfId, today, horizon, now);
+        windows.compute(turfId, (id, existing) -> modifications.get() == modificationsBeforeLoad
+                && allModifications.get() == allModificationsBeforeLoad ? window : existing);
+        if (windows.size() > maxTurfs) {
+            evictWindows(today, horizon, now);
+        }
+        return window;
+    }
+
+    // Drop outdated and expired windows, then the least recently used ones. Trimming to nine tenths
+    // of the bound keeps the next loads from scanning again straight away.
+    private void evictWindows(LocalDate today, LocalDate horizon, long now) {
+        windows.values().removeIf(window -> !window.covers(today, horizon) || window.isExpired(now, ttlSeconds));
+        int excess = windows.size() - (maxTurfs - maxTurfs / 10);
+        if (excess > 0) {
+            windows.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsed))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList())
+                    .forEach(windows::remove);
+        }
+    }
+
+    private TurfWindow loadWindow(Long turfId, LocalDate from, LocalDate to, long now) {
+        TurfWindow window = new TurfWindow(from, to, now);
+        for (Object[] row : bookingRepository.findBusyIntervalsForTurfBetween(turfId, from, to)) {
+            BusySource source = ((Number) row[0]).intValue() == 0 ? BusySource.BOOKING : BusySource.BLOCKED_SLOT;
+            window.add(source, (Long) row[1], (LocalDate) row[2], (LocalTime) row[3], (LocalTime) row[4]);
+        }
+
+        // Recurring series occurrences not yet written as bookings
+        for (BookingSeries series : bookingSeriesRepository.findActiveForTurfsBetween(List.of(turfId), from, to)) {
+            series.pendingOccurrencesBetween(from, to).forEach(date -> window.add(BusySource.SERIES, series.getId(),
+                    date, series.getSlotStartTime(), series.getSlotEndTime()));
+        }
+        return window;
+    }
+
+    private void modified(Long turfId) {
+        turfModifications.computeIfAbsent(turfId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    private void apply(Long turfId, Consumer<TurfWindow> change) {
+        TurfWindow window = windows.get(turfId);
+        if (window != null) {
+            change.accept(window);
+        }
+    }
+
+    private DaySlotBitmap loadDay(Long turfId, LocalDate date) {
+        DaySlotBitmap.Builder builder = DaySlotBitmap.builder();
+        for (Object[] row : bookingRepository.findBusyTimesOnDate(turfId, date)) {
+            builder.addBusy((LocalTime) row[0], (LocalTime) row[1]);
+        }
+        return builder.build();
+    }
+
+    // Dates and times map onto one minute axis so a single tree spans the whole window
+    private static long toIndexMinute(LocalDate date, int minuteOfDay) {
+        return date.toEpochDay() * DaySlotBitmap.MINUTES_PER_DAY + minuteOfDay;
+    }
+
+    private enum BusySource { BOOKING, BLOCKED_SLOT, SERIES }
+
+    private static final class BusyEntry {
+
+        private static final Comparator<BusyEntry> ORDER =
+                Comparator.comparing((BusyEntry entry) -> entry.source).thenComparing(entry -> entry.id);
+
+        private final BusySource source;
+        private final Long id;
+
+        private BusyEntry(BusySource source, Long id) {
+            this.source = source;
+            this.id = id;
+        }
+    }
+
+    private static final class TurfWindow {
+
+        private final LocalDate from;
+        private final LocalDate to;
+        private final long loadedAt;
+        private final IntervalTree<BusyEntry> intervals = new IntervalTree<>(BusyEntry.ORDER);
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile long lastUsed;
+
+        private TurfWindow(LocalDate from, LocalDate to, long loadedAt) {
+            this.from = from;
+            this.to = to;
+            this.loadedAt = loadedAt;
+            this.lastUsed = loadedAt;
+        }
+
+        private boolean covers(LocalDate today, LocalDate horizon) {
+            return from.equals(today) && to.equals(horizon);
+        }
+
+        // Expiry bounds staleness from writes made by other application instances
+        private boolean isExpired(long now, long ttlSeconds) {
+            return now - loadedAt > ttlSeconds * 1000;
+        }
+
+        private boolean overlapsAny(long fromMinute, long toMinute) {
+            lock.readLock().lock();
+            try {
+                return intervals.overlapsAny(fromMinute, toMinute);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void forEachOverlapping(long fromMinute, long toMinute, IntervalTree.Visitor<BusyEntry> visitor) {
+            lock.readLock().lock();
+            try {
+                intervals.forEachOverlapping(fromMinute, toMinute, visitor);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void add(BusySource source, Long id, LocalDate date, LocalTime startTime, LocalTime endTime) {
+            if (date.isBefore(from) || date.isAfter(to)) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                intervals.add(toIndexMinute(date, DaySlotBitmap.floorMinute(startTime)),
+                        toIndexMinute(date, DaySlotBitmap.ceilMinute(endTime)), new BusyEntry(source, id));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void remove(BusySource source, Long id, LocalDate date, LocalTime startTime, LocalTime endTime) {
+            lock.writeLock().lock();
+            try {
+                intervals.remove(toIndexMinute(date, DaySlotBitmap.floorMinute(startTime)),
+                        toIndexMinute(date, DaySlotBitmap.ceilMinute(endTime)), new BusyEntry(source, id));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
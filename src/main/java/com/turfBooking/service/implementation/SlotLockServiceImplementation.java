@@ -0,0 +1,84 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.Turf;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.service.interfaces.SlotLockService;
+import com.turfBooking.util.StripedLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Two-level admission lock for booking writes. Striped in-process locks keyed by
+ * (turf, date) keep conflicting requests on this instance off the database, and a
+ * SELECT ... FOR UPDATE on the turf row serializes writers across instances.
+ * Both are held until the surrounding transaction commits or rolls back.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class SlotLockServiceImplementation implements SlotLockService {
+
+    @Autowired
+    private StripedLock bookingSlotLocks;
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Value("${booking.lock.timeout-ms:5000}")
+    private long lockTimeoutMs;
+
+    @Override
+    public Turf lockTurfDates(Long turfId, Collection<LocalDate> dates) {
+        acquireStripes(dates.stream()
+                .map(date -> List.<Object>of(turfId, date))
+                .collect(Collectors.toList()));
+
+        return turfRepository.findByIdForUpdate(turfId)
+                .orElseThrow(() -> new RuntimeException("Turf not found with id: " + turfId));
+    }
+
+    @Override
+    public Map<Long, Turf> lockTurfDates(Map<Long, ? extends Collection<LocalDate>> datesByTurf) {
+        acquireStripes(datesByTurf.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream().map(date -> List.<Object>of(entry.getKey(), date)))
+                .collect(Collectors.toList()));
+
+        // Rows are locked in primary key order, so concurrent batches cannot deadlock on each other
+        return turfRepository.findAllByIdForUpdate(new TreeSet<>(datesByTurf.keySet()))
+                .stream()
+                .collect(Collectors.toMap(Turf::getId, Function.identity()));
+    }
+
+    // Take all stripes in one ordered pass and hold them until the transaction completes
+    private void acquireStripes(List<List<Object>> keys) {
+        List<Lock> locks;
+        try {
+            locks = bookingSlotLocks.tryLockAll(keys, lockTimeoutMs, TimeUnit.MILLISECONDS)
+                    .orElseThrow(() -> new RuntimeException("Time slot is being booked by another request, please retry"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for slot lock", e);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                StripedLock.unlockAll(locks);
+            }
+        });
+    }
+}
@@ -0,0 +1,369 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.SportType;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSeriesChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
+import com.turfBooking.event.TurfChangedEvent;
+import com.turfBooking.event.UserChangedEvent;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.repository.UserRepository;
+import com.turfBooking.service.interfaces.StatisticsCounterService;
+import com.turfBooking.util.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-memory counters behind the statistics endpoints: bookings per status, turf, owner,
+ * sport type and booking date, turfs per sport type and owner, and users per role. They are
+ * counted with a handful of grouped queries on first use and then kept current from booking,
+ * turf and user change events, applied only after commit: each write adjusts just the counts
+ * it moves. Bulk changes (series cancellation, cascading deletes) drop the counters for a
+ * recount. Per-user booking counts are loaded one user at a time into a bounded cache.
+ *
+ * One recount runs at a time; readers of expired counters keep them meanwhile. A recount
+ * that a commit raced may or may not include that write, so it is retried a few times; if
+ * writes keep racing, the last one is installed anyway but recounted again after a tenth
+ * of the usual period.
+ */
+@Service
+public class StatisticsCounterServiceImplementation implements StatisticsCounterService {
+
+    private static final int MAX_RECOUNT_ATTEMPTS = 3;
+
+    private final BookingRepository bookingRepository;
+    private final TurfRepository turfRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate refreshTransaction;
+    private final long ttlSeconds;
+    private final BoundedCache<Long, Long> userBookingCounts;
+
+    private volatile Counters counters;
+
+    // Bumped on every write so a recount that raced with a commit is detected
+    private final AtomicLong modifications = new AtomicLong();
+
+    private final Lock recountLock = new ReentrantLock();
+
+    public StatisticsCounterServiceImplementation(BookingRepository bookingRepository,
+                                                  TurfRepository turfRepository,
+                                                  UserRepository userRepository,
+                                                  PlatformTransactionManager transactionManager,
+                                                  @Value("${statistics.ttl-seconds:900}") long ttlSeconds,
+                                                  @Value("${statistics.max-users:10000}") int maxUsers) {
+        this.bookingRepository = bookingRepository;
+        this.turfRepository = turfRepository;
+        this.userRepository = userRepository;
+        this.ttlSeconds = ttlSeconds;
+        this.userBookingCounts = new BoundedCache<>(maxUsers, ttlSeconds * 1000);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Events are handled after the publishing transaction has committed, so refreshes need their own
+        this.refreshTransaction = new TransactionTemplate(transactionManager);
+        this.refreshTransaction.setReadOnly(true);
+        this.refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public Map<BookingStatus, Long> getBookingCountsByStatus() {
+        return getCounters().read(current -> withZeros(BookingStatus.class, BookingStatus.values(), current.bookingsByStatus));
+    }
+
+    @Override
+    public Map<SportType, Long> getBookingCountsBySportType() {
+        return getCounters().read(current -> withZeros(SportType.class, SportType.values(), current.bookingsBySportType));
+    }
+
+    @Override
+    public long getBookingCountByTurf(Long turfId) {
+        return getCounters().read(current -> current.bookingsByTurf.getOrDefault(turfId, 0L));
+    }
+
+    @Override
+    public long getBookingCountByOwner(Long ownerId) {
+        return getCounters().read(current -> current.bookingsByOwner.getOrDefault(ownerId, 0L));
+    }
+
+    @Override
+    public long getBookingCountByUser(Long userId) {
+        return userBookingCounts.get(userId, () ->
+                readOnlyTransaction.execute(status -> bookingRepository.countByUserId(userId)));
+    }
+
+    @Override
+    public long getBookingCountBetween(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            return 0;
+        }
+        return getCounters().read(current -> current.bookingsByDate.subMap(startDate, true, endDate, true)
+                .values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Override
+    public boolean containsTurf(Long turfId) {
+        return getCounters().read(current -> current.turfs.containsKey(turfId));
+    }
+
+    @Override
+    public Map<SportType, Long> getTurfCountsBySportType() {
+        return getCounters().read(current -> withZeros(SportType.class, SportType.values(), current.turfsBySportType));
+    }
+
+    @Override
+    public long getTurfCountByOwner(Long ownerId) {
+        return getCounters().read(current -> current.turfsByOwner.getOrDefault(ownerId, 0L));
+    }
+
+    @Override
+    public Map<UserRole, Long> getUserCountsByRole() {
+        return getCounters().read(current -> withZeros(UserRole.class, UserRole.values(), current.usersByRole));
+    }
+
+    @Override
+    public void invalidateAll() {
+        modifications.incrementAndGet();
+        counters = null;
+        userBookingCounts.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        modifications.incrementAndGet();
+        BookingSnapshot previous = event.getPrevious();
+        BookingSnapshot current = event.getCurrent();
+        if (previous != null) {
+            userBookingCounts.invalidate(previous.getUserId());
+        }
+        if (current != null && (previous == null || !current.getUserId().equals(previous.getUserId()))) {
+            userBookingCounts.invalidate(current.getUserId());
+        }
+
+        Counters loaded = counters;
+        if (loaded == null) {
+            return;
+        }
+        loaded.write(() -> {
+            if (previous != null) {
+                loaded.addBooking(previous, -1);
+            }
+            if (current != null) {
+                loaded.addBooking(current, 1);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingSeriesChanged(BookingSeriesChangedEvent event) {
+        // Cancelling a series updates the statuses of its future bookings in bulk, without booking events
+        modifications.incrementAndGet();
+        counters = null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTurfChanged(TurfChangedEvent event) {
+        if (event.isRemoved()) {
+            // Deleting a turf cascades to its bookings
+            invalidateAll();
+            return;
+        }
+        modifications.incrementAndGet();
+        Counters loaded = counters;
+        if (loaded == null) {
+            return;
+        }
+        List<Object[]> rows = refreshTransaction.execute(status ->
+                turfRepository.findOwnerIdAndTypeById(event.getTurfId()));
+        if (rows == null || rows.isEmpty()) {
+            invalidateAll();
+            return;
+        }
+        Object[] row = rows.get(0);
+        loaded.write(() -> loaded.putTurf((Long) row[0], (Long) row[1], (SportType) row[2]));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.isRemoved()) {
+            // Deleting a user cascades to their bookings and turfs
+            invalidateAll();
+            return;
+        }
+        if (!event.isCreated()) {
+            // Roles never change, and nothing else about a user is counted
+            return;
+        }
+        modifications.incrementAndGet();
+        Counters loaded = counters;
+        if (loaded != null) {
+            loaded.write(() -> add(loaded.usersByRole, event.getRole(), 1));
+        }
+    }
+
+    // Returns the loaded counters, counting them or recounting them as needed
+    private Counters getCounters() {
+        Counters cached = counters;
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return cached;
+        }
+        if (cached != null) {
+            if (!recountLock.tryLock()) {
+                // Another reader is recounting; these are still kept current by events
+                return cached;
+            }
+        } else {
+            recountLock.lock();
+        }
+        try {
+            Counters current = counters;
+            if (current != null && current != cached && !current.isExpired(System.currentTimeMillis())) {
+                return current;
+            }
+            for (int attempt = 1; ; attempt++) {
+                long modificationsBeforeLoad = modifications.get();
+                long startedAt = System.currentTimeMillis();
+                Counters loaded = count();
+                boolean raced = modifications.get() != modificationsBeforeLoad;
+                if (!raced || attempt == MAX_RECOUNT_ATTEMPTS) {
+                    loaded.expiresAt = startedAt + (raced ? ttlSeconds * 100 : ttlSeconds * 1000);
+                    counters = loaded;
+                    return loaded;
+                }
+            }
+        } finally {
+            recountLock.unlock();
+        }
+    }
+
+    private Counters count() {
+        Counters loaded = new Counters();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            for (Object[] row : turfRepository.findOwnerIdsAndTypes()) {
+                loaded.putTurf((Long) row[0], (Long) row[1], (SportType) row[2]);
+            }
+            for (Object[] row : bookingRepository.countGroupedByTurfAndStatus()) {
+                loaded.addBookings((Long) row[0], (BookingStatus) row[1], (Long) row[2]);
+            }
+            for (Object[] row : bookingRepository.countGroupedByBookingDate()) {
+                add(loaded.bookingsByDate, (LocalDate) row[0], (Long) row[1]);
+            }
+            for (Object[] row : userRepository.countGroupedByRole()) {
+                add(loaded.usersByRole, (UserRole) row[0], (Long) row[1]);
+            }
+        });
+        return loaded;
+    }
+
+    private static <K extends Enum<K>> Map<K, Long> withZeros(Class<K> type, K[] keys, Map<K, Long> counts) {
+        Map<K, Long> result = new EnumMap<>(type);
+        for (K key : keys) {
+            result.put(key, counts.getOrDefault(key, 0L));
+        }
+        return result;
+    }
+
+    // Adds delta to the key's count, dropping counts that fall to zero
+    private static <K> void add(Map<K, Long> counts, K key, long delta) {
+        counts.merge(key, delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+
+    private static final class Counters {
+
+        private volatile long expiresAt;
+        private final Map<Long, TurfEntry> turfs = new HashMap<>();
+        private final Map<SportType, Long> turfsBySportType = new EnumMap<>(SportType.class);
+        private final Map<Long, Long> turfsByOwner = new HashMap<>();
+        private final Map<BookingStatus, Long> bookingsByStatus = new EnumMap<>(BookingStatus.class);
+        private final Map<SportType, Long> bookingsBySportType = new EnumMap<>(SportType.class);
+        private final Map<Long, Long> bookingsByTurf = new HashMap<>();
+        private final Map<Long, Long> bookingsByOwner = new HashMap<>();
+        private final TreeMap<LocalDate, Long> bookingsByDate = new TreeMap<>();
+        private final Map<UserRole, Long> usersByRole = new EnumMap<>(UserRole.class);
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        // Expiry bounds drift from writes made by other application instances
+        private boolean isExpired(long now) {
+            return now > expiresAt;
+        }
+
+        private <T> T read(Function<Counters, T> reader) {
+            lock.readLock().lock();
+            try {
+                return reader.apply(this);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void write(Runnable writer) {
+            lock.writeLock().lock();
+            try {
+                writer.run();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // Records the turf's owner and sport type, moving its bookings along if either changed
+        private void putTurf(Long turfId, Long ownerId, SportType type) {
+            TurfEntry previous = turfs.put(turfId, new TurfEntry(ownerId, type));
+            long bookings = bookingsByTurf.getOrDefault(turfId, 0L);
+            if (previous != null) {
+                add(turfsBySportType, previous.type, -1);
+                add(turfsByOwner, previous.ownerId, -1);
+                add(bookingsBySportType, previous.type, -bookings);
+                add(bookingsByOwner, previous.ownerId, -bookings);
+            }
+            add(turfsBySportType, type, 1);
+            add(turfsByOwner, ownerId, 1);
+            add(bookingsBySportType, type, bookings);
+            add(bookingsByOwner, ownerId, bookings);
+        }
+
+        private void addBooking(BookingSnapshot booking, long delta) {
+            addBookings(booking.getTurfId(), booking.getStatus(), delta);
+            add(bookingsByDate, booking.getBookingDate(), delta);
+        }
+
+        private void addBookings(Long turfId, BookingStatus status, long delta) {
+            add(bookingsByStatus, status, delta);
+            add(bookingsByTurf, turfId, delta);
+            TurfEntry turf = turfs.get(turfId);
+            if (turf != null) {
+                add(bookingsBySportType, turf.type, delta);
+                add(bookingsByOwner, turf.ownerId, delta);
+            }
+        }
+    }
+
+    private static final class TurfEntry {
+
+        private final Long ownerId;
+        private final SportType type;
+
+        private TurfEntry(Long ownerId, SportType type) {
+            this.ownerId = ownerId;
+            this.type = type;
+        }
+    }
+}
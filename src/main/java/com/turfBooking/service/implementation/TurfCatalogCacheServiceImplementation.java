@@ -0,0 +1,125 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.dto.TurfResponseDTO;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.event.BlockedSlotChangedEvent;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSeriesChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
+import com.turfBooking.event.TurfChangedEvent;
+import com.turfBooking.event.UserChangedEvent;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.service.interfaces.TurfCatalogCacheService;
+import com.turfBooking.util.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Read cache for the turf catalog. Single turfs carry booking and blocked slot counts,
+ * so they are dropped when those change; listings hold catalog fields only and are
+ * dropped on any turf change or change to a turf owner. Popularity rankings follow bookings and rely on
+ * the TTL. Hits never open a transaction or touch the connection pool.
+ */
+@Service
+public class TurfCatalogCacheServiceImplementation implements TurfCatalogCacheService {
+
+    private final BoundedCache<Long, TurfResponseDTO> turfs;
+    private final BoundedCache<String, List<TurfResponseDTO>> lists;
+    private final TurfRepository turfRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate refreshTransaction;
+
+    public TurfCatalogCacheServiceImplementation(TurfRepository turfRepository,
+                                                 PlatformTransactionManager transactionManager,
+                                                 @Value("${turf-cache.max-turfs:10000}") int maxTurfs,
+                                                 @Value("${turf-cache.max-lists:1000}") int maxLists,
+                                                 @Value("${turf-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.turfRepository = turfRepository;
+        this.turfs = new BoundedCache<>(maxTurfs, ttlSeconds * 1000);
+        this.lists = new BoundedCache<>(maxLists, ttlSeconds * 1000);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Events are handled after the publishing transaction has committed, so lookups need their own
+        this.refreshTransaction = new TransactionTemplate(transactionManager);
+        this.refreshTransaction.setReadOnly(true);
+        this.refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public TurfResponseDTO getTurf(Long turfId, Supplier<TurfResponseDTO> loader) {
+        return turfs.get(turfId, () -> readOnlyTransaction.execute(status -> loader.get()));
+    }
+
+    @Override
+    public List<TurfResponseDTO> getList(String key, Supplier<List<TurfResponseDTO>> loader) {
+        return lists.get(key, () -> List.copyOf(readOnlyTransaction.execute(status -> loader.get())));
+    }
+
+    @Override
+    public void invalidateAll() {
+        turfs.invalidateAll();
+        lists.invalidateAll();
+    }
+
+    @Override
+    public Map<String, Map<String, Number>> getStatistics() {
+        Map<String, Map<String, Number>> statistics = new LinkedHashMap<>();
+        statistics.put("turfs", turfs.getStatistics());
+        statistics.put("lists", lists.getStatistics());
+        return statistics;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTurfChanged(TurfChangedEvent event) {
+        turfs.invalidate(event.getTurfId());
+        lists.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.isRemoved()) {
+            // Deleting a user cascades to their turfs, or to bookings counted on any turf
+            invalidateAll();
+            return;
+        }
+        // A new user owns nothing yet, and only owners appear in turf responses (name and phone)
+        if (event.isCreated() || event.getRole() != UserRole.TURF_OWNER) {
+            return;
+        }
+        List<Long> turfIds = refreshTransaction.execute(status -> turfRepository.findIdsByOwnerId(event.getUserId()));
+        if (turfIds != null) {
+            turfIds.forEach(turfs::invalidate);
+        }
+        lists.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        // Booking counts of the turf(s) involved have changed
+        for (BookingSnapshot snapshot : new BookingSnapshot[]{event.getPrevious(), event.getCurrent()}) {
+            if (snapshot != null) {
+                turfs.invalidate(snapshot.getTurfId());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlockedSlotChanged(BlockedSlotChangedEvent event) {
+        turfs.invalidate(event.getTurfId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingSeriesChanged(BookingSeriesChangedEvent event) {
+        // Creating or cancelling a series writes or cancels bookings in bulk, without booking events
+        turfs.invalidate(event.getTurfId());
+    }
+}
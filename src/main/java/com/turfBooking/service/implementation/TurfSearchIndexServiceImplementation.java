@@ -0,0 +1,511 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.dto.NearbyTurfDTO;
+import com.turfBooking.dto.TurfResponseDTO;
+import com.turfBooking.dto.TurfSearchDTO;
+import com.turfBooking.dto.TurfSearchResultDTO;
+import com.turfBooking.enums.SportType;
+import com.turfBooking.event.TurfChangedEvent;
+import com.turfBooking.event.UserChangedEvent;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.service.interfaces.TurfSearchIndexService;
+import com.turfBooking.util.GeoGridIndex;
+import com.turfBooking.util.TrigramIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory search index over the turf catalog. The whole catalog is loaded with one
+ * projection query on first use, then kept current from turf and owner change events,
+ * applied only after commit: each write re-reads and re-indexes just the turfs it touched.
+ * Only one load runs at a time; while it runs, searches keep using an expired catalog if
+ * there is one, and the turfs written meanwhile are re-read once the load is installed.
+ * Name and location filters keep their substring semantics; the free-text query is ranked
+ * and typo-tolerant over name, location and description. Turfs with coordinates are also
+ * held in a geographic grid for nearest-first proximity search. Faceted searches count sport
+ * types, price ranges and location words in the same single pass that collects the matches.
+ */
+@Service
+public class TurfSearchIndexServiceImplementation implements TurfSearchIndexService {
+
+    private static final int NAME = 0;
+    private static final int LOCATION = 1;
+
+    // Indexed fields are name, location and description; a word found in the name counts for most
+    private static final double[] FIELD_WEIGHTS = {3.0, 2.0, 1.0};
+
+    private final TurfRepository turfRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate refreshTransaction;
+    private final long ttlSeconds;
+    private final double geoCellDegrees;
+    private final BigDecimal[] priceFacetBounds;
+    private final int locationFacetLimit;
+
+    private volatile Catalog catalog;
+
+    private final Lock loadLock = new ReentrantLock();
+
+    // Turfs and removed owners written while a load runs, applied to it once it is installed;
+    // null when no load runs. Guarded by this
+    private Set<Long> turfsChangedDuringLoad;
+    private Set<Long> ownersRemovedDuringLoad;
+    private boolean invalidatedDuringLoad;
+
+    public TurfSearchIndexServiceImplementation(TurfRepository turfRepository,
+                                                PlatformTransactionManager transactionManager,
+                                                @Value("${turf-search.ttl-seconds:600}") long ttlSeconds,
+                                                @Value("${turf-search.geo-cell-degrees:0.02}") double geoCellDegrees,
+                                                @Value("${turf-search.price-facet-bounds:500,1000,1500,2000}") BigDecimal[] priceFacetBounds,
+                                                @Value("${turf-search.location-facet-limit:20}") int locationFacetLimit) {
+        this.turfRepository = turfRepository;
+        this.ttlSeconds = ttlSeconds;
+        this.geoCellDegrees = geoCellDegrees;
+        this.priceFacetBounds = priceFacetBounds.clone();
+        Arrays.sort(this.priceFacetBounds);
+        this.locationFacetLimit = locationFacetLimit;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Events are handled after the publishing transaction has committed, so refreshes need their own
+        this.refreshTransaction = new TransactionTemplate(transactionManager);
+        this.refreshTransaction.setReadOnly(true);
+        this.refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public List<TurfResponseDTO> search(TurfSearchDTO searchDTO) {
+        return getCatalog().search(searchDTO);
+    }
+
+    @Override
+    public TurfSearchResultDTO searchWithFacets(TurfSearchDTO searchDTO) {
+        return getCatalog().searchWithFacets(searchDTO, priceFacetBounds, locationFacetLimit);
+    }
+
+    @Override
+    public List<TurfResponseDTO> findByNameContaining(String name) {
+        return getCatalog().containing(NAME, name);
+    }
+
+    @Override
+    public List<TurfResponseDTO> findByLocationContaining(String location) {
+        return getCatalog().containing(LOCATION, location);
+    }
+
+    @Override
+    public List<NearbyTurfDTO> findNearby(double latitude, double longitude, double maxDistanceKm, int limit,
+                                          TurfSearchDTO filters) {
+        return getCatalog().nearby(latitude, longitude, maxDistanceKm, limit, filters);
+    }
+
+    @Override
+    public synchronized void invalidateAll() {
+        invalidatedDuringLoad = turfsChangedDuringLoad != null;
+        catalog = null;
+    }
+
+    @Override
+    public int size() {
+        Catalog current = catalog;
+        return current == null ? 0 : current.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTurfChanged(TurfChangedEvent event) {
+        Catalog current;
+        synchronized (this) {
+            if (turfsChangedDuringLoad != null) {
+                turfsChangedDuringLoad.add(event.getTurfId());
+            }
+            current = catalog;
+        }
+        if (current == null) {
+            return;
+        }
+        if (event.isRemoved()) {
+            current.remove(event.getTurfId());
+            return;
+        }
+        refresh(current, event.getTurfId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.isCreated()) {
+            // A new user owns no turfs yet
+            return;
+        }
+        boolean loading;
+        Catalog current;
+        synchronized (this) {
+            loading = turfsChangedDuringLoad != null;
+            if (loading && event.isRemoved()) {
+                ownersRemovedDuringLoad.add(event.getUserId());
+            }
+            current = catalog;
+        }
+        if (event.isRemoved()) {
+            // Deleting a user cascades to their turfs
+            if (current != null) {
+                current.removeOwner(event.getUserId());
+            }
+            return;
+        }
+        if (current == null && !loading) {
+            return;
+        }
+        // Results carry the owner's name and phone
+        List<TurfResponseDTO> turfs = refreshTransaction.execute(status ->
+                turfRepository.findResponsesByOwnerId(event.getUserId()));
+        if (turfs == null) {
+            return;
+        }
+        synchronized (this) {
+            if (turfsChangedDuringLoad != null) {
+                turfs.forEach(turf -> turfsChangedDuringLoad.add(turf.getId()));
+            }
+            // A load may have been installed meanwhile, without this change
+            current = catalog;
+        }
+        if (current != null) {
+            turfs.forEach(current::put);
+        }
+    }
+
+    // Returns the loaded catalog, loading or reloading it as needed
+    private Catalog getCatalog() {
+        Catalog cached = catalog;
+        if (cached != null && !cached.isExpired(System.currentTimeMillis(), ttlSeconds)) {
+            return cached;
+        }
+        // One load at a time: an expired catalog is served until the running reload is installed
+        if (cached != null) {
+            if (!loadLock.tryLock()) {
+                return cached;
+            }
+        } else {
+            loadLock.lock();
+        }
+        try {
+            cached = catalog;
+            if (cached != null && !cached.isExpired(System.currentTimeMillis(), ttlSeconds)) {
+                return cached;
+            }
+            return load();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // Loads the whole catalog, installs it and re-applies the writes made while it loaded
+    private Catalog load() {
+        synchronized (this) {
+            turfsChangedDuringLoad = new HashSet<>();
+            ownersRemovedDuringLoad = new HashSet<>();
+            invalidatedDuringLoad = false;
+        }
+        Set<Long> changedTurfs;
+        Set<Long> removedOwners;
+        Catalog loaded = new Catalog(System.currentTimeMillis(), geoCellDegrees);
+        boolean complete = false;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> turfRepository.findAllResponses().forEach(loaded::put));
+            complete = true;
+        } finally {
+            synchronized (this) {
+                changedTurfs = turfsChangedDuringLoad;
+                removedOwners = ownersRemovedDuringLoad;
+                turfsChangedDuringLoad = null;
+                ownersRemovedDuringLoad = null;
+                // Later writes go straight to the installed catalog
+                if (complete && !invalidatedDuringLoad) {
+                    catalog = loaded;
+                }
+            }
+        }
+        removedOwners.forEach(loaded::removeOwner);
+        changedTurfs.forEach(turfId -> refresh(loaded, turfId));
+        return loaded;
+    }
+
+    // Re-reads one turf into the catalog, or drops it if it no longer exists
+    private void refresh(Catalog current, Long turfId) {
+        Optional<TurfResponseDTO> turf = refreshTransaction.execute(status -> turfRepository.findResponseById(turfId));
+        if (turf != null && turf.isPresent()) {
+            current.put(turf.get());
+        } else {
+            current.remove(turfId);
+        }
+    }
+
+    private static final class Catalog {
+
+        private final long loadedAt;
+        private final Map<Long, TurfResponseDTO> turfs = new HashMap<>();
+        private final Map<Long, Set<String>> locationWords = new HashMap<>();
+        private final TrigramIndex index = new TrigramIndex(3);
+        private final GeoGridIndex locations;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private Catalog(long loadedAt, double geoCellDegrees) {
+            this.loadedAt = loadedAt;
+            this.locations = new GeoGridIndex(geoCellDegrees);
+        }
+
+        // Expiry bounds staleness from writes made by other application instances
+        private boolean isExpired(long now, long ttlSeconds) {
+            return now - loadedAt > ttlSeconds * 1000;
+        }
+
+        private int size() {
+            lock.readLock().lock();
+            try {
+                return turfs.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void put(TurfResponseDTO turf) {
+            lock.writeLock().lock();
+            try {
+                // Refreshes of the same turf may finish out of order; never go back to an older version
+                TurfResponseDTO existing = turfs.get(turf.getId());
+                if (existing != null && existing.getVersion() != null && turf.getVersion() != null
+                        && turf.getVersion() < existing.getVersion()) {
+                    return;
+                }
+                turfs.put(turf.getId(), turf);
+                locationWords.put(turf.getId(), new LinkedHashSet<>(TrigramIndex.tokenize(turf.getLocation())));
+                index.put(turf.getId(), turf.getName(), turf.getLocation(), turf.getDescription());
+                if (turf.getLatitude() != null && turf.getLongitude() != null) {
+                    locations.put(turf.getId(), turf.getLatitude(), turf.getLongitude());
+                } else {
+                    locations.remove(turf.getId());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void remove(Long turfId) {
+            lock.writeLock().lock();
+            try {
+                turfs.remove(turfId);
+                locationWords.remove(turfId);
+                index.remove(turfId);
+                locations.remove(turfId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeOwner(Long ownerId) {
+            lock.writeLock().lock();
+            try {
+                List<Long> owned = turfs.values().stream()
+                        .filter(turf -> ownerId.equals(turf.getOwnerId()))
+                        .map(TurfResponseDTO::getId)
+                        .collect(Collectors.toList());
+                owned.forEach(this::remove);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private List<TurfResponseDTO> containing(int field, String text) {
+            lock.readLock().lock();
+            try {
+                return index.containing(field, text).stream()
+                        .sorted()
+                        .map(turfs::get)
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private List<TurfResponseDTO> search(TurfSearchDTO searchDTO) {
+            lock.readLock().lock();
+            try {
+                Predicate<Long> filters = filters(searchDTO);
+
+                // Without query words the filters alone decide, in ID order
+                if (TrigramIndex.tokenize(searchDTO.getQuery()).isEmpty()) {
+                    return turfs.keySet().stream()
+                            .filter(filters)
+                            .sorted()
+                            .map(turfs::get)
+                            .collect(Collectors.toList());
+                }
+
+                Map<Long, Double> scores = index.rank(searchDTO.getQuery(), FIELD_WEIGHTS);
+                return scores.keySet().stream()
+                        .filter(filters)
+                        .map(turfs::get)
+                        .sorted(bestFirst(scores))
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private TurfSearchResultDTO searchWithFacets(TurfSearchDTO searchDTO, BigDecimal[] priceBounds,
+                                                     int locationLimit) {
+            lock.readLock().lock();
+            try {
+                // Name and query words are not faceted, so they can narrow the pass up front
+                Map<Long, Double> scores = TrigramIndex.tokenize(searchDTO.getQuery()).isEmpty()
+                        ? null : index.rank(searchDTO.getQuery(), FIELD_WEIGHTS);
+                Set<Long> nameMatches = searchDTO.getName() != null ? index.containing(NAME, searchDTO.getName()) : null;
+                Set<Long> locationMatches = searchDTO.getLocation() != null
+                        ? index.containing(LOCATION, searchDTO.getLocation()) : null;
+
+                Map<SportType, Long> typeCounts = new EnumMap<>(SportType.class);
+                for (SportType type : SportType.values()) {
+                    typeCounts.put(type, 0L);
+                }
+                long[] priceCounts = new long[priceBounds.length + 1];
+                Map<String, Long> wordCounts = new HashMap<>();
+                List<TurfResponseDTO> matches = new ArrayList<>();
+
+                for (Long id : scores != null ? scores.keySet() : turfs.keySet()) {
+                    if (nameMatches != null && !nameMatches.contains(id)) {
+                        continue;
+                    }
+                    TurfResponseDTO turf = turfs.get(id);
+                    boolean locationMatch = locationMatches == null || locationMatches.contains(id);
+                    boolean typeMatch = matchesType(turf, searchDTO);
+                    boolean priceMatch = matchesPrice(turf, searchDTO);
+
+                    // Each facet ignores its own filter so the other choices keep their counts
+                    if (locationMatch && priceMatch) {
+                        typeCounts.merge(turf.getType(), 1L, Long::sum);
+                    }
+                    if (locationMatch && typeMatch) {
+                        priceCounts[priceRange(turf.getPricePerSlot(), priceBounds)]++;
+                    }
+                    if (typeMatch && priceMatch) {
+                        for (String word : locationWords.get(id)) {
+                            wordCounts.merge(word, 1L, Long::sum);
+                        }
+                    }
+                    if (locationMatch && typeMatch && priceMatch) {
+                        matches.add(turf);
+                    }
+                }
+
+                matches.sort(scores != null ? bestFirst(scores) : Comparator.comparing(TurfResponseDTO::getId));
+                return new TurfSearchResultDTO(matches, typeCounts, priceRangeCounts(priceCounts, priceBounds),
+                        topLocationCounts(wordCounts, locationLimit));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private List<NearbyTurfDTO> nearby(double latitude, double longitude, double maxDistanceKm, int limit,
+                                           TurfSearchDTO searchDTO) {
+            lock.readLock().lock();
+            try {
+                Predicate<Long> filters = filters(searchDTO);
+                if (!TrigramIndex.tokenize(searchDTO.getQuery()).isEmpty()) {
+                    // Query words narrow the candidates here; the order stays by distance
+                    Set<Long> queryMatches = index.rank(searchDTO.getQuery(), FIELD_WEIGHTS).keySet();
+                    filters = filters.and(queryMatches::contains);
+                }
+                return locations.nearest(latitude, longitude, maxDistanceKm, limit, filters).stream()
+                        .map(neighbour -> new NearbyTurfDTO(turfs.get(neighbour.getId()), neighbour.getDistanceKm()))
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // Name and location substring filters plus the type and price filters, as one test on turf IDs
+        private Predicate<Long> filters(TurfSearchDTO searchDTO) {
+            Set<Long> nameMatches = searchDTO.getName() != null ? index.containing(NAME, searchDTO.getName()) : null;
+            Set<Long> locationMatches = searchDTO.getLocation() != null
+                    ? index.containing(LOCATION, searchDTO.getLocation()) : null;
+            return id -> (nameMatches == null || nameMatches.contains(id))
+                    && (locationMatches == null || locationMatches.contains(id))
+                    && matchesFilters(turfs.get(id), searchDTO);
+        }
+
+        private static boolean matchesFilters(TurfResponseDTO turf, TurfSearchDTO searchDTO) {
+            return matchesType(turf, searchDTO) && matchesPrice(turf, searchDTO);
+        }
+
+        private static boolean matchesType(TurfResponseDTO turf, TurfSearchDTO searchDTO) {
+            return searchDTO.getType() == null || searchDTO.getType() == turf.getType();
+        }
+
+        private static boolean matchesPrice(TurfResponseDTO turf, TurfSearchDTO searchDTO) {
+            return (searchDTO.getMinPrice() == null || turf.getPricePerSlot().compareTo(searchDTO.getMinPrice()) >= 0)
+                    && (searchDTO.getMaxPrice() == null || turf.getPricePerSlot().compareTo(searchDTO.getMaxPrice()) <= 0);
+        }
+
+        // Best score first, then by name and ID for a stable order among equal scores
+        private static Comparator<TurfResponseDTO> bestFirst(Map<Long, Double> scores) {
+            return Comparator
+                    .comparing((TurfResponseDTO turf) -> scores.get(turf.getId()), Comparator.reverseOrder())
+                    .thenComparing(TurfResponseDTO::getName, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(TurfResponseDTO::getId);
+        }
+
+        // Index of the price range holding the price: below the first bound, between two bounds, or above the last
+        private static int priceRange(BigDecimal price, BigDecimal[] bounds) {
+            int range = 0;
+            while (range < bounds.length && price.compareTo(bounds[range]) >= 0) {
+                range++;
+            }
+            return range;
+        }
+
+        // Labels ranges as "0-500", "500-1000", ..., "2000+", lower bound inclusive
+        private static Map<String, Long> priceRangeCounts(long[] counts, BigDecimal[] bounds) {
+            Map<String, Long> labelled = new LinkedHashMap<>();
+            String lower = "0";
+            for (int range = 0; range < bounds.length; range++) {
+                String upper = bounds[range].stripTrailingZeros().toPlainString();
+                labelled.put(lower + "-" + upper, counts[range]);
+                lower = upper;
+            }
+            labelled.put(lower + "+", counts[bounds.length]);
+            return labelled;
+        }
+
+        // Most frequent location words first, alphabetical among equal counts
+        private static Map<String, Long> topLocationCounts(Map<String, Long> wordCounts, int limit) {
+            Map<String, Long> top = new LinkedHashMap<>();
+            wordCounts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+            return top;
+        }
+    }
+}
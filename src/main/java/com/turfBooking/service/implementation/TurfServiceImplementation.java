@@ -1,38 +1,94 @@
 package com.turfBooking.service.implementation;
 
+import com.turfBooking.dto.AvailabilityGridRequestDTO;
+import com.turfBooking.dto.CursorPageDTO;
+import com.turfBooking.dto.DayAvailabilityDTO;
+import com.turfBooking.dto.NearbyTurfDTO;
+import com.turfBooking.dto.TimeSlotDTO;
 import com.turfBooking.dto.TurfRequestDTO;
 import com.turfBooking.dto.TurfResponseDTO;
 import com.turfBooking.dto.TurfUpdateDTO;
 import com.turfBooking.dto.TurfSearchDTO;
+import com.turfBooking.dto.TurfSearchResultDTO;
 import com.turfBooking.entity.Turf;
 import com.turfBooking.entity.User;
-import com.turfBooking.entity.Booking;
-import com.turfBooking.entity.BlockedSlot;
 import com.turfBooking.enums.SportType;
+import com.turfBooking.event.TurfChangedEvent;
 import com.turfBooking.repository.TurfRepository;
 import com.turfBooking.repository.UserRepository;
+import com.turfBooking.service.interfaces.SlotConflictService;
+import com.turfBooking.service.interfaces.SlotIndexService;
+import com.turfBooking.service.interfaces.StatisticsCounterService;
+import com.turfBooking.service.interfaces.TurfCatalogCacheService;
+import com.turfBooking.service.interfaces.TurfSearchIndexService;
 import com.turfBooking.service.interfaces.TurfService;
+import com.turfBooking.util.DaySlotBitmap;
+import com.turfBooking.util.OptimisticLockRetry;
+import com.turfBooking.util.PageTokens;
+import com.turfBooking.util.StreamingQueries;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class TurfServiceImplementation implements TurfService {
 
+    private static final Set<Integer> SUPPORTED_SLOT_MINUTES = Set.of(30, 60, 90);
+
+    private static final int MAX_GRID_DAYS = 31;
+
+    private static final int DEFAULT_NEARBY_LIMIT = 20;
+
     @Autowired
     private TurfRepository turfRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private SlotIndexService slotIndexService;
+
+    @Autowired
+    private TurfSearchIndexService turfSearchIndexService;
+
+    @Autowired
+    private SlotConflictService slotConflictService;
+
+    @Autowired
+    private TurfCatalogCacheService turfCatalogCacheService;
+
+    @Autowired
+    private StatisticsCounterService statisticsCounterService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private OptimisticLockRetry optimisticLockRetry;
+
+    @Autowired
+    private StreamingQueries streamingQueries;
+
+    @Value("${pagination.max-page-size:500}")
+    private int maxPageSize;
+
     @Override
     public TurfResponseDTO createTurf(TurfRequestDTO turfRequestDTO) {
         // Validate owner exists
@@ -44,6 +100,8 @@ public class TurfServiceImplementation implements TurfService {
             throw new RuntimeException("Invalid operating hours: start time must be before end time");
         }
 
+        validateCoordinates(turfRequestDTO.getLatitude(), turfRequestDTO.getLongitude());
+
         // Check if turf name already exists for this owner
         if (turfNameExistsForOwner(turfRequestDTO.getName(), turfRequestDTO.getOwnerId())) {
             throw new RuntimeException("Turf name already exists for this owner");
@@ -57,39 +115,70 @@ public class TurfServiceImplementation implements TurfService {
         turf.setType(turfRequestDTO.getType());
         turf.setPricePerSlot(turfRequestDTO.getPricePerSlot());
         turf.setDescription(turfRequestDTO.getDescription());
+        turf.setLatitude(turfRequestDTO.getLatitude());
+        turf.setLongitude(turfRequestDTO.getLongitude());
         turf.setOperatingStartTime(turfRequestDTO.getOperatingStartTime());
         turf.setOperatingEndTime(turfRequestDTO.getOperatingEndTime());
         turf.setOwner(owner);
 
         // Save turf
         Turf savedTurf = turfRepository.save(turf);
+        eventPublisher.publishEvent(new TurfChangedEvent(savedTurf.getId(), false));
 
         return convertToResponseDTO(savedTurf);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public TurfResponseDTO getTurfById(Long id) {
-        Turf turf = turfRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Turf not found with id: " + id));
+        return turfCatalogCacheService.getTurf(id, () -> {
+            Turf turf = turfRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Turf not found with id: " + id));
 
-        return convertToDetailedResponseDTO(turf);
+            return convertToDetailedResponseDTO(turf);
+        });
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<TurfResponseDTO> getAllTurfs() {
-        return turfRepository.findAll()
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return turfCatalogCacheService.getList("all", turfRepository::findAllResponses);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TurfResponseDTO> getTurfsPage(String pageToken, int size) {
+        PageTokens.checkPageSize(size, maxPageSize);
+        Long afterId = pageToken == null || pageToken.isBlank() ? 0L : PageTokens.decodeId(pageToken);
+
+        List<TurfResponseDTO> rows = turfRepository.findResponsePageAfter(afterId, Limit.of(size + 1));
+        return PageTokens.toPage(rows, size, turf -> new Object[]{turf.getId()});
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllTurfs(Consumer<? super TurfResponseDTO> consumer) {
+        try (Stream<TurfResponseDTO> turfs = streamingQueries.stream(TurfRepository.STREAM_ALL_RESPONSES, TurfResponseDTO.class)) {
+            turfs.forEach(consumer);
+        }
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TurfResponseDTO updateTurf(Long id, TurfUpdateDTO turfUpdateDTO) {
+        return optimisticLockRetry.execute("turf.update", () -> applyTurfUpdate(id, turfUpdateDTO));
+    }
+
+    private TurfResponseDTO applyTurfUpdate(Long id, TurfUpdateDTO turfUpdateDTO) {
         Turf turf = turfRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Turf not found with id: " + id));
 
+        // Reject the change when the client edited a version that is no longer current
+        if (turfUpdateDTO.getVersion() != null && !turfUpdateDTO.getVersion().equals(turf.getVersion())) {
+            throw new RuntimeException("Turf was modified by another request (expected version "
+                    + turfUpdateDTO.getVersion() + ", current version " + turf.getVersion() + ")");
+        }
+
         // Update only non-null fields
         if (turfUpdateDTO.getName() != null && !turfUpdateDTO.getName().trim().isEmpty()) {
             // Check if new name already exists for this owner (excluding current turf)
@@ -120,6 +209,12 @@ public class TurfServiceImplementation implements TurfService {
             turf.setDescription(turfUpdateDTO.getDescription());
         }
 
+        if (turfUpdateDTO.getLatitude() != null || turfUpdateDTO.getLongitude() != null) {
+            validateCoordinates(turfUpdateDTO.getLatitude(), turfUpdateDTO.getLongitude());
+            turf.setLatitude(turfUpdateDTO.getLatitude());
+            turf.setLongitude(turfUpdateDTO.getLongitude());
+        }
+
         if (turfUpdateDTO.getOperatingStartTime() != null && turfUpdateDTO.getOperatingEndTime() != null) {
             if (!validateOperatingHours(turfUpdateDTO.getOperatingStartTime(), turfUpdateDTO.getOperatingEndTime())) {
                 throw new RuntimeException("Invalid operating hours: start time must be before end time");
@@ -138,7 +233,8 @@ public class TurfServiceImplementation implements TurfService {
             turf.setOperatingEndTime(turfUpdateDTO.getOperatingEndTime());
         }
 
-        Turf updatedTurf = turfRepository.save(turf);
+        Turf updatedTurf = turfRepository.saveAndFlush(turf);
+        eventPublisher.publishEvent(new TurfChangedEvent(updatedTurf.getId(), false));
         return convertToDetailedResponseDTO(updatedTurf);
     }
 
@@ -148,6 +244,7 @@ public class TurfServiceImplementation implements TurfService {
             throw new RuntimeException("Turf not found with id: " + id);
         }
         turfRepository.deleteById(id);
+        eventPublisher.publishEvent(new TurfChangedEvent(id, true));
     }
 
     @Override
@@ -160,30 +257,24 @@ public class TurfServiceImplementation implements TurfService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<TurfResponseDTO> getTurfsBySportType(SportType type) {
-        return turfRepository.findByType(type)
+        return turfCatalogCacheService.getList("type:" + type, () -> turfRepository.findByType(type)
                 .stream()
                 .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<TurfResponseDTO> searchTurfsByLocation(String location) {
-        return turfRepository.findByLocationContainingIgnoreCase(location)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return turfSearchIndexService.findByLocationContaining(location);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<TurfResponseDTO> searchTurfsByName(String name) {
-        return turfRepository.findByNameContainingIgnoreCase(name)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return turfSearchIndexService.findByNameContaining(name);
     }
 
     @Override
@@ -196,44 +287,113 @@ public class TurfServiceImplementation implements TurfService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<TurfResponseDTO> searchTurfs(TurfSearchDTO searchDTO) {
-        return turfRepository.searchTurfs(
-                        searchDTO.getName(),
-                        searchDTO.getLocation(),
-                        searchDTO.getType(),
-                        searchDTO.getMinPrice(),
-                        searchDTO.getMaxPrice()
-                ).stream()
-                .map(this::convertToResponseDTO)
+        return turfSearchIndexService.search(searchDTO);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<TurfResponseDTO> searchAvailableTurfs(TurfSearchDTO searchDTO, LocalDate date, LocalTime startTime,
+                                                      LocalTime endTime) {
+        if (date == null || !validateOperatingHours(startTime, endTime)) {
+            throw new RuntimeException("Invalid time window: a date and a start time before the end time are required");
+        }
+
+        // Criteria from the in-memory search index, then a single query for turfs busy during the window
+        List<TurfResponseDTO> candidates = turfSearchIndexService.search(searchDTO != null ? searchDTO : new TurfSearchDTO())
+                .stream()
+                .filter(turf -> !startTime.isBefore(turf.getOperatingStartTime())
+                        && !endTime.isAfter(turf.getOperatingEndTime()))
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        Set<Long> busyTurfIds = slotConflictService.findBusyTurfIds(date, startTime, endTime);
+        return candidates.stream()
+                .filter(turf -> !busyTurfIds.contains(turf.getId()))
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public TurfSearchResultDTO searchTurfsWithFacets(TurfSearchDTO searchDTO) {
+        return turfSearchIndexService.searchWithFacets(searchDTO);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<NearbyTurfDTO> findNearbyTurfs(double latitude, double longitude, Double radiusKm, Integer limit,
+                                               TurfSearchDTO filters) {
+        validateCoordinates(latitude, longitude);
+        if (radiusKm != null && radiusKm <= 0) {
+            throw new RuntimeException("Radius must be greater than 0");
+        }
+        int resultLimit = limit != null ? limit : DEFAULT_NEARBY_LIMIT;
+        PageTokens.checkPageSize(resultLimit, maxPageSize);
+
+        return turfSearchIndexService.findNearby(latitude, longitude,
+                radiusKm != null ? radiusKm : Double.POSITIVE_INFINITY, resultLimit,
+                filters != null ? filters : new TurfSearchDTO());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<LocalTime> getAvailableTimeSlots(Long turfId, LocalDate date) {
+        return getDayAvailability(turfId, date, 60).getSlots()
+                .stream()
+                .filter(TimeSlotDTO::isAvailable)
+                .map(TimeSlotDTO::getStartTime)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DayAvailabilityDTO getDayAvailability(Long turfId, LocalDate date, int slotMinutes) {
+        validateSlotMinutes(slotMinutes);
+
         Turf turf = turfRepository.findById(turfId)
                 .orElseThrow(() -> new RuntimeException("Turf not found with id: " + turfId));
 
-        List<LocalTime> availableSlots = new ArrayList<>();
-        LocalTime currentTime = turf.getOperatingStartTime();
-        LocalTime endTime = turf.getOperatingEndTime();
-
-        // Generate hourly slots (you can modify this logic based on your requirements)
-        while (currentTime.isBefore(endTime)) {
-            LocalTime slotEndTime = currentTime.plusHours(1);
-            if (slotEndTime.isAfter(endTime)) {
-                break;
-            }
+        // One date-scoped load (or an index hit), then a single sweep over the operating hours
+        DaySlotBitmap day = slotIndexService.getDay(turfId, date);
+        return buildDayAvailability(turfId, date, turf.getOperatingStartTime(), turf.getOperatingEndTime(),
+                slotMinutes, day);
+    }
 
-            if (isTimeSlotAvailable(turfId, date, currentTime, slotEndTime)) {
-                availableSlots.add(currentTime);
-            }
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<DayAvailabilityDTO> getAvailabilityGrid(AvailabilityGridRequestDTO gridRequestDTO) {
+        int slotMinutes = gridRequestDTO.getSlotMinutes();
+        LocalDate startDate = gridRequestDTO.getStartDate();
+        LocalDate endDate = gridRequestDTO.getEndDate();
+
+        validateSlotMinutes(slotMinutes);
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new RuntimeException("Invalid date range: start date must be on or before end date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_GRID_DAYS) {
+            throw new RuntimeException("Date range cannot exceed " + MAX_GRID_DAYS + " days");
+        }
 
-            currentTime = currentTime.plusHours(1);
+        List<Turf> turfs = resolveGridTurfs(gridRequestDTO);
+        if (turfs.isEmpty()) {
+            return Stream.empty();
         }
 
-        return availableSlots;
+        // One set-based load of every busy interval of every requested turf and day
+        List<Long> turfIds = turfs.stream().map(Turf::getId).collect(Collectors.toList());
+        Map<Long, Map<LocalDate, DaySlotBitmap>> busyByTurf = slotConflictService.loadBusyDays(turfIds, startDate, endDate);
+
+        // Turfs and busy intervals are fully loaded here, so the grid can be produced lazily while it is written out
+        return turfs.stream().flatMap(turf -> {
+            Map<LocalDate, DaySlotBitmap> busyByDate = busyByTurf.get(turf.getId());
+            return startDate.datesUntil(endDate.plusDays(1)).map(date -> {
+                DaySlotBitmap day = busyByDate.getOrDefault(date, DaySlotBitmap.empty());
+                return buildDayAvailability(turf.getId(), date, turf.getOperatingStartTime(),
+                        turf.getOperatingEndTime(), slotMinutes, day);
+            });
+        });
     }
 
     @Override
@@ -247,69 +407,58 @@ public class TurfServiceImplementation implements TurfService {
             return false;
         }
 
-        // Check for existing bookings
-        if (turf.getBookings() != null) {
-            for (Booking booking : turf.getBookings()) {
-                if (booking.getBookingDate().equals(date)) {
-                    // Check if requested time overlaps with existing booking
-                    if (!(endTime.isBefore(booking.getSlotStartTime()) || startTime.isAfter(booking.getSlotEndTime()))) {
-                        return false;
-                    }
-                }
-            }
-        }
-
-        // Check for blocked slots
-        if (turf.getBlockedSlots() != null) {
-            for (BlockedSlot blockedSlot : turf.getBlockedSlots()) {
-                if (blockedSlot.getBlockedDate().equals(date)) {
-                    // Check if requested time overlaps with blocked slot
-                    if (!(endTime.isBefore(blockedSlot.getStartTime()) || startTime.isAfter(blockedSlot.getEndTime()))) {
-                        return false;
-                    }
-                }
-            }
-        }
-
-        return true;
+        // Same conflict rules as the booking write path, answered from the slot index
+        return slotConflictService.isSlotFree(turfId, date, startTime, endTime);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<TurfResponseDTO> getTurfsOrderedByPopularity() {
-        return turfRepository.findTurfsOrderedByBookingCount()
+        return turfCatalogCacheService.getList("popularity", () -> turfRepository.findTurfsOrderedByBookingCount()
                 .stream()
                 .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<TurfResponseDTO> getAvailableTurfsOnDate(LocalDate date) {
-        return turfRepository.findAvailableTurfsOnDate(date)
+        // A turf is available when at least one hour-long slot of its operating day is free
+        Map<Long, DaySlotBitmap> busyTurfs = slotConflictService.loadBusyTurfsOnDate(date);
+        return turfSearchIndexService.search(new TurfSearchDTO())
                 .stream()
-                .map(this::convertToResponseDTO)
+                .filter(turf -> !busyTurfs.containsKey(turf.getId()) || buildDayAvailability(turf.getId(), date,
+                        turf.getOperatingStartTime(), turf.getOperatingEndTime(), 60, busyTurfs.get(turf.getId()))
+                        .getSlots().stream().anyMatch(TimeSlotDTO::isAvailable))
                 .collect(Collectors.toList());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getTotalTurfsCount() {
-        return turfRepository.count();
+        return statisticsCounterService.getTurfCountsBySportType().values().stream().mapToLong(Long::longValue).sum();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getTurfsCountBySportType(SportType type) {
-        return turfRepository.countByType(type);
+        return statisticsCounterService.getTurfCountsBySportType().get(type);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<SportType, Long> getTurfCountsBySportType() {
+        return statisticsCounterService.getTurfCountsBySportType();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getTurfsCountByOwner(Long ownerId) {
-        User owner = userRepository.findById(ownerId)
-                .orElseThrow(() -> new RuntimeException("Owner not found with id: " + ownerId));
-        return turfRepository.countByOwner(owner);
+        long count = statisticsCounterService.getTurfCountByOwner(ownerId);
+        if (count == 0 && !userRepository.existsById(ownerId)) {
+            throw new RuntimeException("Owner not found with id: " + ownerId);
+        }
+        return count;
     }
 
     @Override
@@ -325,9 +474,60 @@ public class TurfServiceImplementation implements TurfService {
         return turfRepository.existsByNameAndOwner(name, owner);
     }
 
+    // Helper method to pick grid turfs from explicit IDs or, failing that, the search filter
+    private List<Turf> resolveGridTurfs(AvailabilityGridRequestDTO gridRequestDTO) {
+        if (gridRequestDTO.getTurfIds() != null && !gridRequestDTO.getTurfIds().isEmpty()) {
+            return turfRepository.findAllById(gridRequestDTO.getTurfIds());
+        }
+        TurfSearchDTO filter = gridRequestDTO.getFilter() != null ? gridRequestDTO.getFilter() : new TurfSearchDTO();
+        List<Long> turfIds = turfSearchIndexService.search(filter).stream()
+                .map(TurfResponseDTO::getId)
+                .collect(Collectors.toList());
+        return turfRepository.findAllById(turfIds);
+    }
+
+    // Helper method to check that coordinates come as an in-range pair (or are both absent)
+    private void validateCoordinates(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return;
+        }
+        if (latitude == null || longitude == null) {
+            throw new RuntimeException("Latitude and longitude must be given together");
+        }
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new RuntimeException("Invalid coordinates: latitude must be within [-90, 90] and longitude within [-180, 180]");
+        }
+    }
+
+    private void validateSlotMinutes(int slotMinutes) {
+        if (!SUPPORTED_SLOT_MINUTES.contains(slotMinutes)) {
+            throw new RuntimeException("Unsupported slot length: " + slotMinutes + " minutes (use 30, 60 or 90)");
+        }
+    }
+
+    // Helper method to sweep the operating hours once, producing fixed-length slots and merged busy periods
+    private DayAvailabilityDTO buildDayAvailability(Long turfId, LocalDate date, LocalTime openingTime,
+                                                    LocalTime closingTime, int slotMinutes, DaySlotBitmap day) {
+        int open = DaySlotBitmap.floorMinute(openingTime);
+        int close = DaySlotBitmap.floorMinute(closingTime);
+
+        List<TimeSlotDTO> slots = new ArrayList<>();
+        for (int start = open; start + slotMinutes <= close; start += slotMinutes) {
+            int end = start + slotMinutes;
+            slots.add(new TimeSlotDTO(DaySlotBitmap.toTime(start), DaySlotBitmap.toTime(end), day.isFree(start, end)));
+        }
+
+        List<TimeSlotDTO> busyPeriods = new ArrayList<>();
+        for (int[] range : day.busyRanges(open, close)) {
+            busyPeriods.add(new TimeSlotDTO(DaySlotBitmap.toTime(range[0]), DaySlotBitmap.toTime(range[1]), false));
+        }
+
+        return new DayAvailabilityDTO(turfId, date, slotMinutes, openingTime, closingTime, slots, busyPeriods);
+    }
+
     // Helper method to convert Turf entity to basic TurfResponseDTO
     private TurfResponseDTO convertToResponseDTO(Turf turf) {
-        return new TurfResponseDTO(
+        TurfResponseDTO responseDTO = new TurfResponseDTO(
                 turf.getId(),
                 turf.getName(),
                 turf.getPhone(),
@@ -341,6 +541,10 @@ public class TurfServiceImplementation implements TurfService {
                 turf.getOwner().getName(),
                 turf.getOwner().getPhone()
         );
+        responseDTO.setLatitude(turf.getLatitude());
+        responseDTO.setLongitude(turf.getLongitude());
+        responseDTO.setVersion(turf.getVersion());
+        return responseDTO;
     }
 
     // Helper method to convert Turf entity to detailed TurfResponseDTO with counts
@@ -359,10 +563,13 @@ public class TurfServiceImplementation implements TurfService {
                 turf.getOwner().getName(),
                 turf.getOwner().getPhone()
         );
+        responseDTO.setLatitude(turf.getLatitude());
+        responseDTO.setLongitude(turf.getLongitude());
 
         // Set counts (handle null collections)
         responseDTO.setTotalBookings(turf.getBookings() != null ? turf.getBookings().size() : 0);
         responseDTO.setTotalBlockedSlots(turf.getBlockedSlots() != null ? turf.getBlockedSlots().size() : 0);
+        responseDTO.setVersion(turf.getVersion());
 
         return responseDTO;
     }
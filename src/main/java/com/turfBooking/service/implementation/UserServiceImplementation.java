@@ -1,20 +1,35 @@
 package com.turfBooking.service.implementation;
 
+import com.turfBooking.dto.CursorPageDTO;
 import com.turfBooking.dto.UserRequestDTO;
 import com.turfBooking.dto.UserResponseDTO;
 import com.turfBooking.dto.UserUpdateDTO;
 import com.turfBooking.entity.User;
+import com.turfBooking.entity.UserRevocation;
 import com.turfBooking.enums.UserRole;
+import com.turfBooking.event.UserChangedEvent;
 import com.turfBooking.repository.UserRepository;
+import com.turfBooking.repository.UserRevocationRepository;
+import com.turfBooking.service.interfaces.StatisticsCounterService;
 import com.turfBooking.service.interfaces.UserService;
+import com.turfBooking.util.PageTokens;
+import com.turfBooking.util.StreamingQueries;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -23,10 +38,25 @@ public class UserServiceImplementation implements UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserRevocationRepository userRevocationRepository;
+
     // ADD THIS FOR JWT AUTHENTICATION
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private StatisticsCounterService statisticsCounterService;
+
+    @Autowired
+    private StreamingQueries streamingQueries;
+
+    @Value("${pagination.max-page-size:500}")
+    private int maxPageSize;
+
     @Override
     public UserResponseDTO createUser(UserRequestDTO userRequestDTO) {
         // Check if phone already exists
@@ -44,6 +74,7 @@ public class UserServiceImplementation implements UserService {
 
         // Save user
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(savedUser.getId(), savedUser.getRole(), savedUser.getPhone()));
 
         return convertToResponseDTO(savedUser);
     }
@@ -60,10 +91,25 @@ public class UserServiceImplementation implements UserService {
     @Override
     @Transactional(readOnly = true)
     public List<UserResponseDTO> getAllUsers() {
-        return userRepository.findAll()
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return userRepository.findAllResponses();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<UserResponseDTO> getUsersPage(String pageToken, int size) {
+        PageTokens.checkPageSize(size, maxPageSize);
+        Long afterId = pageToken == null || pageToken.isBlank() ? 0L : PageTokens.decodeId(pageToken);
+
+        List<UserResponseDTO> rows = userRepository.findResponsePageAfter(afterId, Limit.of(size + 1));
+        return PageTokens.toPage(rows, size, user -> new Object[]{user.getId()});
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllUsers(Consumer<? super UserResponseDTO> consumer) {
+        try (Stream<UserResponseDTO> users = streamingQueries.stream(UserRepository.STREAM_ALL_RESPONSES, UserResponseDTO.class)) {
+            users.forEach(consumer);
+        }
     }
 
     @Override
@@ -71,7 +117,10 @@ public class UserServiceImplementation implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
 
+        String previousPhone = user.getPhone();
+
         // Update only non-null fields
+        boolean credentialsChanged = false;
         if (userUpdateDTO.getName() != null && !userUpdateDTO.getName().trim().isEmpty()) {
             user.setName(userUpdateDTO.getName());
         }
@@ -82,24 +131,36 @@ public class UserServiceImplementation implements UserService {
                     userRepository.existsByPhone(userUpdateDTO.getPhone())) {
                 throw new RuntimeException("Phone number already exists");
             }
+            credentialsChanged = !user.getPhone().equals(userUpdateDTO.getPhone());
             user.setPhone(userUpdateDTO.getPhone());
         }
 
         if (userUpdateDTO.getPassword() != null && !userUpdateDTO.getPassword().trim().isEmpty()) {
             // ENCRYPT NEW PASSWORD
             user.setPassword(passwordEncoder.encode(userUpdateDTO.getPassword()));
+            credentialsChanged = true;
+        }
+
+        if (credentialsChanged) {
+            user.setCredentialsChangedAt(Instant.now());
         }
 
         User updatedUser = userRepository.save(user);
+        List<String> phones = previousPhone.equals(updatedUser.getPhone())
+                ? List.of(previousPhone)
+                : List.of(previousPhone, updatedUser.getPhone());
+        eventPublisher.publishEvent(UserChangedEvent.updated(id, updatedUser.getRole(), credentialsChanged, phones));
         return convertToDetailedResponseDTO(updatedUser);
     }
 
     @Override
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new RuntimeException("User not found with id: " + id);
-        }
+        String phone = userRepository.findPhoneById(id)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         userRepository.deleteById(id);
+        // Other instances learn of the removal from this row on their next revocation refresh
+        userRevocationRepository.save(new UserRevocation(id, Instant.now()));
+        eventPublisher.publishEvent(new UserChangedEvent(id, true, List.of(phone)));
     }
 
     @Override
@@ -154,15 +215,21 @@ public class UserServiceImplementation implements UserService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getTotalUsersCount() {
-        return userRepository.count();
+        return statisticsCounterService.getUserCountsByRole().values().stream().mapToLong(Long::longValue).sum();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getUsersCountByRole(UserRole role) {
-        return userRepository.countByRole(role);
+        return statisticsCounterService.getUserCountsByRole().get(role);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<UserRole, Long> getUserCountsByRole() {
+        return statisticsCounterService.getUserCountsByRole();
     }
 
     // JWT AUTHENTICATION SPECIFIC METHODS
@@ -172,7 +239,9 @@ public class UserServiceImplementation implements UserService {
      */
     public User createUserEntity(User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(savedUser.getId(), savedUser.getRole(), savedUser.getPhone()));
+        return savedUser;
     }
 
     /**
@@ -3,14 +3,18 @@ package com.turfBooking.service.interfaces;
 
 import com.turfBooking.dto.BlockedSlotRequestDTO;
 import com.turfBooking.dto.BlockedSlotResponseDTO;
+import com.turfBooking.dto.CursorPageDTO;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface BlockedSlotService {
 
     BlockedSlotResponseDTO createBlockedSlot(BlockedSlotRequestDTO requestDTO);
     List<BlockedSlotResponseDTO> getAllBlockedSlots();
+    CursorPageDTO<BlockedSlotResponseDTO> getBlockedSlotsPage(String pageToken, int size);
+    void streamAllBlockedSlots(Consumer<? super BlockedSlotResponseDTO> consumer);
     BlockedSlotResponseDTO getBlockedSlotById(Long id);
     void deleteBlockedSlot(Long id);
 
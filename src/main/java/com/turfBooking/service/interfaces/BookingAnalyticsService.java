@@ -0,0 +1,12 @@
+package com.turfBooking.service.interfaces;
+
+import com.turfBooking.dto.OwnerAnalyticsDTO;
+
+import java.time.LocalDate;
+
+public interface BookingAnalyticsService {
+
+    // Get revenue, utilization, peak hours and cancellation rate of an owner's turfs over a date range
+    // (null dates default to the 30 days ending today)
+    OwnerAnalyticsDTO getOwnerAnalytics(Long ownerId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,12 @@
+package com.turfBooking.service.interfaces;
+
+public interface BookingRollupService {
+
+    // Bring the daily rollups up to date with up to one batch of recorded booking changes;
+    // returns the number of changes consumed
+    int refreshRollups();
+
+    // Recompute every daily rollup from the bookings, consuming all recorded changes; revenue of
+    // every day, past ones included, is repriced at the turfs' current prices
+    int rebuildRollups();
+}
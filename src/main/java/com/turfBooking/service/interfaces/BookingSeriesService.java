@@ -0,0 +1,30 @@
+package com.turfBooking.service.interfaces;
+
+import com.turfBooking.dto.BookingSeriesRequestDTO;
+import com.turfBooking.dto.BookingSeriesResponseDTO;
+
+import java.util.List;
+
+public interface BookingSeriesService {
+
+    // Create recurring series (checks every occurrence, materializes the near-term window)
+    BookingSeriesResponseDTO createSeries(BookingSeriesRequestDTO seriesRequestDTO);
+
+    // Get series by ID
+    BookingSeriesResponseDTO getSeriesById(Long id);
+
+    // Get series by user ID
+    List<BookingSeriesResponseDTO> getSeriesByUserId(Long userId);
+
+    // Get series by turf ID
+    List<BookingSeriesResponseDTO> getSeriesByTurfId(Long turfId);
+
+    // Cancel series and its upcoming materialized bookings
+    BookingSeriesResponseDTO cancelSeries(Long id);
+
+    // Get IDs of series whose materialized window needs extending
+    List<Long> getSeriesIdsDueForMaterialization();
+
+    // Materialize occurrences of a series up to the rolling window; returns the number of bookings created
+    int materializeSeries(Long id);
+}
@@ -1,25 +1,40 @@
 package com.turfBooking.service.interfaces;
 
+import com.turfBooking.dto.BatchBookingRequestDTO;
+import com.turfBooking.dto.BatchBookingResponseDTO;
 import com.turfBooking.dto.BookingRequestDTO;
 import com.turfBooking.dto.BookingResponseDTO;
 import com.turfBooking.dto.BookingUpdateDTO;
 import com.turfBooking.dto.BookingSearchDTO;
+import com.turfBooking.dto.CursorPageDTO;
 import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.SportType;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface BookingService {
 
     // Create new booking
     BookingResponseDTO createBooking(BookingRequestDTO bookingRequestDTO);
 
+    // Create many bookings in one transaction (all-or-nothing or best-effort)
+    BatchBookingResponseDTO createBookings(BatchBookingRequestDTO batchRequestDTO);
+
     // Get booking by ID
     BookingResponseDTO getBookingById(Long id);
 
     // Get all bookings
     List<BookingResponseDTO> getAllBookings();
 
+    // Get one page of bookings in key order; pass the returned token back for the next page
+    CursorPageDTO<BookingResponseDTO> getBookingsPage(String pageToken, int size);
+
+    // Push every booking to the consumer from a single database cursor
+    void streamAllBookings(Consumer<? super BookingResponseDTO> consumer);
+
     // Update booking
     BookingResponseDTO updateBooking(Long id, BookingUpdateDTO bookingUpdateDTO);
 
@@ -76,12 +91,21 @@ public interface BookingService {
     // Get bookings count by status
     long getBookingsCountByStatus(BookingStatus status);
 
+    // Get bookings count for every status
+    Map<BookingStatus, Long> getBookingCountsByStatus();
+
+    // Get bookings count for every sport type
+    Map<SportType, Long> getBookingCountsBySportType();
+
     // Get bookings count by user
     long getBookingsCountByUser(Long userId);
 
     // Get bookings count by turf
     long getBookingsCountByTurf(Long turfId);
 
+    // Get bookings count across an owner's turfs
+    long getBookingsCountByOwner(Long ownerId);
+
     // Get bookings count by date range
     long getBookingsCountByDateRange(LocalDate startDate, LocalDate endDate);
 
@@ -0,0 +1,18 @@
+package com.turfBooking.service.interfaces;
+
+import com.turfBooking.dto.JwtResponse;
+
+public interface RefreshTokenService {
+
+    // Issue a refresh token starting a new family for a user who just logged in
+    String issueRefreshToken(Long userId);
+
+    // Exchange a refresh token for a new access token and the next refresh token of its family
+    JwtResponse rotateRefreshToken(String refreshToken);
+
+    // Revoke the family of a refresh token (logout)
+    void revokeRefreshToken(String refreshToken);
+
+    // Delete refresh tokens past their expiry; returns the number deleted
+    int compactRefreshTokens();
+}
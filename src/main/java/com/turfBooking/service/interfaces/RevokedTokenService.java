@@ -0,0 +1,23 @@
+package com.turfBooking.service.interfaces;
+
+import java.util.Date;
+import java.util.Map;
+
+public interface RevokedTokenService {
+
+    // Revoke a token by its jti until it expires; returns false when the token has no jti
+    boolean revokeToken(String jti, Date expiresAt);
+
+    // Check whether a token id was revoked (answered from memory)
+    boolean isRevoked(String jti);
+
+    // Reload the in-memory revocation list from the database
+    void refreshRevocations();
+
+    // Delete revocations of tokens past their expiry, and user removals older than any unexpired
+    // token; returns the number deleted
+    int compactRevocations();
+
+    // Size and lookup statistics of the in-memory revocation list
+    Map<String, Number> getStatistics();
+}
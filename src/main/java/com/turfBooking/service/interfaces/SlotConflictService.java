@@ -0,0 +1,31 @@
+package com.turfBooking.service.interfaces;
+
+import com.turfBooking.util.DaySlotBitmap;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+public interface SlotConflictService {
+
+    // Check if nothing occupies the slot, for availability reads (served from the slot index)
+    boolean isSlotFree(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime);
+
+    /**
+     * Check against the database whether a confirmed booking (other than excludeBookingId),
+     * a blocked slot or a series occurrence overlaps the slot. Write paths call this while
+     * holding the turf-date lock from SlotLockService.
+     */
+    boolean hasConflict(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime, Long excludeBookingId);
+
+    // IDs of turfs where anything overlaps the time window on the date, in one query
+    Set<Long> findBusyTurfIds(LocalDate date, LocalTime startTime, LocalTime endTime);
+
+    // Busy periods of every turf that has any on the date, in one query
+    Map<Long, DaySlotBitmap> loadBusyTurfsOnDate(LocalDate date);
+
+    // Busy periods per turf and date over a date range; days without any are left out and the maps are mutable
+    Map<Long, Map<LocalDate, DaySlotBitmap>> loadBusyDays(Collection<Long> turfIds, LocalDate startDate, LocalDate endDate);
+}
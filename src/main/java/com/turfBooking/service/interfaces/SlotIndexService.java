@@ -0,0 +1,24 @@
+package com.turfBooking.service.interfaces;
+
+import com.turfBooking.util.DaySlotBitmap;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public interface SlotIndexService {
+
+    // Check if no confirmed booking, blocked slot or series occurrence overlaps the given range
+    boolean isSlotFree(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime);
+
+    // Get the occupancy bitmap for a turf on a date (cut from the turf's indexed window when the date is inside it)
+    DaySlotBitmap getDay(Long turfId, LocalDate date);
+
+    // Drop the indexed window of a turf
+    void invalidateTurf(Long turfId);
+
+    // Drop the whole index
+    void invalidateAll();
+
+    // Number of turfs whose window is currently held in memory
+    int size();
+}
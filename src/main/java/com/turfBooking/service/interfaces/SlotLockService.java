@@ -0,0 +1,20 @@
+package com.turfBooking.service.interfaces;
+
+import com.turfBooking.entity.Turf;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+public interface SlotLockService {
+
+    /**
+     * Serialize booking admission for a turf on the given dates until the current
+     * transaction completes. Must be the first statement of the transaction so
+     * later conflict checks read data committed by the previous lock holder.
+     */
+    Turf lockTurfDates(Long turfId, Collection<LocalDate> dates);
+
+    // Lock several turfs and their dates at once, in a deadlock-free order; missing turfs are left out of the result
+    Map<Long, Turf> lockTurfDates(Map<Long, ? extends Collection<LocalDate>> datesByTurf);
+}
@@ -0,0 +1,44 @@
+package com.turfBooking.service.interfaces;
+
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.SportType;
+import com.turfBooking.enums.UserRole;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public interface StatisticsCounterService {
+
+    // Get bookings count per status (every status present, zero when none)
+    Map<BookingStatus, Long> getBookingCountsByStatus();
+
+    // Get bookings count per sport type of the booked turf
+    Map<SportType, Long> getBookingCountsBySportType();
+
+    // Get bookings count of a turf
+    long getBookingCountByTurf(Long turfId);
+
+    // Get bookings count across all turfs of an owner
+    long getBookingCountByOwner(Long ownerId);
+
+    // Get bookings count of a user
+    long getBookingCountByUser(Long userId);
+
+    // Get bookings count with a booking date in the range (inclusive)
+    long getBookingCountBetween(LocalDate startDate, LocalDate endDate);
+
+    // Check whether a turf exists
+    boolean containsTurf(Long turfId);
+
+    // Get turfs count per sport type (every type present, zero when none)
+    Map<SportType, Long> getTurfCountsBySportType();
+
+    // Get turfs count of an owner
+    long getTurfCountByOwner(Long ownerId);
+
+    // Get users count per role (every role present, zero when none)
+    Map<UserRole, Long> getUserCountsByRole();
+
+    // Drop all counters (recounted on the next read)
+    void invalidateAll();
+}
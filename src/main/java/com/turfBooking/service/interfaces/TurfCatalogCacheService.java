@@ -0,0 +1,22 @@
+package com.turfBooking.service.interfaces;
+
+import com.turfBooking.dto.TurfResponseDTO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public interface TurfCatalogCacheService {
+
+    // Get a turf by ID, running the loader in a read-only transaction on a miss
+    TurfResponseDTO getTurf(Long turfId, Supplier<TurfResponseDTO> loader);
+
+    // Get a turf listing (all, by sport, by popularity, ...) by key, running the loader on a miss
+    List<TurfResponseDTO> getList(String key, Supplier<List<TurfResponseDTO>> loader);
+
+    // Drop every cached turf and listing
+    void invalidateAll();
+
+    // Size, hit, miss and eviction counts per cache
+    Map<String, Map<String, Number>> getStatistics();
+}
@@ -0,0 +1,33 @@
+package com.turfBooking.service.interfaces;
+
+import com.turfBooking.dto.NearbyTurfDTO;
+import com.turfBooking.dto.TurfResponseDTO;
+import com.turfBooking.dto.TurfSearchDTO;
+import com.turfBooking.dto.TurfSearchResultDTO;
+
+import java.util.List;
+
+public interface TurfSearchIndexService {
+
+    // Search turfs by free-text query (ranked, best match first) and the name, location, type and price filters
+    List<TurfResponseDTO> search(TurfSearchDTO searchDTO);
+
+    // Search like search(), also counting matches per sport type, price range and location word
+    TurfSearchResultDTO searchWithFacets(TurfSearchDTO searchDTO);
+
+    // Find turfs whose name contains the text, ignoring case
+    List<TurfResponseDTO> findByNameContaining(String name);
+
+    // Find turfs whose location contains the text, ignoring case
+    List<TurfResponseDTO> findByLocationContaining(String location);
+
+    // Find up to limit turfs within maxDistanceKm of a point that match the filters, nearest first
+    List<NearbyTurfDTO> findNearby(double latitude, double longitude, double maxDistanceKm, int limit,
+                                   TurfSearchDTO filters);
+
+    // Drop the whole index (rebuilt on the next search)
+    void invalidateAll();
+
+    // Number of turfs currently indexed
+    int size();
+}
@@ -1,15 +1,23 @@
 package com.turfBooking.service.interfaces;
 
+import com.turfBooking.dto.AvailabilityGridRequestDTO;
+import com.turfBooking.dto.CursorPageDTO;
+import com.turfBooking.dto.DayAvailabilityDTO;
+import com.turfBooking.dto.NearbyTurfDTO;
 import com.turfBooking.dto.TurfRequestDTO;
 import com.turfBooking.dto.TurfResponseDTO;
 import com.turfBooking.dto.TurfUpdateDTO;
 import com.turfBooking.dto.TurfSearchDTO;
+import com.turfBooking.dto.TurfSearchResultDTO;
 import com.turfBooking.enums.SportType;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface TurfService {
 
@@ -22,6 +30,12 @@ public interface TurfService {
     // Get all turfs
     List<TurfResponseDTO> getAllTurfs();
 
+    // Get one page of turfs in key order; pass the returned token back for the next page
+    CursorPageDTO<TurfResponseDTO> getTurfsPage(String pageToken, int size);
+
+    // Push every turf to the consumer from a single database cursor
+    void streamAllTurfs(Consumer<? super TurfResponseDTO> consumer);
+
     // Update turf
     TurfResponseDTO updateTurf(Long id, TurfUpdateDTO turfUpdateDTO);
 
@@ -46,9 +60,26 @@ public interface TurfService {
     // Advanced search with multiple criteria
     List<TurfResponseDTO> searchTurfs(TurfSearchDTO searchDTO);
 
+    // Search turfs matching the criteria that are open and free for the whole time window on the date
+    List<TurfResponseDTO> searchAvailableTurfs(TurfSearchDTO searchDTO, LocalDate date, LocalTime startTime,
+                                               LocalTime endTime);
+
+    // Advanced search that also returns facet counts by sport type, price range and location word
+    TurfSearchResultDTO searchTurfsWithFacets(TurfSearchDTO searchDTO);
+
+    // Find turfs nearest to a point (optionally within a radius) matching the search filters, nearest first
+    List<NearbyTurfDTO> findNearbyTurfs(double latitude, double longitude, Double radiusKm, Integer limit,
+                                        TurfSearchDTO filters);
+
     // Get available time slots for a turf on a specific date
     List<LocalTime> getAvailableTimeSlots(Long turfId, LocalDate date);
 
+    // Get the free/busy timeline for a turf on a date using the given slot length in minutes
+    DayAvailabilityDTO getDayAvailability(Long turfId, LocalDate date, int slotMinutes);
+
+    // Get availability for many turfs over a date range, one entry per turf and day
+    Stream<DayAvailabilityDTO> getAvailabilityGrid(AvailabilityGridRequestDTO gridRequestDTO);
+
     // Check if time slot is available
     boolean isTimeSlotAvailable(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime);
 
@@ -64,6 +95,9 @@ public interface TurfService {
     // Get turfs count by sport type
     long getTurfsCountBySportType(SportType type);
 
+    // Get turfs count for every sport type
+    Map<SportType, Long> getTurfCountsBySportType();
+
     // Get turfs count by owner
     long getTurfsCountByOwner(Long ownerId);
 
@@ -1,5 +1,6 @@
 package com.turfBooking.service.interfaces;
 
+import com.turfBooking.dto.CursorPageDTO;
 import com.turfBooking.dto.UserRequestDTO;
 import com.turfBooking.dto.UserResponseDTO;
 import com.turfBooking.dto.UserUpdateDTO;
@@ -7,7 +8,9 @@ import com.turfBooking.entity.User;
 import com.turfBooking.enums.UserRole;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface UserService {
 
@@ -22,6 +25,12 @@ public interface UserService {
     // Get all users
     List<UserResponseDTO> getAllUsers();
 
+    // Get one page of users in key order; pass the returned token back for the next page
+    CursorPageDTO<UserResponseDTO> getUsersPage(String pageToken, int size);
+
+    // Push every user to the consumer from a single database cursor
+    void streamAllUsers(Consumer<? super UserResponseDTO> consumer);
+
     // Update user
     UserResponseDTO updateUser(Long id, UserUpdateDTO userUpdateDTO);
 
@@ -52,6 +61,9 @@ public interface UserService {
     // Get users count by role
     long getUsersCountByRole(UserRole role);
 
+    // Get users count for every role
+    Map<UserRole, Long> getUserCountsByRole();
+
     // NEW JWT AUTHENTICATION METHODS - Add these to your interface
 
     /**
@@ -0,0 +1,133 @@
+package com.turfBooking.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Small least-recently-used cache with a size bound and a time-to-live per entry.
+ * Loads run outside the cache lock, and a load that overlaps an invalidation of its key
+ * (or of the whole cache) is returned to its caller but not stored, so a stale read can
+ * never outlive the write that invalidated it. Invalidating one key leaves loads of other
+ * keys alone.
+ */
+public final class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // Bumped by invalidateAll; a load only installs its value if this did not move
+    private final AtomicLong generation = new AtomicLong();
+
+    // Loads in flight per key, guarded by entries; invalidate(key) marks just these
+    private final Map<K, List<Load>> loads = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                boolean evict = size() > BoundedCache.this.maxSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    public V get(K key, Supplier<? extends V> loader) {
+        long now = System.currentTimeMillis();
+        Load load = new Load();
+        long generationBeforeLoad;
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && now - entry.loadedAt <= ttlMillis) {
+                hits.increment();
+                return entry.value;
+            }
+            loads.computeIfAbsent(key, k -> new ArrayList<>(1)).add(load);
+            generationBeforeLoad = generation.get();
+        }
+
+        misses.increment();
+        V value = null;
+        boolean loaded = false;
+        try {
+            value = loader.get();
+            loaded = true;
+        } finally {
+            synchronized (entries) {
+                List<Load> keyLoads = loads.get(key);
+                keyLoads.remove(load);
+                if (keyLoads.isEmpty()) {
+                    loads.remove(key);
+                }
+                if (loaded && !load.invalidated && generation.get() == generationBeforeLoad) {
+                    entries.put(key, new Entry<>(value, now));
+                }
+            }
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+            List<Load> keyLoads = loads.get(key);
+            if (keyLoads != null) {
+                keyLoads.forEach(load -> load.invalidated = true);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    // Size, hit, miss and eviction counts, plus the hit rate since startup
+    public Map<String, Number> getStatistics() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        Map<String, Number> statistics = new LinkedHashMap<>();
+        synchronized (entries) {
+            statistics.put("size", entries.size());
+        }
+        statistics.put("maxSize", maxSize);
+        statistics.put("hits", hitCount);
+        statistics.put("misses", missCount);
+        statistics.put("evictions", evictions.sum());
+        statistics.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        return statistics;
+    }
+
+    private static final class Load {
+
+        private boolean invalidated;
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long loadedAt;
+
+        private Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.turfBooking.util;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Minute-resolution occupancy map for a single turf on a single day.
+ * Instances are immutable so they can be shared between request threads;
+ * every mutation returns a copy.
+ */
+public final class DaySlotBitmap {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final DaySlotBitmap EMPTY = new DaySlotBitmap(new BitSet(MINUTES_PER_DAY));
+
+    private final BitSet busy;
+
+    private DaySlotBitmap(BitSet busy) {
+        this.busy = busy;
+    }
+
+    public static DaySlotBitmap empty() {
+        return EMPTY;
+    }
+
+    // Returns a copy with [startTime, endTime) marked as busy
+    public DaySlotBitmap withBusy(LocalTime startTime, LocalTime endTime) {
+        int from = floorMinute(startTime);
+        int to = ceilMinute(endTime);
+        if (from >= to) {
+            return this;
+        }
+        BitSet copy = (BitSet) busy.clone();
+        copy.set(from, to);
+        return new DaySlotBitmap(copy);
+    }
+
+    // True when no minute in [startTime, endTime) is busy
+    public boolean isFree(LocalTime startTime, LocalTime endTime) {
+        return isFree(floorMinute(startTime), ceilMinute(endTime));
+    }
+
+    // True when no minute in [fromMinute, toMinute) is busy
+    public boolean isFree(int fromMinute, int toMinute) {
+        if (fromMinute >= toMinute) {
+            return false;
+        }
+        int next = busy.nextSetBit(fromMinute);
+        return next == -1 || next >= toMinute;
+    }
+
+    // Merged busy runs clipped to [fromMinute, toMinute), each as {start, end} minutes
+    public List<int[]> busyRanges(int fromMinute, int toMinute) {
+        List<int[]> ranges = new ArrayList<>();
+        int start = busy.nextSetBit(fromMinute);
+        while (start != -1 && start < toMinute) {
+            int end = Math.min(busy.nextClearBit(start), toMinute);
+            ranges.add(new int[]{start, end});
+            start = busy.nextSetBit(end);
+        }
+        return ranges;
+    }
+
+    public boolean isEmpty() {
+        return busy.isEmpty();
+    }
+
+    public static int floorMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    public static int ceilMinute(LocalTime time) {
+        int minute = floorMinute(time);
+        return (time.getSecond() > 0 || time.getNano() > 0) ? minute + 1 : minute;
+    }
+
+    public static LocalTime toTime(int minute) {
+        return LocalTime.of(minute / 60, minute % 60);
+    }
+
+    // Builder used when loading a whole day at once to avoid copying per interval
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private final BitSet busy = new BitSet(MINUTES_PER_DAY);
+
+        private Builder() {}
+
+        public Builder addBusy(LocalTime startTime, LocalTime endTime) {
+            int from = floorMinute(startTime);
+            int to = ceilMinute(endTime);
+            if (from < to) {
+                busy.set(from, to);
+            }
+            return this;
+        }
+
+        // Marks [fromMinute, toMinute) as busy, clipped to the day
+        public Builder addBusy(int fromMinute, int toMinute) {
+            int from = Math.max(fromMinute, 0);
+            int to = Math.min(toMinute, MINUTES_PER_DAY);
+            if (from < to) {
+                busy.set(from, to);
+            }
+            return this;
+        }
+
+        public DaySlotBitmap build() {
+            return busy.isEmpty() ? EMPTY : new DaySlotBitmap(busy);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.turfBooking.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * Spatial index of points bucketed into equal-angle latitude/longitude cells (a fixed-precision
+ * geohash grid). Nearest-neighbour and radius queries visit rings of cells outward from the
+ * query point and stop as soon as no unvisited cell can hold anything closer than what was
+ * already found; when the rings would cost more than the occupied cells, every point is
+ * scanned instead. Points are compared by the straight-line chord between their unit
+ * vectors, which orders them exactly like great-circle distance without any trigonometry
+ * per point; reported distances are great-circle kilometres.
+ * Not thread-safe: callers guard access themselves.
+ */
+public final class GeoGridIndex {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final Comparator<Candidate> FARTHEST_FIRST =
+            Comparator.comparingDouble((Candidate candidate) -> candidate.chordSquared)
+                    .thenComparing(candidate -> candidate.point.id).reversed();
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+    private final Map<Long, List<Point>> cells = new HashMap<>();
+    private final Map<Long, Point> points = new HashMap<>();
+
+    public GeoGridIndex(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180 / cellDegrees);
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    // Indexes the point, replacing any earlier position of the same id
+    public void put(Long id, double latitude, double longitude) {
+        remove(id);
+        Point point = new Point(id, latitude, longitude, row(latitude), column(longitude));
+        cells.computeIfAbsent(cellKey(point.row, point.column), key -> new ArrayList<>()).add(point);
+        points.put(id, point);
+    }
+
+    // Removes the point; returns false if it was not indexed
+    public boolean remove(Long id) {
+        Point point = points.remove(id);
+        if (point == null) {
+            return false;
+        }
+        long key = cellKey(point.row, point.column);
+        List<Point> cell = cells.get(key);
+        cell.remove(point);
+        if (cell.isEmpty()) {
+            cells.remove(key);
+        }
+        return true;
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    // Up to limit accepted points within maxDistanceKm of the location, nearest first
+    public List<Neighbour> nearest(double latitude, double longitude, double maxDistanceKm, int limit,
+                                   Predicate<Long> accepted) {
+        PriorityQueue<Candidate> best = new PriorityQueue<>(FARTHEST_FIRST);
+        double[] origin = unitVector(latitude, longitude);
+        double maxChordSquared = chordSquared(maxDistanceKm);
+        int centerRow = row(latitude);
+        int centerColumn = column(longitude);
+        long visitedCells = 0;
+
+        for (int ring = 0; ; ring++) {
+            double bound = chordSquared(ringDistanceBound(latitude, ring));
+            if (bound > maxChordSquared || (best.size() == limit && bound > best.peek().chordSquared)) {
+                break;
+            }
+            long ringCells = ring == 0 ? 1 : 8L * ring;
+            if (2 * ring + 1 > columns || visitedCells + ringCells > cells.size()) {
+                // The rings would wrap around or cost more than looking at every occupied cell
+                best.clear();
+                for (Point point : points.values()) {
+                    offer(best, point, origin, maxChordSquared, limit, accepted);
+                }
+                break;
+            }
+            visitedCells += ringCells;
+
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                if (row < 0 || row >= rows) {
+                    continue;
+                }
+                boolean edgeRow = Math.abs(row - centerRow) == ring;
+                int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+                for (int column = centerColumn - ring; column <= centerColumn + ring; column += step) {
+                    List<Point> cell = cells.get(cellKey(row, Math.floorMod(column, columns)));
+                    if (cell != null) {
+                        for (Point point : cell) {
+                            offer(best, point, origin, maxChordSquared, limit, accepted);
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Candidate> ordered = new ArrayList<>(best);
+        ordered.sort(FARTHEST_FIRST.reversed());
+        List<Neighbour> nearest = new ArrayList<>(ordered.size());
+        for (Candidate candidate : ordered) {
+            nearest.add(new Neighbour(candidate.point.id,
+                    distanceKm(latitude, longitude, candidate.point.latitude, candidate.point.longitude)));
+        }
+        return nearest;
+    }
+
+    // Great-circle (haversine) distance in kilometres
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double latitudeDelta = Math.toRadians(latitude2 - latitude1);
+        double longitudeDelta = Math.toRadians(longitude2 - longitude1);
+        double a = Math.pow(Math.sin(latitudeDelta / 2), 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.pow(Math.sin(longitudeDelta / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static void offer(PriorityQueue<Candidate> best, Point point, double[] origin,
+                              double maxChordSquared, int limit, Predicate<Long> accepted) {
+        double dx = point.x - origin[0];
+        double dy = point.y - origin[1];
+        double dz = point.z - origin[2];
+        double chordSquared = dx * dx + dy * dy + dz * dz;
+        if (chordSquared > maxChordSquared || (best.size() == limit && chordSquared >= best.peek().chordSquared)
+                || !accepted.test(point.id)) {
+            return;
+        }
+        if (best.size() == limit) {
+            best.poll();
+        }
+        best.add(new Candidate(point, chordSquared));
+    }
+
+    // Squared chord length on the unit sphere for a great-circle distance; distances past
+    // half the circumference (or infinite) map to the largest possible chord
+    private static double chordSquared(double distanceKm) {
+        double angle = distanceKm / EARTH_RADIUS_KM;
+        if (angle >= Math.PI) {
+            return 4.0;
+        }
+        double chord = 2 * Math.sin(angle / 2);
+        return chord * chord;
+    }
+
+    private static double[] unitVector(double latitude, double longitude) {
+        double latitudeRadians = Math.toRadians(latitude);
+        double longitudeRadians = Math.toRadians(longitude);
+        return new double[]{
+                Math.cos(latitudeRadians) * Math.cos(longitudeRadians),
+                Math.cos(latitudeRadians) * Math.sin(longitudeRadians),
+                Math.sin(latitudeRadians)
+        };
+    }
+
+    // Lower bound on the distance from a point of the centre cell to any cell of the ring: such a
+    // cell lies at least (ring - 1) whole cells away by latitude or by longitude
+    private double ringDistanceBound(double latitude, int ring) {
+        if (ring <= 1) {
+            return 0;
+        }
+        double gap = Math.toRadians((ring - 1) * cellDegrees);
+        double byLatitude = EARTH_RADIUS_KM * gap;
+        // Distance to a meridian gap radians away, capped by the distance to the pole
+        double byLongitude = EARTH_RADIUS_KM
+                * Math.asin(Math.cos(Math.toRadians(latitude)) * Math.sin(Math.min(gap, Math.PI / 2)));
+        return Math.min(byLatitude, byLongitude);
+    }
+
+    private int row(double latitude) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor((latitude + 90) / cellDegrees)));
+    }
+
+    private int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), columns);
+    }
+
+    private long cellKey(int row, int column) {
+        return (long) row * columns + column;
+    }
+
+    public static final class Neighbour {
+
+        private final Long id;
+        private final double distanceKm;
+
+        private Neighbour(Long id, double distanceKm) {
+            this.id = id;
+            this.distanceKm = distanceKm;
+        }
+
+        public Long getId() { return id; }
+        public double getDistanceKm() { return distanceKm; }
+    }
+
+    private static final class Point {
+
+        private final Long id;
+        private final double latitude;
+        private final double longitude;
+        private final double x;
+        private final double y;
+        private final double z;
+        private final int row;
+        private final int column;
+
+        private Point(Long id, double latitude, double longitude, int row, int column) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            double[] vector = unitVector(latitude, longitude);
+            this.x = vector[0];
+            this.y = vector[1];
+            this.z = vector[2];
+            this.row = row;
+            this.column = column;
+        }
+    }
+
+    private static final class Candidate {
+
+        private final Point point;
+        private final double chordSquared;
+
+        private Candidate(Point point, double chordSquared) {
+            this.point = point;
+            this.chordSquared = chordSquared;
+        }
+    }
+}
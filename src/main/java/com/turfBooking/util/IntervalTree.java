@@ -0,0 +1,226 @@
+package com.turfBooking.util;
+
+import java.util.Comparator;
+
+/**
+ * Augmented AVL tree of half-open intervals [start, end). Each node keeps the largest
+ * end in its subtree, so overlap queries skip whole subtrees that end too early and
+ * run in O(log n + k) for k matches. Entries are ordered by (start, end, value); the
+ * value comparator must make entries with equal bounds distinct.
+ * Not thread-safe: callers guard access themselves.
+ */
+public final class IntervalTree<T> {
+
+    private final Comparator<? super T> valueOrder;
+
+    private Node<T> root;
+    private int size;
+
+    public IntervalTree(Comparator<? super T> valueOrder) {
+        this.valueOrder = valueOrder;
+    }
+
+    // Adds the interval; returns false if an equal entry is already present or the interval is empty
+    public boolean add(long start, long end, T value) {
+        if (start >= end) {
+            return false;
+        }
+        int sizeBefore = size;
+        root = insert(root, start, end, value);
+        return size > sizeBefore;
+    }
+
+    // Removes the entry with exactly these bounds and value; returns false if it was not present
+    public boolean remove(long start, long end, T value) {
+        int sizeBefore = size;
+        root = delete(root, start, end, value);
+        return size < sizeBefore;
+    }
+
+    // True when any entry overlaps [from, to)
+    public boolean overlapsAny(long from, long to) {
+        return from < to && findOverlap(root, from, to);
+    }
+
+    // Visits every entry overlapping [from, to) in start order
+    public void forEachOverlapping(long from, long to, Visitor<? super T> visitor) {
+        if (from < to) {
+            visitOverlapping(root, from, to, visitor);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public interface Visitor<T> {
+        void visit(long start, long end, T value);
+    }
+
+    private boolean findOverlap(Node<T> node, long from, long to) {
+        while (node != null && node.maxEnd > from) {
+            if (node.start < to && node.end > from) {
+                return true;
+            }
+            // Anything in the left subtree starts earlier; only try it when it can still reach past from
+            if (node.left != null && node.left.maxEnd > from) {
+                node = node.left;
+            } else if (node.start < to) {
+                node = node.right;
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void visitOverlapping(Node<T> node, long from, long to, Visitor<? super T> visitor) {
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+        visitOverlapping(node.left, from, to, visitor);
+        if (node.start >= to) {
+            // This node and everything to its right start at or after to
+            return;
+        }
+        if (node.end > from) {
+            visitor.visit(node.start, node.end, node.value);
+        }
+        visitOverlapping(node.right, from, to, visitor);
+    }
+
+    private int compare(long start, long end, T value, Node<T> node) {
+        int order = Long.compare(start, node.start);
+        if (order == 0) {
+            order = Long.compare(end, node.end);
+        }
+        if (order == 0) {
+            order = valueOrder.compare(value, node.value);
+        }
+        return order;
+    }
+
+    private Node<T> insert(Node<T> node, long start, long end, T value) {
+        if (node == null) {
+            size++;
+            return new Node<>(start, end, value);
+        }
+        int order = compare(start, end, value, node);
+        if (order < 0) {
+            node.left = insert(node.left, start, end, value);
+        } else if (order > 0) {
+            node.right = insert(node.right, start, end, value);
+        } else {
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> delete(Node<T> node, long start, long end, T value) {
+        if (node == null) {
+            return null;
+        }
+        int order = compare(start, end, value, node);
+        if (order < 0) {
+            node.left = delete(node.left, start, end, value);
+        } else if (order > 0) {
+            node.right = delete(node.right, start, end, value);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // Replace with the in-order successor, then remove the successor from the right subtree
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = removeMin(node.right);
+            successor.right = node.right;
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> removeMin(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private Node<T> rebalance(Node<T> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <T> int height(Node<T> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <T> void update(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static final class Node<T> {
+
+        private final long start;
+        private final long end;
+        private final T value;
+        private long maxEnd;
+        private int height = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(long start, long end, T value) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+}
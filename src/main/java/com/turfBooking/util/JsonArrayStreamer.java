@@ -0,0 +1,49 @@
+package com.turfBooking.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Writes a JSON array element by element so large responses never have to be
+ * materialized in memory as a whole.
+ */
+public final class JsonArrayStreamer {
+
+    private JsonArrayStreamer() {}
+
+    public static <T> StreamingResponseBody stream(ObjectMapper objectMapper, Stream<T> items) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+                 Stream<T> source = items) {
+                generator.writeStartArray();
+                source.forEach(item -> writeItem(generator, item));
+                generator.writeEndArray();
+            }
+        };
+    }
+
+    // For producers that push rows while they hold an open database cursor (e.g. inside a read-only transaction)
+    public static <T> StreamingResponseBody stream(ObjectMapper objectMapper, Consumer<Consumer<T>> producer) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                producer.accept(item -> writeItem(generator, item));
+                generator.writeEndArray();
+            }
+        };
+    }
+
+    private static void writeItem(JsonGenerator generator, Object item) {
+        try {
+            generator.writeObject(item);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,89 +1,155 @@
 package com.turfBooking.util;
 
+import com.turfBooking.security.CustomUserDetails;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
+    // iat only has second precision
+    private static final String ISSUED_AT_MILLIS = "iat_ms";
+
     @Value("${jwt.secret:mySecretKey12345678901234567890123456789012345678901234567890}")
     private String secret;
 
-    @Value("${jwt.expiration:86400000}") // 24 hours in milliseconds
+    @Value("${jwt.expiration:900000}") // 15 minutes in milliseconds
     private Long expiration;
 
+    @Value("${jwt.claims-cache.max-entries:10000}")
+    private int claimsCacheMaxEntries;
+
+    @Value("${jwt.claims-cache.ttl-seconds:600}")
+    private long claimsCacheTtlSeconds;
+
+    // Derived once; both are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // Verified claims by SHA-256 of the token, so a repeat request skips base64, JSON and HMAC work
+    private BoundedCache<String, Claims> verifiedClaims;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedClaims = new BoundedCache<>(claimsCacheMaxEntries, claimsCacheTtlSeconds * 1000);
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return signingKey;
     }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    // Lifetime of newly issued tokens, in milliseconds
+    public long getExpirationMillis() {
+        return expiration;
+    }
+
+    public Long extractUserId(Claims claims) {
+        return claims.get("uid", Long.class);
     }
 
-    public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
+    // Issue time to the millisecond; tokens issued before the claim existed fall back to the
+    // start of their whole-second iat, so a change within that second still revokes them
+    public Long extractIssuedAtMillis(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Long.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null ? null : issuedAt.getTime();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = extractVerifiedClaims(token);
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Verifies the token once and returns its claims. Verified claims are cached until the
+     * token expires (or the cache TTL passes, whichever is first); invalid tokens are never
+     * cached, so the usual {@link JwtException} or {@link IllegalArgumentException} is thrown
+     * on every attempt.
+     */
+    public Claims extractVerifiedClaims(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT String argument cannot be null or empty.");
+        }
+        Claims claims = verifiedClaims.get(hash(token), () -> parser.parseClaimsJws(token).getBody());
+        if (isExpired(claims)) {
+            // Parse again so the caller gets the parser's own ExpiredJwtException; the stale entry
+            // is left for the TTL or eviction, as invalidating it would bump the cache generation
+            return parser.parseClaimsJws(token).getBody();
+        }
+        return claims;
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    // Cache and hit statistics of the verified-claims cache
+    public Map<String, Number> getClaimsCacheStatistics() {
+        return verifiedClaims.getStatistics();
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiresAt = claims.getExpiration();
+        return expiresAt != null && expiresAt.before(new Date());
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
     public String generateToken(UserDetails userDetails, String role) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("role", role);
+        if (userDetails instanceof CustomUserDetails customUserDetails) {
+            // Lets the request filter rebuild the principal without loading the user
+            claims.put("uid", customUserDetails.getUserId());
+        }
         return createToken(claims, userDetails.getUsername());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .setClaims(claims)
+                .claim(ISSUED_AT_MILLIS, now)
                 .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
+                // Token id, so a single token can be revoked
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-    }
-
-    public Boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+    // Check already verified claims against the loaded user without parsing the token again
+    public Boolean validateClaims(Claims claims, UserDetails userDetails) {
+        return claims.getSubject() != null
+                && claims.getSubject().equals(userDetails.getUsername())
+                && !isExpired(claims);
     }
 }
\ No newline at end of file
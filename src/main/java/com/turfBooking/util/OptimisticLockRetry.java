@@ -0,0 +1,90 @@
+package com.turfBooking.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs read-modify-write work in its own transaction and re-runs it when the commit
+ * loses an optimistic version check. Each attempt re-reads the entity, so a retry
+ * applies the same change on top of the concurrent one instead of overwriting it.
+ * When the caller already has a transaction the work runs once inside it, since the
+ * outer transaction owns the stale state and must decide how to recover.
+ */
+@Component
+public class OptimisticLockRetry {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${optimistic-lock.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${optimistic-lock.backoff-ms:20}")
+    private long backoffMs;
+
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public <T> T execute(String operation, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Counters operationCounters = counters.computeIfAbsent(operation, key -> new Counters());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                operationCounters.conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    operationCounters.exhausted.increment();
+                    throw new RuntimeException("Record was modified concurrently, please retry", e);
+                }
+                operationCounters.retries.increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    // Conflict, retry and exhausted counts per operation
+    public Map<String, Map<String, Long>> getStatistics() {
+        Map<String, Map<String, Long>> statistics = new LinkedHashMap<>();
+        counters.forEach((operation, operationCounters) -> {
+            Map<String, Long> values = new LinkedHashMap<>();
+            values.put("conflicts", operationCounters.conflicts.sum());
+            values.put("retries", operationCounters.retries.sum());
+            values.put("exhausted", operationCounters.exhausted.sum());
+            statistics.put(operation, values);
+        });
+        return statistics;
+    }
+
+    // Linear backoff with jitter so colliding writers do not retry in lockstep
+    private void backoff(int attempt) {
+        long delay = backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while retrying", e);
+        }
+    }
+
+    private static class Counters {
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+    }
+}
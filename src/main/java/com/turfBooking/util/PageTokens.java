@@ -0,0 +1,66 @@
+package com.turfBooking.util;
+
+import com.turfBooking.dto.CursorPageDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+/**
+ * Opaque page tokens for keyset pagination. A token carries the sort key of the last
+ * row of a page; the next page starts strictly after it.
+ */
+public final class PageTokens {
+
+    private static final String SEPARATOR = "|";
+
+    private PageTokens() {}
+
+    public static void checkPageSize(int size, int maxPageSize) {
+        if (size < 1 || size > maxPageSize) {
+            throw new RuntimeException("Page size must be between 1 and " + maxPageSize);
+        }
+    }
+
+    public static String encode(Object... keyParts) {
+        StringJoiner joiner = new StringJoiner(SEPARATOR);
+        for (Object part : keyParts) {
+            joiner.add(String.valueOf(part));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String token, int expectedParts) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("Unexpected key length");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid page token");
+        }
+    }
+
+    public static Long decodeId(String token) {
+        try {
+            return Long.valueOf(decode(token, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid page token");
+        }
+    }
+
+    // Rows are fetched with a limit of size + 1; the extra row only signals that another page follows
+    public static <T> CursorPageDTO<T> toPage(List<T> rows, int size, Function<? super T, Object[]> keyOf) {
+        if (rows.size() <= size) {
+            return new CursorPageDTO<>(rows, null);
+        }
+        List<T> items = new ArrayList<>(rows.subList(0, size));
+        return new CursorPageDTO<>(items, encode(keyOf.apply(items.get(size - 1))));
+    }
+}
@@ -0,0 +1,35 @@
+package com.turfBooking.util;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Runs a read-only query whose rows are handed out one at a time instead of being
+ * collected into a list. The fetch size is set on these statements only: with MySQL
+ * Connector/J, Integer.MIN_VALUE streams rows off the socket without buffering the
+ * whole result, and without turning on server-side cursors for every other query.
+ * A streaming result set keeps its connection busy until it is closed, so consumers
+ * must not run further queries while reading.
+ */
+@Component
+public class StreamingQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${streaming.fetch-size:-2147483648}")
+    private int fetchSize;
+
+    // The caller must be in a transaction and close the stream
+    public <T> Stream<T> stream(String jpql, Class<T> resultType) {
+        return entityManager.createQuery(jpql, resultType)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,61 @@
+package com.turfBooking.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of locks addressed by key hash. Unrelated keys rarely share a stripe,
+ * so writers on different keys proceed in parallel while writers on the same key
+ * are serialized. Multiple keys are always locked in stripe order to avoid deadlocks.
+ */
+public class StripedLock {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public StripedLock(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    public int stripeFor(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    // Locks the stripes of all keys within the timeout; empty when any stripe could not be taken
+    public Optional<List<Lock>> tryLockAll(Collection<?> keys, long timeout, TimeUnit unit) throws InterruptedException {
+        int[] indexes = keys.stream().mapToInt(this::stripeFor).distinct().sorted().toArray();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        List<Lock> acquired = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            ReentrantLock lock = stripes[index];
+            if (!lock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                unlockAll(acquired);
+                return Optional.empty();
+            }
+            acquired.add(lock);
+        }
+        return Optional.of(acquired);
+    }
+
+    public static void unlockAll(List<Lock> locks) {
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+}
@@ -0,0 +1,283 @@
+package com.turfBooking.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory text index over documents with a fixed number of fields. Two structures are
+ * kept: trigram postings of each field's lower-cased text, answering case-insensitive
+ * substring filters (the matches of SQL {@code LIKE '%text%'}) by verifying only the
+ * documents in the rarest trigram's posting; and a sorted word dictionary with trigram
+ * postings of its own, answering ranked prefix queries that tolerate small typos.
+ * Not thread-safe: callers guard access themselves.
+ */
+public final class TrigramIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private static final double EXACT_SCORE = 1.0;
+    private static final double PREFIX_SCORE = 0.8;
+    private static final double FUZZY_SCORE = 0.5;
+
+    private final int fieldCount;
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final List<Map<String, Set<Long>>> fieldTrigrams = new ArrayList<>();
+
+    // Word -> (document id -> bit mask of the fields containing the word)
+    private final TreeMap<String, Map<Long, Integer>> words = new TreeMap<>();
+    private final Map<String, Set<String>> wordTrigrams = new HashMap<>();
+
+    public TrigramIndex(int fieldCount) {
+        this.fieldCount = fieldCount;
+        for (int field = 0; field < fieldCount; field++) {
+            fieldTrigrams.add(new HashMap<>());
+        }
+    }
+
+    // Indexes the document's field values (null for none), replacing any earlier version of it
+    public void put(Long id, String... fieldValues) {
+        remove(id);
+        String[] fields = new String[fieldCount];
+        Map<String, Integer> documentWords = new HashMap<>();
+        for (int field = 0; field < fieldCount; field++) {
+            String value = field < fieldValues.length ? fieldValues[field] : null;
+            fields[field] = value == null ? "" : value.toLowerCase(Locale.ROOT);
+            for (String trigram : trigrams(fields[field])) {
+                fieldTrigrams.get(field).computeIfAbsent(trigram, key -> new HashSet<>()).add(id);
+            }
+            for (String word : tokenize(value)) {
+                documentWords.merge(word, 1 << field, (left, right) -> left | right);
+            }
+        }
+        documentWords.forEach((word, fieldMask) -> words.computeIfAbsent(word, this::addWord).put(id, fieldMask));
+        documents.put(id, new Document(fields, documentWords.keySet()));
+    }
+
+    // Removes the document; returns false if it was not indexed
+    public boolean remove(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return false;
+        }
+        for (int field = 0; field < fieldCount; field++) {
+            for (String trigram : trigrams(document.fields[field])) {
+                removePosting(fieldTrigrams.get(field), trigram, id);
+            }
+        }
+        for (String word : document.words) {
+            Map<Long, Integer> postings = words.get(word);
+            postings.remove(id);
+            if (postings.isEmpty()) {
+                words.remove(word);
+                for (String trigram : trigrams(padded(word))) {
+                    removePosting(wordTrigrams, trigram, word);
+                }
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // Ids of documents whose field contains the text, ignoring case; every document for an empty text
+    public Set<Long> containing(int field, String text) {
+        String pattern = text == null ? "" : text.toLowerCase(Locale.ROOT);
+        Set<Long> candidates = documents.keySet();
+        if (pattern.length() >= 3) {
+            // Every match holds all of the pattern's trigrams, so the rarest one bounds the candidates
+            for (String trigram : trigrams(pattern)) {
+                Set<Long> posting = fieldTrigrams.get(field).getOrDefault(trigram, Set.of());
+                if (posting.size() < candidates.size()) {
+                    candidates = posting;
+                }
+            }
+        }
+        Set<Long> matches = new HashSet<>();
+        for (Long id : candidates) {
+            if (documents.get(id).fields[field].contains(pattern)) {
+                matches.add(id);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Scores the documents that match every word of the query. A query word matches an
+     * indexed word exactly, as its prefix or, from three characters on, as a prefix within
+     * one (up to five characters) or two edits; the best match per query word is weighted by
+     * the best field it occurs in and the per-word scores are summed.
+     */
+    public Map<Long, Double> rank(String query, double... fieldWeights) {
+        Map<Long, Double> scores = null;
+        for (String queryWord : new LinkedHashSet<>(tokenize(query))) {
+            Map<Long, Double> wordScores = new HashMap<>();
+            Set<String> prefixMatches = words.subMap(queryWord, true, queryWord + Character.MAX_VALUE, false).keySet();
+            for (String word : prefixMatches) {
+                double score = word.length() == queryWord.length() ? EXACT_SCORE : PREFIX_SCORE;
+                collect(wordScores, words.get(word), score, fieldWeights);
+            }
+
+            int maxEdits = queryWord.length() < 3 ? 0 : queryWord.length() <= 5 ? 1 : 2;
+            if (maxEdits > 0) {
+                for (String word : fuzzyCandidates(queryWord, maxEdits)) {
+                    if (prefixMatches.contains(word)) {
+                        continue;
+                    }
+                    int edits = prefixEditDistance(queryWord, word, maxEdits);
+                    if (edits <= maxEdits) {
+                        double score = FUZZY_SCORE * (1.0 - (double) edits / (maxEdits + 1));
+                        collect(wordScores, words.get(word), score, fieldWeights);
+                    }
+                }
+            }
+
+            if (scores == null) {
+                scores = wordScores;
+            } else {
+                scores.keySet().retainAll(wordScores.keySet());
+                scores.replaceAll((id, score) -> score + wordScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores == null ? new HashMap<>() : scores;
+    }
+
+    // Splits text into lower-cased words of letters and digits, with accents removed
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        for (String token : NON_WORD.split(folded.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private Map<Long, Integer> addWord(String word) {
+        for (String trigram : trigrams(padded(word))) {
+            wordTrigrams.computeIfAbsent(trigram, key -> new HashSet<>()).add(word);
+        }
+        return new HashMap<>();
+    }
+
+    // Words sharing enough trigrams with the query word to be within maxEdits of it;
+    // one edit destroys at most four trigrams (a transposition spans four)
+    private Set<String> fuzzyCandidates(String queryWord, int maxEdits) {
+        Set<String> queryTrigrams = trigrams(padded(queryWord));
+        int required = Math.max(1, queryTrigrams.size() - 4 * maxEdits);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (String word : wordTrigrams.getOrDefault(trigram, Set.of())) {
+                shared.merge(word, 1, Integer::sum);
+            }
+        }
+        Set<String> candidates = new HashSet<>();
+        shared.forEach((word, count) -> {
+            if (count >= required) {
+                candidates.add(word);
+            }
+        });
+        return candidates;
+    }
+
+    // Smallest edit distance (with adjacent transpositions) between the query word and any
+    // prefix of the word; returns maxEdits + 1 as soon as that bound is exceeded
+    private static int prefixEditDistance(String queryWord, String word, int maxEdits) {
+        int columns = Math.min(word.length(), queryWord.length() + maxEdits);
+        int[] twoRowsBack = new int[columns + 1];
+        int[] previous = new int[columns + 1];
+        int[] current = new int[columns + 1];
+        for (int column = 0; column <= columns; column++) {
+            previous[column] = column;
+        }
+        for (int row = 1; row <= queryWord.length(); row++) {
+            current[0] = row;
+            int rowMinimum = row;
+            for (int column = 1; column <= columns; column++) {
+                int cost = queryWord.charAt(row - 1) == word.charAt(column - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(previous[column] + 1, current[column - 1] + 1),
+                        previous[column - 1] + cost);
+                if (row > 1 && column > 1 && queryWord.charAt(row - 1) == word.charAt(column - 2)
+                        && queryWord.charAt(row - 2) == word.charAt(column - 1)) {
+                    distance = Math.min(distance, twoRowsBack[column - 2] + 1);
+                }
+                current[column] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+            if (rowMinimum > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] recycled = twoRowsBack;
+            twoRowsBack = previous;
+            previous = current;
+            current = recycled;
+        }
+        int best = maxEdits + 1;
+        for (int column = 0; column <= columns; column++) {
+            best = Math.min(best, previous[column]);
+        }
+        return best;
+    }
+
+    private static void collect(Map<Long, Double> wordScores, Map<Long, Integer> postings,
+                                double score, double[] fieldWeights) {
+        postings.forEach((id, fieldMask) -> {
+            double weight = 0;
+            for (int field = 0; field < fieldWeights.length; field++) {
+                if ((fieldMask & (1 << field)) != 0) {
+                    weight = Math.max(weight, fieldWeights[field]);
+                }
+            }
+            wordScores.merge(id, score * weight, Math::max);
+        });
+    }
+
+    private static <V> void removePosting(Map<String, Set<V>> postings, String trigram, V value) {
+        Set<V> posting = postings.get(trigram);
+        if (posting != null && posting.remove(value) && posting.isEmpty()) {
+            postings.remove(trigram);
+        }
+    }
+
+    // Leading padding gives the first letters trigrams of their own, favouring prefix matches
+    private static String padded(String word) {
+        return "  " + word;
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int start = 0; start + 3 <= text.length(); start++) {
+            trigrams.add(text.substring(start, start + 3));
+        }
+        return trigrams;
+    }
+
+    private static final class Document {
+
+        private final String[] fields;
+        private final Set<String> words;
+
+        private Document(String[] fields, Set<String> words) {
+            this.fields = fields;
+            this.words = words;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.dto.BlockedSlotRequestDTO;
+import com.turfBooking.dto.BookingRequestDTO;
+import com.turfBooking.dto.BookingSeriesRequestDTO;
+import com.turfBooking.entity.BlockedSlot;
+import com.turfBooking.entity.Booking;
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.RecurrenceFrequency;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.repository.BlockedSlotRepository;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.service.interfaces.BlockedSlotService;
+import com.turfBooking.service.interfaces.BookingSeriesService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Blocked slots and series materialization go through the same turf-date lock and database
+ * conflict check as bookings: a blocked slot cannot be placed over a booking, a series
+ * occurrence or another blocked slot, and materialization skips occurrences taken meanwhile.
+ */
+class BlockedSlotConflictTests extends IntegrationTestSupport {
+
+    @Autowired
+    private BlockedSlotService blockedSlotService;
+
+    @Autowired
+    private BookingSeriesService bookingSeriesService;
+
+    @Autowired
+    private BlockedSlotRepository blockedSlotRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Test
+    void blockedSlotOverConfirmedBookingIsRejected() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        LocalDate date = LocalDate.now().plusDays(3);
+        bookingService.createBooking(new BookingRequestDTO(LocalTime.of(18, 0), LocalTime.of(19, 0), date,
+                createUser(UserRole.USER), turfId, BookingStatus.CONFIRMED));
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> blockedSlotService.createBlockedSlot(
+                new BlockedSlotRequestDTO(turfId, date, LocalTime.of(18, 30), LocalTime.of(20, 0))));
+        assertEquals("Time slot is not available", error.getMessage());
+        assertEquals(0, blockedSlotRepository.findByTurfIdAndBlockedDate(turfId, date).size());
+    }
+
+    @Test
+    void overlappingBlockedSlotIsRejectedButAdjacentOneIsAccepted() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        LocalDate date = LocalDate.now().plusDays(4);
+        blockedSlotService.createBlockedSlot(new BlockedSlotRequestDTO(turfId, date, LocalTime.of(8, 0), LocalTime.of(10, 0)));
+
+        assertThrows(RuntimeException.class, () -> blockedSlotService.createBlockedSlot(
+                new BlockedSlotRequestDTO(turfId, date, LocalTime.of(9, 0), LocalTime.of(11, 0))));
+        assertNotNull(blockedSlotService.createBlockedSlot(
+                new BlockedSlotRequestDTO(turfId, date, LocalTime.of(10, 0), LocalTime.of(11, 0))).getId());
+        assertEquals(2, blockedSlotRepository.findByTurfIdAndBlockedDate(turfId, date).size());
+    }
+
+    @Test
+    void blockedSlotOverPendingSeriesOccurrenceIsRejected() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        // Beyond the materialization window, so the occurrences exist only as the series rule
+        LocalDate start = LocalDate.now().plusDays(60);
+        bookingSeriesService.createSeries(new BookingSeriesRequestDTO(createUser(UserRole.USER), turfId,
+                LocalTime.of(7, 0), LocalTime.of(8, 0), start, start.plusDays(14), RecurrenceFrequency.WEEKLY));
+
+        assertThrows(RuntimeException.class, () -> blockedSlotService.createBlockedSlot(
+                new BlockedSlotRequestDTO(turfId, start.plusDays(7), LocalTime.of(7, 30), LocalTime.of(9, 0))));
+    }
+
+    @Test
+    void materializationSkipsOccurrencesTakenMeanwhile() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        LocalDate start = LocalDate.now().plusDays(40);
+        Long seriesId = bookingSeriesService.createSeries(new BookingSeriesRequestDTO(createUser(UserRole.USER), turfId,
+                LocalTime.of(18, 0), LocalTime.of(19, 0), start, start.plusDays(21), RecurrenceFrequency.WEEKLY)).getId();
+        assertEquals(0, bookingRepository.findByTurfId(turfId).size());
+
+        // A blocked slot written without the conflict check, e.g. before it existed
+        blockedSlotRepository.save(new BlockedSlot(start.plusDays(7), LocalTime.of(17, 0), LocalTime.of(18, 30),
+                turfRepository.findById(turfId).orElseThrow()));
+
+        Object target = AopTestUtils.getTargetObject(bookingSeriesService);
+        Object windowDays = ReflectionTestUtils.getField(target, "windowDays");
+        ReflectionTestUtils.setField(target, "windowDays", 90);
+        try {
+            assertEquals(3, bookingSeriesService.materializeSeries(seriesId));
+        } finally {
+            ReflectionTestUtils.setField(target, "windowDays", windowDays);
+        }
+
+        List<LocalDate> booked = bookingRepository.findByTurfId(turfId).stream()
+                .map(Booking::getBookingDate)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(List.of(start, start.plusDays(14), start.plusDays(21)), booked);
+        assertEquals(start.plusDays(21), bookingSeriesService.getSeriesById(seriesId).getMaterializedThrough());
+    }
+}
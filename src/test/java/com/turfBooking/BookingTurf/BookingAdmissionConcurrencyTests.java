@@ -0,0 +1,105 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.dto.BookingRequestDTO;
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.repository.BookingRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Races concurrent requests through BookingService and the real SlotLockService: many
+ * requests for the same slot admit exactly one booking, and requests for disjoint turfs
+ * are all admitted.
+ */
+class BookingAdmissionConcurrencyTests extends IntegrationTestSupport {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Test
+    void hotSlotAdmitsExactlyOneBooking() throws Exception {
+        Long ownerId = createUser(UserRole.TURF_OWNER);
+        Long turfId = createTurf(ownerId);
+        LocalDate date = LocalDate.now().plusDays(5);
+        List<Long> users = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            users.add(createUser(UserRole.USER));
+        }
+
+        int admitted = race(thread -> new BookingRequestDTO(LocalTime.of(18, 0), LocalTime.of(19, 0), date,
+                users.get(thread), turfId, BookingStatus.CONFIRMED));
+
+        assertEquals(1, admitted);
+        assertEquals(1, bookingRepository.findByTurfId(turfId).size());
+    }
+
+    @Test
+    void disjointTurfsAreAllAdmitted() throws Exception {
+        Long ownerId = createUser(UserRole.TURF_OWNER);
+        Long userId = createUser(UserRole.USER);
+        LocalDate date = LocalDate.now().plusDays(6);
+        List<Long> turfs = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            turfs.add(createTurf(ownerId));
+        }
+
+        int admitted = race(thread -> new BookingRequestDTO(LocalTime.of(18, 0), LocalTime.of(19, 0), date,
+                userId, turfs.get(thread), BookingStatus.CONFIRMED));
+
+        assertEquals(THREADS, admitted);
+        for (Long turfId : turfs) {
+            assertEquals(1, bookingRepository.findByTurfId(turfId).size());
+        }
+    }
+
+    // Release every request at once and count the bookings that were created
+    private int race(IntFunction<BookingRequestDTO> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                BookingRequestDTO request = requests.apply(i);
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        bookingService.createBooking(request);
+                        return true;
+                    } catch (RuntimeException e) {
+                        return false;
+                    }
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            int admitted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(60, TimeUnit.SECONDS)) {
+                    admitted++;
+                }
+            }
+            return admitted;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.dto.BookingRequestDTO;
+import com.turfBooking.dto.DailyRevenueDTO;
+import com.turfBooking.dto.OwnerAnalyticsDTO;
+import com.turfBooking.dto.TurfAnalyticsDTO;
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.SportType;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.service.interfaces.BookingAnalyticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks owner analytics on a small fixture of two turfs: revenue against the per-booking
+ * price from calculateTotalPrice, utilization against the operating hours, cancellation
+ * rate and peak hours, with bookings on both edges of the date range and just outside it.
+ */
+class BookingAnalyticsTests extends IntegrationTestSupport {
+
+    @Autowired
+    private BookingAnalyticsService bookingAnalyticsService;
+
+    private Long ownerId;
+    private Long footballTurf;
+    private Long cricketTurf;
+    private Long userId;
+    private LocalDate start;
+    private LocalDate end;
+
+    // Sum of calculateTotalPrice over the confirmed bookings inside the range, per turf and on the first day
+    private BigDecimal footballRevenue;
+    private BigDecimal cricketRevenue;
+    private BigDecimal firstDayRevenue;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = createUser(UserRole.TURF_OWNER);
+        footballTurf = createTurf(ownerId);
+        cricketTurf = createTurf(ownerId, SportType.CRICKET, new BigDecimal("750"));
+        userId = createUser(UserRole.USER);
+        start = LocalDate.now().plusDays(10);
+        end = start.plusDays(2);
+
+        // First day: 90 minutes billed as two hours, and one hour
+        footballRevenue = book(footballTurf, start, LocalTime.of(9, 0), LocalTime.of(10, 30), BookingStatus.CONFIRMED)
+                .add(book(footballTurf, start, LocalTime.of(18, 0), LocalTime.of(19, 0), BookingStatus.CONFIRMED));
+        firstDayRevenue = footballRevenue;
+        book(footballTurf, start.plusDays(1), LocalTime.of(9, 0), LocalTime.of(10, 0), BookingStatus.CANCELLED);
+        footballRevenue = footballRevenue.add(
+                book(footballTurf, end, LocalTime.of(18, 0), LocalTime.of(19, 0), BookingStatus.CONFIRMED));
+        // 45 minutes billed as an hour
+        cricketRevenue = book(cricketTurf, start.plusDays(1), LocalTime.of(18, 30), LocalTime.of(19, 15),
+                BookingStatus.CONFIRMED);
+        book(cricketTurf, end, LocalTime.of(20, 0), LocalTime.of(21, 0), BookingStatus.CANCELLED);
+
+        // Just outside the range, and another owner's turf inside it
+        book(footballTurf, start.minusDays(1), LocalTime.of(9, 0), LocalTime.of(10, 0), BookingStatus.CONFIRMED);
+        book(footballTurf, start.minusDays(1), LocalTime.of(11, 0), LocalTime.of(12, 0), BookingStatus.CANCELLED);
+        book(footballTurf, end.plusDays(1), LocalTime.of(9, 0), LocalTime.of(10, 0), BookingStatus.CONFIRMED);
+        book(createTurf(createUser(UserRole.TURF_OWNER)), start, LocalTime.of(9, 0), LocalTime.of(10, 0),
+                BookingStatus.CONFIRMED);
+    }
+
+    @Test
+    void totalsCoverExactlyTheRange() {
+        OwnerAnalyticsDTO analytics = bookingAnalyticsService.getOwnerAnalytics(ownerId, start, end);
+
+        assertEquals(0, footballRevenue.add(cricketRevenue).compareTo(analytics.getTotalRevenue()),
+                analytics.getTotalRevenue().toPlainString());
+        assertEquals(4, analytics.getConfirmedBookings());
+        assertEquals(2, analytics.getCancelledBookings());
+        assertEquals(90 + 60 + 60 + 45, analytics.getBookedMinutes());
+        // 255 of 2 turfs x 3 days x 16 hours
+        assertEquals(4.43, analytics.getUtilizationPercent());
+        assertEquals(0.3333, analytics.getCancellationRate());
+        // 18:00 has 150 minutes, 09:00 has 60 and 10:00 has 30
+        assertEquals(List.of(18, 9, 10), analytics.getPeakHours());
+        assertEquals(15, analytics.getBookedMinutesByHour().get(19));
+
+        List<LocalDate> days = analytics.getDaily().stream().map(DailyRevenueDTO::getDate).toList();
+        assertEquals(List.of(start, start.plusDays(1), end), days);
+        assertEquals(0, firstDayRevenue.compareTo(analytics.getDaily().get(0).getRevenue()));
+    }
+
+    @Test
+    void perTurfFiguresAreOrderedByRevenue() {
+        List<TurfAnalyticsDTO> turfs = bookingAnalyticsService.getOwnerAnalytics(ownerId, start, end).getTurfs();
+
+        assertEquals(List.of(footballTurf, cricketTurf), turfs.stream().map(TurfAnalyticsDTO::getTurfId).toList());
+        TurfAnalyticsDTO football = turfs.get(0);
+        assertEquals(0, footballRevenue.compareTo(football.getRevenue()));
+        assertEquals(3, football.getConfirmedBookings());
+        assertEquals(1, football.getCancelledBookings());
+        assertEquals(7.29, football.getUtilizationPercent());
+        assertEquals(0.25, football.getCancellationRate());
+
+        TurfAnalyticsDTO cricket = turfs.get(1);
+        assertEquals(0, cricketRevenue.compareTo(cricket.getRevenue()));
+        assertEquals(1.56, cricket.getUtilizationPercent());
+        assertEquals(0.5, cricket.getCancellationRate());
+    }
+
+    @Test
+    void singleDayRangesIncludeTheirDay() {
+        OwnerAnalyticsDTO firstDay = bookingAnalyticsService.getOwnerAnalytics(ownerId, start, start);
+        assertEquals(0, firstDayRevenue.compareTo(firstDay.getTotalRevenue()));
+        assertEquals(2, firstDay.getConfirmedBookings());
+        assertEquals(0.0, firstDay.getCancellationRate());
+        // 150 of 2 turfs x 16 hours
+        assertEquals(7.81, firstDay.getUtilizationPercent());
+
+        OwnerAnalyticsDTO lastDay = bookingAnalyticsService.getOwnerAnalytics(ownerId, end, end);
+        assertEquals(1, lastDay.getConfirmedBookings());
+        assertEquals(1, lastDay.getCancelledBookings());
+        assertEquals(0.5, lastDay.getCancellationRate());
+
+        // No bookings at all: zeros rather than a division by zero
+        OwnerAnalyticsDTO empty = bookingAnalyticsService.getOwnerAnalytics(ownerId, end.plusDays(5), end.plusDays(5));
+        assertEquals(0, BigDecimal.ZERO.compareTo(empty.getTotalRevenue()));
+        assertEquals(0.0, empty.getUtilizationPercent());
+        assertEquals(0.0, empty.getCancellationRate());
+        assertEquals(List.of(), empty.getPeakHours());
+    }
+
+    @Test
+    void missingDatesDefaultToThirtyDays() {
+        OwnerAnalyticsDTO fromStart = bookingAnalyticsService.getOwnerAnalytics(ownerId, start, null);
+        assertEquals(start.plusDays(29), fromStart.getEndDate());
+        // The booking the day after the range is now inside it
+        assertEquals(5, fromStart.getConfirmedBookings());
+
+        OwnerAnalyticsDTO untilEnd = bookingAnalyticsService.getOwnerAnalytics(ownerId, null, end);
+        assertEquals(end.minusDays(29), untilEnd.getStartDate());
+        assertEquals(5, untilEnd.getConfirmedBookings());
+    }
+
+    @Test
+    void invalidRangesAreRejected() {
+        assertThrows(RuntimeException.class, () -> bookingAnalyticsService.getOwnerAnalytics(ownerId, end, start));
+        assertThrows(RuntimeException.class, () ->
+                bookingAnalyticsService.getOwnerAnalytics(ownerId, start, start.plusDays(366)));
+        assertThrows(RuntimeException.class, () -> bookingAnalyticsService.getOwnerAnalytics(-1L, start, end));
+    }
+
+    // Books the slot and returns what calculateTotalPrice charges for it, or zero when it is cancelled
+    private BigDecimal book(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime, BookingStatus status) {
+        bookingService.createBooking(new BookingRequestDTO(startTime, endTime, date, userId, turfId, status));
+        return status == BookingStatus.CONFIRMED
+                ? bookingService.calculateTotalPrice(turfId, startTime, endTime)
+                : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,83 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.dto.BatchBookingRequestDTO;
+import com.turfBooking.dto.BatchBookingResponseDTO;
+import com.turfBooking.dto.BookingSlotDTO;
+import com.turfBooking.entity.Booking;
+import com.turfBooking.enums.BatchBookingMode;
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.service.implementation.BookingServiceImplementation;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The batch booking path inserts through JDBC; these tests keep it in step with the
+ * Booking mapping.
+ */
+class BookingBatchInsertTests extends IntegrationTestSupport {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void batchInsertWritesEveryMappedColumn() {
+        AbstractEntityPersister persister = (AbstractEntityPersister) entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(Booking.class);
+        Set<String> mapped = new TreeSet<>();
+        for (String property : persister.getPropertyNames()) {
+            Arrays.stream(persister.getPropertyColumnNames(property)).map(String::toLowerCase).forEach(mapped::add);
+        }
+
+        assertEquals(mapped, new TreeSet<>(BookingServiceImplementation.BATCH_INSERT_COLUMNS));
+    }
+
+    @Test
+    @Transactional
+    void batchInsertedBookingRoundTripsThroughRepository() {
+        Long userId = createUser(UserRole.USER);
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        LocalDate date = LocalDate.now().plusDays(9);
+
+        BatchBookingResponseDTO response = bookingService.createBookings(new BatchBookingRequestDTO(userId,
+                BatchBookingMode.ALL_OR_NOTHING, List.of(
+                        new BookingSlotDTO(turfId, date, LocalTime.of(7, 0), LocalTime.of(8, 0)),
+                        new BookingSlotDTO(turfId, date, LocalTime.of(9, 0), LocalTime.of(10, 30)))));
+        assertEquals(2, response.getBookedCount());
+
+        Booking booking = bookingRepository.findById(response.getBookings().get(1).getId()).orElseThrow();
+        assertEquals(LocalTime.of(9, 0), booking.getSlotStartTime());
+        assertEquals(LocalTime.of(10, 30), booking.getSlotEndTime());
+        assertEquals(date, booking.getBookingDate());
+        assertEquals(BookingStatus.CONFIRMED, booking.getStatus());
+        assertEquals(0L, booking.getVersion());
+        assertNull(booking.getSeriesId());
+        assertEquals(userId, booking.getUser().getId());
+        assertEquals(turfId, booking.getTurf().getId());
+
+        // The row is a normal versioned entity afterwards
+        booking.setStatus(BookingStatus.CANCELLED);
+        bookingRepository.saveAndFlush(booking);
+        assertEquals(1L, booking.getVersion());
+    }
+}
@@ -0,0 +1,171 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.dto.BookingRequestDTO;
+import com.turfBooking.dto.BookingSeriesRequestDTO;
+import com.turfBooking.dto.BookingUpdateDTO;
+import com.turfBooking.dto.TurfUpdateDTO;
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.RecurrenceFrequency;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.repository.BookingDailyRollupRepository;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.service.interfaces.BookingRollupService;
+import com.turfBooking.service.interfaces.BookingSeriesService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the incremental rollup refresh through changes that move bookings between days or
+ * update them without booking events, and checks the rollups of the turfs involved against a
+ * fresh aggregate of their bookings.
+ */
+class BookingRollupTests extends IntegrationTestSupport {
+
+    @Autowired
+    private BookingRollupService bookingRollupService;
+
+    @Autowired
+    private BookingSeriesService bookingSeriesService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingDailyRollupRepository bookingDailyRollupRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void movedBookingLeavesItsOldDay() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        Long userId = createUser(UserRole.USER);
+        LocalDate from = LocalDate.now().plusDays(3);
+        LocalDate to = LocalDate.now().plusDays(5);
+        Long bookingId = bookingService.createBooking(new BookingRequestDTO(LocalTime.of(18, 0), LocalTime.of(19, 0),
+                from, userId, turfId, BookingStatus.CONFIRMED)).getId();
+        bookingService.createBooking(new BookingRequestDTO(LocalTime.of(9, 0), LocalTime.of(10, 30),
+                to, userId, turfId, BookingStatus.CONFIRMED));
+        refreshAll();
+        assertRollupsMatchBookings(turfId);
+
+        bookingService.updateBooking(bookingId, new BookingUpdateDTO(LocalTime.of(19, 0), LocalTime.of(21, 0),
+                to, BookingStatus.CONFIRMED));
+        refreshAll();
+
+        Map<String, String> rollups = assertRollupsMatchBookings(turfId);
+        assertEquals(Map.of(turfId + "/" + to, "2,0,210,4000"), rollups);
+    }
+
+    @Test
+    void cancelledSeriesIsCountedAsCancelled() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        LocalDate start = LocalDate.now().plusDays(1);
+        Long seriesId = bookingSeriesService.createSeries(new BookingSeriesRequestDTO(createUser(UserRole.USER), turfId,
+                LocalTime.of(20, 0), LocalTime.of(21, 0), start, start.plusDays(14), RecurrenceFrequency.WEEKLY)).getId();
+        refreshAll();
+        assertEquals(3, assertRollupsMatchBookings(turfId).size());
+
+        // Cancelling updates the bookings in bulk; only the series event records the days
+        bookingSeriesService.cancelSeries(seriesId);
+        refreshAll();
+
+        Map<String, String> rollups = assertRollupsMatchBookings(turfId);
+        assertEquals(3, rollups.size());
+        assertTrue(rollups.values().stream().allMatch("0,1,0,0"::equals), rollups.toString());
+    }
+
+    @Test
+    void deletedUserDisappearsFromEveryTurf() {
+        Long ownerId = createUser(UserRole.TURF_OWNER);
+        Long firstTurf = createTurf(ownerId);
+        Long secondTurf = createTurf(ownerId);
+        Long leaving = createUser(UserRole.USER);
+        Long staying = createUser(UserRole.USER);
+        LocalDate date = LocalDate.now().plusDays(4);
+        bookingService.createBooking(new BookingRequestDTO(LocalTime.of(7, 0), LocalTime.of(8, 0),
+                date, leaving, firstTurf, BookingStatus.CONFIRMED));
+        bookingService.createBooking(new BookingRequestDTO(LocalTime.of(7, 0), LocalTime.of(8, 0),
+                date, leaving, secondTurf, BookingStatus.CONFIRMED));
+        bookingService.createBooking(new BookingRequestDTO(LocalTime.of(8, 0), LocalTime.of(9, 0),
+                date, staying, secondTurf, BookingStatus.CONFIRMED));
+        refreshAll();
+        assertRollupsMatchBookings(firstTurf, secondTurf);
+
+        userService.deleteUser(leaving);
+        refreshAll();
+
+        Map<String, String> rollups = assertRollupsMatchBookings(firstTurf, secondTurf);
+        assertEquals(Map.of(secondTurf + "/" + date, "1,0,60,1000"), rollups);
+    }
+
+    @Test
+    void revenueIsRepricedOnlyWhenTheDayIsRecomputed() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        Long userId = createUser(UserRole.USER);
+        LocalDate first = LocalDate.now().plusDays(2);
+        LocalDate second = LocalDate.now().plusDays(3);
+        bookingService.createBooking(new BookingRequestDTO(LocalTime.of(10, 0), LocalTime.of(11, 0),
+                first, userId, turfId, BookingStatus.CONFIRMED));
+        refreshAll();
+
+        TurfUpdateDTO priceChange = new TurfUpdateDTO();
+        priceChange.setPricePerSlot(new BigDecimal("1500"));
+        turfService.updateTurf(turfId, priceChange);
+        bookingService.createBooking(new BookingRequestDTO(LocalTime.of(10, 0), LocalTime.of(11, 0),
+                second, userId, turfId, BookingStatus.CONFIRMED));
+        refreshAll();
+        assertEquals(Map.of(turfId + "/" + first, "1,0,60,1000", turfId + "/" + second, "1,0,60,1500"),
+                rollups(turfId));
+
+        bookingRollupService.rebuildRollups();
+        assertEquals(Map.of(turfId + "/" + first, "1,0,60,1500", turfId + "/" + second, "1,0,60,1500"),
+                assertRollupsMatchBookings(turfId));
+    }
+
+    private void refreshAll() {
+        while (bookingRollupService.refreshRollups() > 0) {
+            // drain the change queue
+        }
+    }
+
+    // Asserts the stored rollups of the turfs equal a fresh aggregate and returns them
+    private Map<String, String> assertRollupsMatchBookings(Long... turfIds) {
+        Map<String, String> expected = new TreeMap<>();
+        for (Object[] row : bookingRepository.aggregateDailyRollupsForTurfs(List.of(turfIds))) {
+            expected.put(row[0] + "/" + row[1], row[2] + "," + row[3] + "," + row[4] + ","
+                    + plain(new BigDecimal(row[5].toString())));
+        }
+        Map<String, String> actual = rollups(turfIds);
+        assertEquals(expected, actual);
+        return actual;
+    }
+
+    private Map<String, String> rollups(Long... turfIds) {
+        List<Long> wanted = List.of(turfIds);
+        Map<String, String> rollups = new TreeMap<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                bookingDailyRollupRepository.findAll().stream()
+                        .filter(rollup -> wanted.contains(rollup.getTurf().getId()))
+                        .forEach(rollup -> rollups.put(rollup.getTurf().getId() + "/" + rollup.getBookingDate(),
+                                rollup.getConfirmedCount() + "," + rollup.getCancelledCount() + ","
+                                        + rollup.getBookedMinutes() + "," + plain(rollup.getRevenue()))));
+        return rollups;
+    }
+
+    private static String plain(BigDecimal value) {
+        return value.stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,66 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.dto.TurfRequestDTO;
+import com.turfBooking.entity.User;
+import com.turfBooking.enums.SportType;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.service.interfaces.BookingService;
+import com.turfBooking.service.interfaces.TurfService;
+import com.turfBooking.service.interfaces.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base class for tests that run against the full application on the in-memory H2 profile.
+ * Every test class shares one context and database, so fixtures get unique phone numbers.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+abstract class IntegrationTestSupport {
+
+    private static final AtomicLong PHONES = new AtomicLong(9100000000L);
+
+    @Autowired
+    protected UserService userService;
+
+    @Autowired
+    protected TurfService turfService;
+
+    @Autowired
+    protected BookingService bookingService;
+
+    protected static String nextPhone() {
+        return String.valueOf(PHONES.incrementAndGet());
+    }
+
+    protected Long createUser(UserRole role) {
+        return createUser(role, nextPhone(), "secret123");
+    }
+
+    protected Long createUser(UserRole role, String phone, String password) {
+        return userService.createUserEntity(new User("Test " + phone, phone, password, role)).getId();
+    }
+
+    protected Long createTurf(Long ownerId) {
+        return createTurf(ownerId, SportType.FOOTBALL, new BigDecimal("1000"));
+    }
+
+    protected Long createTurf(Long ownerId, SportType type, BigDecimal pricePerSlot) {
+        String phone = nextPhone();
+        TurfRequestDTO turf = new TurfRequestDTO();
+        turf.setName("Turf " + phone);
+        turf.setPhone(phone);
+        turf.setLocation("Indiranagar Bangalore");
+        turf.setType(type);
+        turf.setPricePerSlot(pricePerSlot);
+        turf.setOperatingStartTime(LocalTime.of(6, 0));
+        turf.setOperatingEndTime(LocalTime.of(22, 0));
+        turf.setOwnerId(ownerId);
+        return turfService.createTurf(turf).getId();
+    }
+}
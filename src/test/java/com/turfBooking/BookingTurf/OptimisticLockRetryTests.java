@@ -0,0 +1,88 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.entity.Turf;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.util.OptimisticLockRetry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Forces @Version conflicts by committing a competing update between the read and the
+ * write of an OptimisticLockRetry attempt.
+ */
+class OptimisticLockRetryTests extends IntegrationTestSupport {
+
+    @Autowired
+    private OptimisticLockRetry optimisticLockRetry;
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void conflictIsRetriedOnFreshState() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = optimisticLockRetry.execute("test.retry", () -> {
+            Turf turf = turfRepository.findById(turfId).orElseThrow();
+            if (attempts.incrementAndGet() == 1) {
+                updatePriceConcurrently(turfId, new BigDecimal("1500"));
+            }
+            turf.setDescription("Renovated");
+            turfRepository.saveAndFlush(turf);
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(2, attempts.get());
+        Turf turf = turfRepository.findById(turfId).orElseThrow();
+        // The retry re-read the turf, so the concurrent price change survives
+        assertEquals(0, new BigDecimal("1500").compareTo(turf.getPricePerSlot()));
+        assertEquals("Renovated", turf.getDescription());
+        assertEquals(Map.of("conflicts", 1L, "retries", 1L, "exhausted", 0L),
+                optimisticLockRetry.getStatistics().get("test.retry"));
+    }
+
+    @Test
+    void persistentConflictGivesUpAfterMaxAttempts() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        AtomicInteger attempts = new AtomicInteger();
+
+        RuntimeException error = assertThrows(RuntimeException.class, () ->
+                optimisticLockRetry.execute("test.exhausted", () -> {
+                    Turf turf = turfRepository.findById(turfId).orElseThrow();
+                    updatePriceConcurrently(turfId, new BigDecimal(1000 + attempts.incrementAndGet()));
+                    turf.setDescription("Never saved");
+                    return turfRepository.saveAndFlush(turf);
+                }));
+
+        assertEquals("Record was modified concurrently, please retry", error.getMessage());
+        assertEquals(3, attempts.get());
+        assertEquals(Map.of("conflicts", 3L, "retries", 2L, "exhausted", 1L),
+                optimisticLockRetry.getStatistics().get("test.exhausted"));
+    }
+
+    // Commits a price change in its own transaction, bumping the turf's version
+    private void updatePriceConcurrently(Long turfId, BigDecimal price) {
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        concurrent.executeWithoutResult(status -> {
+            Turf turf = turfRepository.findById(turfId).orElseThrow();
+            turf.setPricePerSlot(price);
+        });
+    }
+}
@@ -0,0 +1,233 @@
+package com.turfBooking.BookingTurf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turfBooking.dto.UserUpdateDTO;
+import com.turfBooking.entity.RefreshToken;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.repository.RefreshTokenRepository;
+import com.turfBooking.service.interfaces.RefreshTokenService;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Drives login, /api/auth/refresh and /api/auth/logout through the security filter chain:
+ * refresh tokens are single-use, a reused one revokes its whole family (and that revocation
+ * is committed although the request fails, unlike any other failed renewal), and expiry,
+ * logout and credential changes all end the session.
+ */
+class RefreshTokenTests extends IntegrationTestSupport {
+
+    private static final String PASSWORD = "secret123";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    @Qualifier("springSecurityFilterChain")
+    private Filter springSecurityFilterChain;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(springSecurityFilterChain).build();
+    }
+
+    @Test
+    void refreshTokenCanOnlyBeUsedOnce() throws Exception {
+        JsonNode login = login(newUserPhone());
+        JsonNode renewed = refresh(login.get("refreshToken").asText());
+        assertNotEquals(login.get("refreshToken").asText(), renewed.get("refreshToken").asText());
+
+        // The renewed pair works
+        getUser(renewed).andExpect(status().isOk());
+        refresh(renewed.get("refreshToken").asText());
+    }
+
+    @Test
+    void reuseRevokesTheWholeFamily() throws Exception {
+        String phone = newUserPhone();
+        JsonNode login = login(phone);
+        String first = login.get("refreshToken").asText();
+        String second = refresh(first).get("refreshToken").asText();
+
+        postRefresh(first)
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().string(containsString("already used")));
+
+        // The revocation was committed although the reuse failed: the live token of the family is dead
+        postRefresh(second)
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().string(containsString("revoked")));
+        // Other logins of the same user keep their sessions
+        refresh(login(phone).get("refreshToken").asText());
+    }
+
+    @Test
+    void failedRenewalKeepsTheTokenUnused() throws Exception {
+        String refreshToken = login(newUserPhone()).get("refreshToken").asText();
+
+        // Saving the replacement fails after the presented token was marked used
+        Object target = AopTestUtils.getTargetObject(refreshTokenService);
+        ReflectionTestUtils.setField(target, "refreshTokenRepository", repositoryFailingOnSave());
+        try {
+            assertThrows(RuntimeException.class, () -> refreshTokenService.rotateRefreshToken(refreshToken));
+        } finally {
+            ReflectionTestUtils.setField(target, "refreshTokenRepository", refreshTokenRepository);
+        }
+
+        // That was rolled back, so the token is not taken for a reuse
+        refresh(refreshToken);
+    }
+
+    @Test
+    void expiredRefreshTokenIsRejected() throws Exception {
+        String phone = newUserPhone();
+        Object target = AopTestUtils.getTargetObject(refreshTokenService);
+        Object refreshExpiration = ReflectionTestUtils.getField(target, "refreshExpiration");
+        ReflectionTestUtils.setField(target, "refreshExpiration", -1000L);
+        String expired;
+        try {
+            expired = login(phone).get("refreshToken").asText();
+        } finally {
+            ReflectionTestUtils.setField(target, "refreshExpiration", refreshExpiration);
+        }
+
+        postRefresh(expired)
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().string(containsString("expired")));
+        postRefresh("not-a-refresh-token").andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logoutEndsTheAccessAndRefreshTokens() throws Exception {
+        JsonNode login = login(newUserPhone());
+        getUser(login).andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + login.get("token").asText())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("refreshToken", login.get("refreshToken").asText()))))
+                .andExpect(status().isOk());
+
+        getUser(login).andExpect(status().isUnauthorized());
+        postRefresh(login.get("refreshToken").asText()).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logoutIgnoresABlankRefreshToken() throws Exception {
+        JsonNode login = login(newUserPhone());
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("refreshToken", ""))))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Missing bearer token"));
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + login.get("token").asText())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("refreshToken", " "))))
+                .andExpect(status().isOk());
+
+        getUser(login).andExpect(status().isUnauthorized());
+        // The refresh token was not sent, so the login's refresh token family lives on
+        refresh(login.get("refreshToken").asText());
+    }
+
+    @Test
+    void credentialChangeRevokesRefreshTokens() throws Exception {
+        String phone = newUserPhone();
+        JsonNode login = login(phone);
+        Long userId = login.get("userId").asLong();
+
+        UserUpdateDTO update = new UserUpdateDTO();
+        update.setPassword("changed123");
+        userService.updateUser(userId, update);
+
+        postRefresh(login.get("refreshToken").asText()).andExpect(status().isUnauthorized());
+        getUser(login).andExpect(status().isUnauthorized());
+    }
+
+    private String newUserPhone() {
+        String phone = nextPhone();
+        createUser(UserRole.USER, phone, PASSWORD);
+        return phone;
+    }
+
+    private JsonNode login(String phone) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("phone", phone, "password", PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private JsonNode refresh(String refreshToken) throws Exception {
+        MvcResult result = postRefresh(refreshToken).andExpect(status().isOk()).andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private ResultActions postRefresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("refreshToken", refreshToken))));
+    }
+
+    private ResultActions getUser(JsonNode login) throws Exception {
+        return mockMvc.perform(get("/api/users/" + login.get("userId").asLong())
+                .header("Authorization", "Bearer " + login.get("token").asText()));
+    }
+
+    // The real repository, except that saving a token fails
+    private RefreshTokenRepository repositoryFailingOnSave() {
+        return (RefreshTokenRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{RefreshTokenRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("save") && args[0] instanceof RefreshToken) {
+                        throw new IllegalStateException("Simulated failure saving a refresh token");
+                    }
+                    try {
+                        return method.invoke(refreshTokenRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+}
@@ -0,0 +1,95 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.entity.RevokedToken;
+import com.turfBooking.repository.RevokedTokenRepository;
+import com.turfBooking.service.interfaces.RevokedTokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A refresh swaps in the revocations it read from the table, so a logout committed on this
+ * instance after that read must be carried over rather than lost until the next refresh.
+ */
+class RevokedTokenRefreshTests extends IntegrationTestSupport {
+
+    @Autowired
+    private RevokedTokenService revokedTokenService;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Test
+    void revocationCommittedDuringReloadSurvivesTheSwap() {
+        String before = UUID.randomUUID().toString();
+        String during = UUID.randomUUID().toString();
+        revokedTokenService.revokeToken(before, inFifteenMinutes());
+
+        Object target = AopTestUtils.getTargetObject(revokedTokenService);
+        // Revoke on another thread, in its own transaction, once the reload has read the table
+        ReflectionTestUtils.setField(target, "revokedTokenRepository", repositoryAfterLoad(() ->
+                CompletableFuture.runAsync(() -> revokedTokenService.revokeToken(during, inFifteenMinutes())).join()));
+        try {
+            revokedTokenService.refreshRevocations();
+        } finally {
+            ReflectionTestUtils.setField(target, "revokedTokenRepository", revokedTokenRepository);
+        }
+
+        assertTrue(revokedTokenService.isRevoked(before));
+        assertTrue(revokedTokenService.isRevoked(during));
+        // The earlier revocation was in the load and is no longer carried; the later one still is
+        Map<?, ?> local = (Map<?, ?>) ReflectionTestUtils.getField(target, "localRevocations");
+        assertFalse(local.containsKey(before));
+        assertTrue(local.containsKey(during));
+
+        // The next reload reads it from the table and stops carrying it
+        revokedTokenService.refreshRevocations();
+        assertTrue(revokedTokenService.isRevoked(during));
+        assertFalse(local.containsKey(during));
+        assertFalse(revokedTokenService.isRevoked(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void revocationsOfOtherInstancesArriveOnRefresh() {
+        String jti = UUID.randomUUID().toString();
+        // Written straight to the table, as another instance's logout would be
+        revokedTokenRepository.save(new RevokedToken(jti, inFifteenMinutes().toInstant()));
+        assertFalse(revokedTokenService.isRevoked(jti));
+
+        revokedTokenService.refreshRevocations();
+        assertTrue(revokedTokenService.isRevoked(jti));
+    }
+
+    // The real repository, except that findUnexpiredJtis runs the given action after reading
+    private RevokedTokenRepository repositoryAfterLoad(Runnable afterLoad) {
+        return (RevokedTokenRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{RevokedTokenRepository.class}, (proxy, method, args) -> {
+                    try {
+                        Object result = method.invoke(revokedTokenRepository, args);
+                        if (method.getName().equals("findUnexpiredJtis")) {
+                            afterLoad.run();
+                            return List.copyOf((List<?>) result);
+                        }
+                        return result;
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static Date inFifteenMinutes() {
+        return new Date(System.currentTimeMillis() + 900000);
+    }
+}
@@ -0,0 +1,64 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.service.interfaces.SlotIndexService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Once the slot index holds more turf windows than allowed it evicts the least recently
+ * used ones instead of dropping every window.
+ */
+class SlotIndexEvictionTests extends IntegrationTestSupport {
+
+    @Autowired
+    private SlotIndexService slotIndexService;
+
+    @Test
+    void overflowEvictsLeastRecentlyUsedWindows() throws Exception {
+        Long ownerId = createUser(UserRole.TURF_OWNER);
+        List<Long> turfs = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            turfs.add(createTurf(ownerId));
+        }
+        LocalDate date = LocalDate.now().plusDays(1);
+
+        Object target = AopTestUtils.getTargetObject(slotIndexService);
+        Object maxTurfs = ReflectionTestUtils.getField(target, "maxTurfs");
+        slotIndexService.invalidateAll();
+        ReflectionTestUtils.setField(target, "maxTurfs", 10);
+        try {
+            for (Long turfId : turfs.subList(0, 10)) {
+                slotIndexService.isSlotFree(turfId, date, LocalTime.of(9, 0), LocalTime.of(10, 0));
+                Thread.sleep(2);
+            }
+            // Touch the first turf again so the second one becomes the least recently used
+            slotIndexService.isSlotFree(turfs.get(0), date, LocalTime.of(9, 0), LocalTime.of(10, 0));
+            assertEquals(10, slotIndexService.size());
+
+            // The eleventh window overflows the bound; trimming to nine tenths drops the two oldest
+            slotIndexService.isSlotFree(turfs.get(10), date, LocalTime.of(9, 0), LocalTime.of(10, 0));
+            Map<?, ?> windows = (Map<?, ?>) ReflectionTestUtils.getField(target, "windows");
+            assertEquals(9, windows.size());
+            assertTrue(windows.containsKey(turfs.get(0)));
+            assertFalse(windows.containsKey(turfs.get(1)));
+            assertFalse(windows.containsKey(turfs.get(2)));
+            assertTrue(windows.containsKey(turfs.get(10)));
+        } finally {
+            ReflectionTestUtils.setField(target, "maxTurfs", maxTurfs);
+            slotIndexService.invalidateAll();
+        }
+    }
+}
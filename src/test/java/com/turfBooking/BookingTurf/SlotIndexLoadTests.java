@@ -0,0 +1,97 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.dto.BookingRequestDTO;
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.service.interfaces.SlotIndexService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A window load is only discarded when its own turf was written while it ran; writes to
+ * other turfs must not keep a turf from being cached.
+ */
+class SlotIndexLoadTests extends IntegrationTestSupport {
+
+    @Autowired
+    private SlotIndexService slotIndexService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Test
+    void writeToAnotherTurfDuringLoadKeepsTheWindow() {
+        Long ownerId = createUser(UserRole.TURF_OWNER);
+        Long loadedTurf = createTurf(ownerId);
+        Long otherTurf = createTurf(ownerId);
+        Long userId = createUser(UserRole.USER);
+        LocalDate date = LocalDate.now().plusDays(2);
+
+        assertTrue(loadWhile(loadedTurf, date, () -> book(otherTurf, userId, date, LocalTime.of(9, 0))));
+    }
+
+    @Test
+    void writeToTheSameTurfDuringLoadDiscardsTheWindow() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        Long userId = createUser(UserRole.USER);
+        LocalDate date = LocalDate.now().plusDays(2);
+
+        assertFalse(loadWhile(turfId, date, () -> book(turfId, userId, date, LocalTime.of(9, 0))));
+        // The next read loads again and sees the booking
+        assertFalse(slotIndexService.isSlotFree(turfId, date, LocalTime.of(9, 0), LocalTime.of(10, 0)));
+        assertTrue(windows().containsKey(turfId));
+    }
+
+    // Loads the turf's window while the write commits on another thread; returns whether it was cached
+    private boolean loadWhile(Long turfId, LocalDate date, Runnable write) {
+        Object target = AopTestUtils.getTargetObject(slotIndexService);
+        slotIndexService.invalidateTurf(turfId);
+        ReflectionTestUtils.setField(target, "bookingRepository", repositoryDuringLoad(() ->
+                CompletableFuture.runAsync(write).join()));
+        try {
+            slotIndexService.isSlotFree(turfId, date, LocalTime.of(18, 0), LocalTime.of(19, 0));
+        } finally {
+            ReflectionTestUtils.setField(target, "bookingRepository", bookingRepository);
+        }
+        return windows().containsKey(turfId);
+    }
+
+    private void book(Long turfId, Long userId, LocalDate date, LocalTime startTime) {
+        bookingService.createBooking(new BookingRequestDTO(startTime, startTime.plusHours(1), date, userId, turfId,
+                BookingStatus.CONFIRMED));
+    }
+
+    private Map<?, ?> windows() {
+        Object target = AopTestUtils.getTargetObject(slotIndexService);
+        return (Map<?, ?>) ReflectionTestUtils.getField(target, "windows");
+    }
+
+    // The real repository, except that the window query runs the given action after reading
+    private BookingRepository repositoryDuringLoad(Runnable duringLoad) {
+        return (BookingRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{BookingRepository.class}, (proxy, method, args) -> {
+                    try {
+                        Object result = method.invoke(bookingRepository, args);
+                        if (method.getName().equals("findBusyIntervalsForTurfBetween")) {
+                            duringLoad.run();
+                        }
+                        return result;
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
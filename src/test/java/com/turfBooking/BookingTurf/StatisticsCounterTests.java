@@ -0,0 +1,193 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.dto.BookingRequestDTO;
+import com.turfBooking.dto.BookingSeriesRequestDTO;
+import com.turfBooking.dto.BookingUpdateDTO;
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.RecurrenceFrequency;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.repository.UserRepository;
+import com.turfBooking.service.interfaces.BookingSeriesService;
+import com.turfBooking.service.interfaces.StatisticsCounterService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Checks the event-maintained statistics counters against the grouped queries they were
+ * counted with, after bookings were written concurrently with reads and recounts.
+ */
+class StatisticsCounterTests extends IntegrationTestSupport {
+
+    private static final int WRITERS = 4;
+    private static final int BOOKINGS_PER_WRITER = 12;
+
+    @Autowired
+    private StatisticsCounterService statisticsCounterService;
+
+    @Autowired
+    private BookingSeriesService bookingSeriesService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentWritesKeepLoadedCountersExact() throws Exception {
+        statisticsCounterService.invalidateAll();
+        statisticsCounterService.getBookingCountsByStatus();
+
+        List<Long> turfs = writeConcurrently(() -> {
+            statisticsCounterService.getBookingCountsByStatus();
+            statisticsCounterService.getBookingCountsBySportType();
+        });
+
+        assertCountersMatchQueries(turfs);
+    }
+
+    @Test
+    void recountsRacingWritesAreInstalledAndRecountedSoon() throws Exception {
+        Object target = AopTestUtils.getTargetObject(statisticsCounterService);
+        Object ttlSeconds = ReflectionTestUtils.getField(target, "ttlSeconds");
+        ReflectionTestUtils.setField(target, "ttlSeconds", 1L);
+        try {
+            List<Long> turfs = writeConcurrently(() -> {
+                statisticsCounterService.invalidateAll();
+                statisticsCounterService.getBookingCountsByStatus();
+            });
+            // Every read above installed counters, raced or not
+            assertNotNull(ReflectionTestUtils.getField(target, "counters"));
+
+            // A raced recount lives a tenth of the period; the next one runs without writes
+            Thread.sleep(1100);
+            assertCountersMatchQueries(turfs);
+        } finally {
+            ReflectionTestUtils.setField(target, "ttlSeconds", ttlSeconds);
+        }
+    }
+
+    @Test
+    void readAfterBulkChangeInstallsTheRecount() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        LocalDate start = LocalDate.now().plusDays(1);
+        Long seriesId = bookingSeriesService.createSeries(new BookingSeriesRequestDTO(createUser(UserRole.USER), turfId,
+                LocalTime.of(21, 0), LocalTime.of(22, 0), start, start.plusDays(14), RecurrenceFrequency.WEEKLY)).getId();
+        bookingSeriesService.cancelSeries(seriesId);
+
+        Object target = AopTestUtils.getTargetObject(statisticsCounterService);
+        statisticsCounterService.getBookingCountsByStatus();
+        Object recounted = ReflectionTestUtils.getField(target, "counters");
+        assertNotNull(recounted);
+        statisticsCounterService.getBookingCountByTurf(turfId);
+        assertSame(recounted, ReflectionTestUtils.getField(target, "counters"));
+        assertCountersMatchQueries(List.of(turfId));
+    }
+
+    // Writers create, move and cancel bookings on turfs of their own while reader runs in a loop
+    private List<Long> writeConcurrently(Runnable reader) throws Exception {
+        Long ownerId = createUser(UserRole.TURF_OWNER);
+        List<Long> turfs = new ArrayList<>();
+        List<Long> users = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            turfs.add(createTurf(ownerId));
+            users.add(createUser(UserRole.USER));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            Future<?> reading = executor.submit(() -> {
+                while (writing.get()) {
+                    reader.run();
+                }
+            });
+            List<Future<?>> writes = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                Long turfId = turfs.get(writer);
+                Long userId = users.get(writer);
+                writes.add(executor.submit(() -> {
+                    for (int i = 0; i < BOOKINGS_PER_WRITER; i++) {
+                        LocalDate date = LocalDate.now().plusDays(1 + i % 3);
+                        LocalTime startTime = LocalTime.of(6 + i, 0);
+                        Long bookingId = bookingService.createBooking(new BookingRequestDTO(startTime,
+                                startTime.plusHours(1), date, userId, turfId, BookingStatus.CONFIRMED)).getId();
+                        if (i % 3 == 1) {
+                            bookingService.updateBooking(bookingId, new BookingUpdateDTO(startTime,
+                                    startTime.plusHours(1), date.plusDays(7), BookingStatus.CONFIRMED));
+                        } else if (i % 3 == 2) {
+                            bookingService.updateBooking(bookingId, new BookingUpdateDTO(startTime,
+                                    startTime.plusHours(1), date, BookingStatus.CANCELLED));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> write : writes) {
+                write.get();
+            }
+            writing.set(false);
+            reading.get();
+        } finally {
+            writing.set(false);
+            executor.shutdownNow();
+        }
+        return turfs;
+    }
+
+    private void assertCountersMatchQueries(List<Long> turfs) {
+        Map<BookingStatus, Long> byStatus = new EnumMap<>(BookingStatus.class);
+        for (BookingStatus status : BookingStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        Map<Long, Long> byTurf = new HashMap<>();
+        for (Object[] row : bookingRepository.countGroupedByTurfAndStatus()) {
+            byStatus.merge((BookingStatus) row[1], (Long) row[2], Long::sum);
+            byTurf.merge((Long) row[0], (Long) row[2], Long::sum);
+        }
+        assertEquals(byStatus, statisticsCounterService.getBookingCountsByStatus());
+        for (Long turfId : turfs) {
+            assertEquals(byTurf.getOrDefault(turfId, 0L), statisticsCounterService.getBookingCountByTurf(turfId),
+                    "turf " + turfId);
+        }
+
+        LocalDate from = LocalDate.now();
+        LocalDate to = LocalDate.now().plusDays(10);
+        long inRange = 0;
+        for (Object[] row : bookingRepository.countGroupedByBookingDate()) {
+            LocalDate date = (LocalDate) row[0];
+            if (!date.isBefore(from) && !date.isAfter(to)) {
+                inRange += (Long) row[1];
+            }
+        }
+        assertEquals(inRange, statisticsCounterService.getBookingCountBetween(from, to));
+
+        Map<UserRole, Long> byRole = new EnumMap<>(UserRole.class);
+        for (UserRole role : UserRole.values()) {
+            byRole.put(role, 0L);
+        }
+        for (Object[] row : userRepository.countGroupedByRole()) {
+            byRole.put((UserRole) row[0], (Long) row[1]);
+        }
+        assertEquals(byRole, statisticsCounterService.getUserCountsByRole());
+    }
+}
@@ -0,0 +1,103 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.dto.UserUpdateDTO;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.repository.UserRepository;
+import com.turfBooking.repository.UserRevocationRepository;
+import com.turfBooking.security.CustomUserDetails;
+import com.turfBooking.security.TokenRevocationRegistry;
+import com.turfBooking.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Revocations must reach registries that did not handle the change themselves, as another
+ * instance's would, and must not reject a token issued after the change in the same second.
+ */
+class TokenRevocationTests extends IntegrationTestSupport {
+
+    private static final long TOKEN_LIFETIME_MILLIS = 900000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRevocationRepository userRevocationRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void deletedUserIsRevokedOnOtherInstances() {
+        Long deleted = createUser(UserRole.USER);
+        Long kept = createUser(UserRole.USER);
+        long issuedBefore = System.currentTimeMillis() - 1000;
+
+        userService.deleteUser(deleted);
+        TokenRevocationRegistry otherInstance = otherInstance();
+
+        assertTrue(otherInstance.isRevoked(deleted, issuedBefore));
+        assertFalse(otherInstance.isRevoked(kept, issuedBefore));
+    }
+
+    @Test
+    void credentialChangeIsRevokedOnOtherInstances() {
+        String phone = nextPhone();
+        Long userId = createUser(UserRole.USER, phone, "secret123");
+        long issuedBefore = System.currentTimeMillis() - 1000;
+
+        UserUpdateDTO update = new UserUpdateDTO();
+        update.setPassword("changed123");
+        userService.updateUser(userId, update);
+
+        assertTrue(otherInstance().isRevoked(userId, issuedBefore));
+    }
+
+    @Test
+    void revocationIsComparedToTheMillisecond() {
+        TokenRevocationRegistry registry = otherInstance();
+        Long userId = createUser(UserRole.USER);
+        Instant changedAt = Instant.ofEpochSecond(Instant.now().getEpochSecond(), 400_000_000);
+        registry.revoke(userId, changedAt);
+
+        long changedAtMillis = changedAt.toEpochMilli();
+        assertTrue(registry.isRevoked(userId, changedAtMillis - 1));
+        assertTrue(registry.isRevoked(userId, changedAtMillis));
+        // A re-login later in the same second is accepted
+        assertFalse(registry.isRevoked(userId, changedAtMillis + 1));
+        assertTrue(registry.isRevoked(userId, null));
+    }
+
+    @Test
+    void issuedAtMillisComesFromTheToken() {
+        Long userId = createUser(UserRole.USER);
+        long before = System.currentTimeMillis();
+        String token = jwtUtil.generateToken(new CustomUserDetails(userId, nextPhone(), UserRole.USER), "USER");
+        long after = System.currentTimeMillis();
+
+        long issuedAtMillis = jwtUtil.extractIssuedAtMillis(jwtUtil.extractVerifiedClaims(token));
+        assertTrue(issuedAtMillis >= before && issuedAtMillis <= after);
+
+        // Older tokens only carry the whole-second iat and count from the start of that second
+        Claims legacy = Jwts.claims();
+        legacy.setIssuedAt(new Date(after));
+        assertEquals(after / 1000 * 1000, jwtUtil.extractIssuedAtMillis(legacy));
+    }
+
+    // A registry loaded only from the database, as on an instance that handled none of the changes
+    private TokenRevocationRegistry otherInstance() {
+        TokenRevocationRegistry registry =
+                new TokenRevocationRegistry(userRepository, userRevocationRepository, TOKEN_LIFETIME_MILLIS);
+        registry.refresh();
+        return registry;
+    }
+}
@@ -0,0 +1,98 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.dto.BookingSeriesRequestDTO;
+import com.turfBooking.dto.UserUpdateDTO;
+import com.turfBooking.enums.RecurrenceFrequency;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.service.interfaces.BookingSeriesService;
+import com.turfBooking.service.interfaces.TurfCatalogCacheService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Cancelling a series changes its bookings in bulk without booking events, so the cached
+ * turf must be dropped on the series event itself. User updates only drop what shows the
+ * user: the turfs of an owner and the listings.
+ */
+class TurfCatalogCacheTests extends IntegrationTestSupport {
+
+    @Autowired
+    private BookingSeriesService bookingSeriesService;
+
+    @Autowired
+    private TurfCatalogCacheService turfCatalogCacheService;
+
+    @Test
+    void cancellingSeriesDropsTheCachedTurf() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        LocalDate start = LocalDate.now().plusDays(2);
+        Long seriesId = bookingSeriesService.createSeries(new BookingSeriesRequestDTO(createUser(UserRole.USER), turfId,
+                LocalTime.of(6, 0), LocalTime.of(7, 0), start, start.plusDays(14), RecurrenceFrequency.WEEKLY)).getId();
+
+        turfService.getTurfById(turfId);
+        long misses = turfMisses();
+        turfService.getTurfById(turfId);
+        assertEquals(misses, turfMisses());
+
+        bookingSeriesService.cancelSeries(seriesId);
+        turfService.getTurfById(turfId);
+        assertEquals(misses + 1, turfMisses());
+    }
+
+    @Test
+    void playerUpdateKeepsCachedTurfsAndListings() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        Long playerId = createUser(UserRole.USER);
+        turfService.getTurfById(turfId);
+        turfService.getAllTurfs();
+        long turfMisses = turfMisses();
+        long listMisses = listMisses();
+
+        UserUpdateDTO update = new UserUpdateDTO();
+        update.setName("Renamed Player");
+        userService.updateUser(playerId, update);
+        update.setPassword("changed123");
+        userService.updateUser(playerId, update);
+
+        turfService.getTurfById(turfId);
+        turfService.getAllTurfs();
+        assertEquals(turfMisses, turfMisses());
+        assertEquals(listMisses, listMisses());
+    }
+
+    @Test
+    void ownerUpdateDropsOnlyTheirTurfsAndTheListings() {
+        Long ownerId = createUser(UserRole.TURF_OWNER);
+        Long ownTurf = createTurf(ownerId);
+        Long otherTurf = createTurf(createUser(UserRole.TURF_OWNER));
+        turfService.getTurfById(ownTurf);
+        turfService.getTurfById(otherTurf);
+        turfService.getAllTurfs();
+        long turfMisses = turfMisses();
+        long listMisses = listMisses();
+
+        UserUpdateDTO update = new UserUpdateDTO();
+        update.setName("Renamed Owner");
+        userService.updateUser(ownerId, update);
+
+        turfService.getTurfById(otherTurf);
+        assertEquals(turfMisses, turfMisses());
+        assertEquals("Renamed Owner", turfService.getTurfById(ownTurf).getOwnerName());
+        assertEquals(turfMisses + 1, turfMisses());
+        turfService.getAllTurfs();
+        assertEquals(listMisses + 1, listMisses());
+    }
+
+    private long turfMisses() {
+        return turfCatalogCacheService.getStatistics().get("turfs").get("misses").longValue();
+    }
+
+    private long listMisses() {
+        return turfCatalogCacheService.getStatistics().get("lists").get("misses").longValue();
+    }
+}
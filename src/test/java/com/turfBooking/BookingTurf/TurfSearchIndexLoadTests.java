@@ -0,0 +1,140 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.dto.TurfResponseDTO;
+import com.turfBooking.dto.TurfUpdateDTO;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.service.interfaces.TurfSearchIndexService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Concurrent searches share one catalog load, and turfs written while it runs are re-read
+ * into the installed catalog instead of the load being thrown away.
+ */
+class TurfSearchIndexLoadTests extends IntegrationTestSupport {
+
+    private static final int SEARCHERS = 4;
+
+    @Autowired
+    private TurfSearchIndexService turfSearchIndexService;
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Test
+    void concurrentSearchesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(SEARCHERS);
+        turfSearchIndexService.invalidateAll();
+        useRepository(repositoryDuringLoad(() -> {
+            loads.incrementAndGet();
+            sleep(200);
+        }));
+        try {
+            List<Future<?>> searches = new ArrayList<>();
+            for (int i = 0; i < SEARCHERS; i++) {
+                searches.add(executor.submit(() -> turfSearchIndexService.findByNameContaining("Turf")));
+            }
+            for (Future<?> search : searches) {
+                search.get();
+            }
+        } finally {
+            useRepository(turfRepository);
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void turfUpdatedDuringLoadIsReadIntoTheInstalledCatalog() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        TurfUpdateDTO update = new TurfUpdateDTO();
+        update.setName("Renamed During Load " + turfId);
+
+        loadWhile(() -> turfService.updateTurf(turfId, update));
+
+        List<TurfResponseDTO> found = turfSearchIndexService.findByNameContaining("Renamed During Load " + turfId);
+        assertEquals(List.of(turfId), found.stream().map(TurfResponseDTO::getId).toList());
+    }
+
+    @Test
+    void turfsRemovedDuringLoadLeaveTheInstalledCatalog() {
+        Long turfId = createTurf(createUser(UserRole.TURF_OWNER));
+        Long ownerId = createUser(UserRole.TURF_OWNER);
+        Long ownedTurfId = createTurf(ownerId);
+
+        loadWhile(() -> {
+            turfService.deleteTurf(turfId);
+            userService.deleteUser(ownerId);
+        });
+
+        List<Long> indexed = turfSearchIndexService.findByNameContaining("Turf").stream()
+                .map(TurfResponseDTO::getId)
+                .toList();
+        assertTrue(!indexed.contains(turfId) && !indexed.contains(ownedTurfId), indexed.toString());
+    }
+
+    // Loads the catalog while the write commits on another thread, then checks the load was installed
+    private void loadWhile(Runnable write) {
+        Object target = AopTestUtils.getTargetObject(turfSearchIndexService);
+        turfSearchIndexService.invalidateAll();
+        useRepository(repositoryDuringLoad(() -> CompletableFuture.runAsync(write).join()));
+        try {
+            turfSearchIndexService.findByNameContaining("Turf");
+        } finally {
+            useRepository(turfRepository);
+        }
+        Object installed = ReflectionTestUtils.getField(target, "catalog");
+        assertNotNull(installed);
+        // The next search uses it without loading again
+        turfSearchIndexService.findByNameContaining("Turf");
+        assertSame(installed, ReflectionTestUtils.getField(target, "catalog"));
+    }
+
+    private void useRepository(TurfRepository repository) {
+        Object target = AopTestUtils.getTargetObject(turfSearchIndexService);
+        ReflectionTestUtils.setField(target, "turfRepository", repository);
+    }
+
+    // The real repository, except that the catalog query runs the given action after reading
+    private TurfRepository repositoryDuringLoad(Runnable duringLoad) {
+        return (TurfRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{TurfRepository.class}, (proxy, method, args) -> {
+                    try {
+                        Object result = method.invoke(turfRepository, args);
+                        if (method.getName().equals("findAllResponses")) {
+                            duringLoad.run();
+                        }
+                        return result;
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
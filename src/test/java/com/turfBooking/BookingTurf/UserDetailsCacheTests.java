@@ -0,0 +1,95 @@
+package com.turfBooking.BookingTurf;
+
+import com.turfBooking.dto.UserUpdateDTO;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.security.CustomUserDetails;
+import com.turfBooking.service.implementation.CustomUserDetailsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The user details cache holds unknown phones as well as users; every commit that creates,
+ * updates or removes a user must replace what is cached for its phones.
+ */
+class UserDetailsCacheTests extends IntegrationTestSupport {
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void cachedNotFoundIsReplacedByRegistration() {
+        String phone = nextPhone();
+        assertThrows(UsernameNotFoundException.class, () -> customUserDetailsService.loadUserByUsername(phone));
+        long misses = misses();
+        // Served from the cache
+        assertThrows(UsernameNotFoundException.class, () -> customUserDetailsService.loadUserByUsername(phone));
+        assertEquals(misses, misses());
+
+        Long userId = createUser(UserRole.USER, phone, "secret123");
+        assertEquals(userId, load(phone).getUserId());
+    }
+
+    @Test
+    void cachedUserIsReplacedAfterUpdate() {
+        String phone = nextPhone();
+        Long userId = createUser(UserRole.USER, phone, "secret123");
+        load(phone);
+
+        UserUpdateDTO update = new UserUpdateDTO();
+        update.setPassword("changed123");
+        userService.updateUser(userId, update);
+        assertTrue(passwordEncoder.matches("changed123", load(phone).getPassword()));
+
+        // A new phone leaves nothing behind under the old one
+        String newPhone = nextPhone();
+        update = new UserUpdateDTO();
+        update.setPhone(newPhone);
+        userService.updateUser(userId, update);
+        assertThrows(UsernameNotFoundException.class, () -> customUserDetailsService.loadUserByUsername(phone));
+        assertEquals(userId, load(newPhone).getUserId());
+    }
+
+    @Test
+    void cachedUserIsDroppedAfterDelete() {
+        String phone = nextPhone();
+        Long userId = createUser(UserRole.USER, phone, "secret123");
+        load(phone);
+
+        userService.deleteUser(userId);
+        assertThrows(UsernameNotFoundException.class, () -> customUserDetailsService.loadUserByUsername(phone));
+    }
+
+    @Test
+    void changesToOtherUsersKeepTheEntry() {
+        String phone = nextPhone();
+        createUser(UserRole.USER, phone, "secret123");
+        load(phone);
+        long misses = misses();
+
+        Long otherId = createUser(UserRole.USER);
+        UserUpdateDTO update = new UserUpdateDTO();
+        update.setName("Someone Else");
+        userService.updateUser(otherId, update);
+        userService.deleteUser(otherId);
+
+        load(phone);
+        assertEquals(misses, misses());
+    }
+
+    private CustomUserDetails load(String phone) {
+        return (CustomUserDetails) customUserDetailsService.loadUserByUsername(phone);
+    }
+
+    private long misses() {
+        return customUserDetailsService.getStatistics().get("misses").longValue();
+    }
+}
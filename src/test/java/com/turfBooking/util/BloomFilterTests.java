@@ -0,0 +1,96 @@
+package com.turfBooking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every added value must be reported as possibly present, however full the filter and
+ * whichever threads added it; absent values pass at about the configured rate.
+ */
+class BloomFilterTests {
+
+    @Test
+    void addedValuesAreAlwaysFound() {
+        BloomFilter filter = new BloomFilter(10000, 0.01);
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            String value = UUID.randomUUID().toString();
+            added.add(value);
+            filter.add(value);
+        }
+        added.add("");
+        filter.add("");
+        added.add("überbuchung-ß-🏟");
+        filter.add("überbuchung-ß-🏟");
+
+        for (String value : added) {
+            assertTrue(filter.mightContain(value), value);
+        }
+    }
+
+    @Test
+    void overfilledAndTinyFiltersHaveNoFalseNegatives() {
+        for (int expectedEntries : new int[]{0, 1, 64}) {
+            BloomFilter filter = new BloomFilter(expectedEntries, 0.01);
+            List<String> added = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                String value = "jti-" + expectedEntries + "-" + i;
+                added.add(value);
+                filter.add(value);
+            }
+            for (String value : added) {
+                assertTrue(filter.mightContain(value), value);
+            }
+        }
+    }
+
+    @Test
+    void concurrentAddsAreAllFound() throws Exception {
+        BloomFilter filter = new BloomFilter(40000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<String>>> adds = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                adds.add(executor.submit(() -> {
+                    List<String> values = new ArrayList<>();
+                    for (int i = 0; i < 5000; i++) {
+                        String value = UUID.randomUUID().toString();
+                        values.add(value);
+                        filter.add(value);
+                    }
+                    return values;
+                }));
+            }
+            for (Future<List<String>> add : adds) {
+                for (String value : add.get()) {
+                    assertTrue(filter.mightContain(value), value);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTarget() {
+        BloomFilter filter = new BloomFilter(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            filter.add("added-" + i);
+        }
+        int positives = 0;
+        for (int i = 0; i < 100000; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                positives++;
+            }
+        }
+        assertTrue(positives < 2000, positives + " false positives in 100000");
+    }
+}
@@ -0,0 +1,70 @@
+package com.turfBooking.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A load that overlaps an invalidation of its own key, or of the whole cache, must not be
+ * stored; invalidating other keys must not cost it its entry.
+ */
+class BoundedCacheTests {
+
+    @Test
+    void invalidatingAnotherKeyDuringLoadStoresTheValue() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 60000);
+        assertEquals("a1", cache.get("a", () -> {
+            cache.invalidate("b");
+            return "a1";
+        }));
+        assertEquals("a1", cache.get("a", () -> "a2"));
+        assertEquals(1L, cache.getStatistics().get("hits"));
+    }
+
+    @Test
+    void invalidatingTheSameKeyDuringLoadDiscardsTheValue() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 60000);
+        assertEquals("a1", cache.get("a", () -> {
+            cache.invalidate("a");
+            return "a1";
+        }));
+        assertEquals("a2", cache.get("a", () -> "a2"));
+        assertEquals("a2", cache.get("a", () -> "a3"));
+    }
+
+    @Test
+    void invalidatingEverythingDuringLoadDiscardsTheValue() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 60000);
+        cache.get("a", () -> {
+            cache.invalidateAll();
+            return "a1";
+        });
+        assertEquals("a2", cache.get("a", () -> "a2"));
+    }
+
+    @Test
+    void loadStartedAfterTheInvalidationIsStored() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 60000);
+        // The inner load finishes first and is stored; the outer one overlapped an invalidation
+        cache.get("a", () -> {
+            cache.invalidate("a");
+            assertEquals("inner", cache.get("a", () -> "inner"));
+            return "outer";
+        });
+        assertEquals("inner", cache.get("a", () -> "next"));
+    }
+
+    @Test
+    void failedLoadLeavesNothingBehind() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 60000);
+        assertThrows(IllegalStateException.class, () -> cache.get("a", () -> {
+            throw new IllegalStateException("load failed");
+        }));
+        assertEquals("a1", cache.get("a", () -> "a1"));
+        assertEquals("a1", cache.get("a", () -> "a2"));
+        assertNull(cache.get("n", () -> null));
+        assertNull(cache.get("n", () -> "not loaded again"));
+    }
+}
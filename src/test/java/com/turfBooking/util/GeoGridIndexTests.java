@@ -0,0 +1,151 @@
+package com.turfBooking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares nearest() with a brute-force scan over every point. The point sets mix dense
+ * clusters (where the ring search stops early), sparse worldwide points (where it falls back
+ * to a full scan) and clusters straddling the antimeridian and around the poles.
+ */
+class GeoGridIndexTests {
+
+    @Test
+    void neighbourAcrossTheAntimeridianIsFound() {
+        GeoGridIndex index = new GeoGridIndex(0.02);
+        index.put(1L, 0.0, -179.995);
+        index.put(2L, 0.0, 179.9);
+
+        List<GeoGridIndex.Neighbour> nearest = index.nearest(0.0, 179.995, 50, 1, id -> true);
+        assertEquals(List.of(1L), ids(nearest));
+        assertEquals(1.11, nearest.get(0).getDistanceKm(), 0.01);
+    }
+
+    @Test
+    void neighbourAcrossThePoleIsFound() {
+        GeoGridIndex index = new GeoGridIndex(0.02);
+        index.put(1L, 89.99, 180.0);
+        index.put(2L, 89.9, 0.0);
+
+        // Across the pole the first point is about 2.2 km away, the second one 10 km
+        List<GeoGridIndex.Neighbour> nearest = index.nearest(89.99, 0.0, 50, 2, id -> true);
+        assertEquals(List.of(1L, 2L), ids(nearest));
+    }
+
+    @Test
+    void radiusCutsOffFartherPoints() {
+        GeoGridIndex index = new GeoGridIndex(0.02);
+        index.put(1L, 12.9716, 77.5946);
+        index.put(2L, 12.9352, 77.6245);
+        index.put(3L, 13.1986, 77.7066);
+
+        assertEquals(List.of(1L, 2L), ids(index.nearest(12.9716, 77.5946, 10, 10, id -> true)));
+        assertEquals(List.of(1L, 2L, 3L), ids(index.nearest(12.9716, 77.5946, Double.POSITIVE_INFINITY, 10, id -> true)));
+    }
+
+    @Test
+    void removedAndMovedPointsAreNotReturnedFromOldPositions() {
+        GeoGridIndex index = new GeoGridIndex(0.02);
+        index.put(1L, 10.0, 10.0);
+        index.put(2L, 10.01, 10.01);
+        index.put(1L, 50.0, 50.0);
+
+        assertEquals(List.of(2L), ids(index.nearest(10.0, 10.0, 100, 10, id -> true)));
+        assertTrue(index.remove(2L));
+        assertFalse(index.remove(2L));
+        assertEquals(List.of(), ids(index.nearest(10.0, 10.0, 100, 10, id -> true)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void matchesBruteForceOnRandomPoints() {
+        Random random = new Random(2024);
+        for (double cellDegrees : new double[]{0.02, 0.5, 10.0}) {
+            GeoGridIndex index = new GeoGridIndex(cellDegrees);
+            Map<Long, double[]> points = new HashMap<>();
+            long id = 0;
+            // Dense clusters (latitude, longitude, latitude span, longitude span): one inland, one on
+            // the antimeridian and a ring of points around each pole; none lies exactly on a pole,
+            // where every longitude would tie
+            double[][] centres = {{12.97, 77.59, 0.4, 0.4}, {-17.0, 180.0, 0.4, 0.4},
+                    {89.79, 0.0, 0.4, 360}, {-89.79, 0.0, 0.4, 360}};
+            for (double[] centre : centres) {
+                for (int i = 0; i < 400; i++) {
+                    double latitude = centre[0] + (random.nextDouble() - 0.5) * centre[2];
+                    double longitude = wrapLongitude(centre[1] + (random.nextDouble() - 0.5) * centre[3]);
+                    points.put(++id, new double[]{latitude, longitude});
+                }
+            }
+            // Sparse points anywhere on the globe
+            for (int i = 0; i < 300; i++) {
+                points.put(++id, new double[]{Math.toDegrees(Math.asin(2 * random.nextDouble() - 1)),
+                        random.nextDouble() * 360 - 180});
+            }
+            points.forEach((pointId, point) -> index.put(pointId, point[0], point[1]));
+
+            for (int query = 0; query < 400; query++) {
+                double[] origin;
+                if (query % 2 == 0) {
+                    double[] centre = centres[random.nextInt(centres.length)];
+                    origin = new double[]{clampLatitude(centre[0] + (random.nextDouble() - 0.5) * 1.5 * centre[2]),
+                            wrapLongitude(centre[1] + (random.nextDouble() - 0.5) * Math.min(360, 1.5 * centre[3]))};
+                } else {
+                    origin = new double[]{random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180};
+                }
+                double radiusKm = new double[]{1, 5, 25, 500, Double.POSITIVE_INFINITY}[random.nextInt(5)];
+                int limit = 1 + random.nextInt(25);
+                Predicate<Long> accepted = random.nextBoolean() ? candidate -> true : candidate -> candidate % 3 != 0;
+
+                List<GeoGridIndex.Neighbour> actual = index.nearest(origin[0], origin[1], radiusKm, limit, accepted);
+                List<Long> expected = bruteForce(points, origin, radiusKm, limit, accepted);
+                String message = "cell " + cellDegrees + "° query (" + origin[0] + ", " + origin[1] + ") radius "
+                        + radiusKm + " limit " + limit;
+                assertEquals(expected, ids(actual), message);
+                for (GeoGridIndex.Neighbour neighbour : actual) {
+                    double[] point = points.get(neighbour.getId());
+                    assertEquals(GeoGridIndex.distanceKm(origin[0], origin[1], point[0], point[1]),
+                            neighbour.getDistanceKm(), 1e-9, message);
+                }
+            }
+        }
+    }
+
+    private static List<Long> bruteForce(Map<Long, double[]> points, double[] origin, double radiusKm, int limit,
+                                         Predicate<Long> accepted) {
+        List<Map.Entry<Long, Double>> distances = new ArrayList<>();
+        points.forEach((id, point) -> {
+            double distance = GeoGridIndex.distanceKm(origin[0], origin[1], point[0], point[1]);
+            if (distance <= radiusKm && accepted.test(id)) {
+                distances.add(Map.entry(id, distance));
+            }
+        });
+        return distances.stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Long> ids(List<GeoGridIndex.Neighbour> neighbours) {
+        return neighbours.stream().map(GeoGridIndex.Neighbour::getId).collect(Collectors.toList());
+    }
+
+    private static double clampLatitude(double latitude) {
+        return Math.max(-90, Math.min(90, latitude));
+    }
+
+    private static double wrapLongitude(double longitude) {
+        return longitude >= 180 ? longitude - 360 : longitude < -180 ? longitude + 360 : longitude;
+    }
+}
@@ -0,0 +1,219 @@
+package com.turfBooking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks IntervalTree against a brute-force list of intervals, and after changes walks
+ * the nodes to verify search order, AVL balance, heights and the subtree maxEnd.
+ */
+class IntervalTreeTests {
+
+    @Test
+    void boundsAreHalfOpen() {
+        IntervalTree<Integer> tree = new IntervalTree<>(Comparator.naturalOrder());
+        assertTrue(tree.add(10, 20, 1));
+
+        assertFalse(tree.overlapsAny(20, 30));
+        assertFalse(tree.overlapsAny(0, 10));
+        assertTrue(tree.overlapsAny(19, 20));
+        assertTrue(tree.overlapsAny(0, 11));
+        assertFalse(tree.overlapsAny(15, 15));
+        assertEquals(List.of(), visit(tree, 20, 30));
+        assertEquals(List.of(), visit(tree, 0, 10));
+        assertEquals(List.of("10-20:1"), visit(tree, 19, 21));
+
+        assertFalse(tree.add(5, 5, 2));
+        assertFalse(tree.add(7, 6, 2));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    void duplicateBoundsWithDistinctValuesAreSeparateEntries() {
+        IntervalTree<String> tree = new IntervalTree<>(Comparator.naturalOrder());
+        assertTrue(tree.add(10, 20, "a"));
+        assertTrue(tree.add(10, 20, "b"));
+        assertFalse(tree.add(10, 20, "a"));
+        assertEquals(2, tree.size());
+        assertEquals(List.of("10-20:a", "10-20:b"), visit(tree, 0, 100));
+
+        assertFalse(tree.remove(10, 21, "a"));
+        assertTrue(tree.remove(10, 20, "a"));
+        assertFalse(tree.remove(10, 20, "a"));
+        assertEquals(List.of("10-20:b"), visit(tree, 0, 100));
+        assertTrue(tree.overlapsAny(15, 16));
+        checkInvariants(tree);
+    }
+
+    @Test
+    void ascendingAndDescendingInsertsStayBalanced() {
+        IntervalTree<Integer> ascending = new IntervalTree<>(Comparator.naturalOrder());
+        IntervalTree<Integer> descending = new IntervalTree<>(Comparator.naturalOrder());
+        for (int i = 0; i < 1024; i++) {
+            ascending.add(i, i + 1, i);
+            descending.add(1024 - i, 1025 - i, i);
+        }
+
+        // An AVL tree of n nodes is at most about 1.44 log2(n) high; 1024 nodes fit in 15 levels
+        assertTrue(checkInvariants(ascending) <= 15);
+        assertTrue(checkInvariants(descending) <= 15);
+        assertEquals(1024, ascending.size());
+    }
+
+    @Test
+    void removingNodeWithTwoChildrenPromotesItsSuccessor() throws Exception {
+        IntervalTree<Integer> tree = new IntervalTree<>(Comparator.naturalOrder());
+        List<long[]> entries = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            tree.add(i * 10, i * 10 + 5, i);
+            entries.add(new long[]{i * 10, i * 10 + 5, i});
+        }
+
+        while (tree.size() > 2) {
+            Object root = field(tree, "root");
+            assertNotNull(field(root, "left"));
+            assertNotNull(field(root, "right"));
+            long start = (long) field(root, "start");
+            long end = (long) field(root, "end");
+            int value = (int) field(root, "value");
+
+            assertTrue(tree.remove(start, end, value));
+            entries.removeIf(entry -> entry[0] == start);
+            checkInvariants(tree);
+            assertEquals(expected(entries, 0, 200), visit(tree, 0, 200));
+        }
+    }
+
+    @Test
+    void maxEndShrinksWhenTheLongestIntervalIsRemoved() {
+        IntervalTree<Integer> tree = new IntervalTree<>(Comparator.naturalOrder());
+        tree.add(0, 1000, 0);
+        for (int i = 1; i <= 50; i++) {
+            tree.add(i * 5, i * 5 + 2, i);
+        }
+        assertTrue(tree.overlapsAny(600, 700));
+
+        assertTrue(tree.remove(0, 1000, 0));
+        checkInvariants(tree);
+        assertFalse(tree.overlapsAny(600, 700));
+        assertFalse(tree.overlapsAny(252, 1000));
+        assertTrue(tree.overlapsAny(251, 1000));
+        assertEquals(List.of("250-252:50"), visit(tree, 251, 1000));
+    }
+
+    @Test
+    void matchesBruteForceUnderRandomChanges() {
+        Random random = new Random(42);
+        IntervalTree<Integer> tree = new IntervalTree<>(Comparator.naturalOrder());
+        List<long[]> entries = new ArrayList<>();
+
+        for (int round = 0; round < 3000; round++) {
+            if (entries.isEmpty() || random.nextInt(3) > 0) {
+                long start = random.nextInt(2000);
+                long end = start + 1 + random.nextInt(random.nextInt(10) == 0 ? 500 : 30);
+                int value = random.nextInt(3);
+                boolean present = entries.stream().anyMatch(e -> e[0] == start && e[1] == end && e[2] == value);
+                assertEquals(!present, tree.add(start, end, value));
+                if (!present) {
+                    entries.add(new long[]{start, end, value});
+                }
+            } else {
+                long[] entry = entries.remove(random.nextInt(entries.size()));
+                assertTrue(tree.remove(entry[0], entry[1], (int) entry[2]));
+            }
+            assertEquals(entries.size(), tree.size());
+
+            if (round % 50 == 0) {
+                checkInvariants(tree);
+            }
+            long from = random.nextInt(2100);
+            long to = from + random.nextInt(60);
+            List<String> matches = expected(entries, from, to);
+            assertEquals(!matches.isEmpty(), tree.overlapsAny(from, to), "overlapsAny(" + from + ", " + to + ")");
+            assertEquals(matches, visit(tree, from, to));
+        }
+    }
+
+    private static List<String> visit(IntervalTree<?> tree, long from, long to) {
+        List<String> visited = new ArrayList<>();
+        tree.forEachOverlapping(from, to, (start, end, value) -> visited.add(start + "-" + end + ":" + value));
+        return visited;
+    }
+
+    // Entries overlapping [from, to) in (start, end, value) order
+    private static List<String> expected(List<long[]> entries, long from, long to) {
+        List<String> matches = new ArrayList<>();
+        entries.stream()
+                .filter(entry -> from < to && entry[0] < to && entry[1] > from)
+                .sorted(Comparator.<long[]>comparingLong(entry -> entry[0])
+                        .thenComparingLong(entry -> entry[1])
+                        .thenComparingLong(entry -> entry[2]))
+                .forEach(entry -> matches.add(entry[0] + "-" + entry[1] + ":" + entry[2]));
+        return matches;
+    }
+
+    // Returns the tree height after checking every node
+    private static int checkInvariants(IntervalTree<?> tree) {
+        try {
+            int[] count = new int[1];
+            int height = checkNode(field(tree, "root"), count);
+            assertEquals(tree.size(), count[0]);
+            return height;
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static int checkNode(Object node, int[] count) throws ReflectiveOperationException {
+        if (node == null) {
+            return 0;
+        }
+        count[0]++;
+        Object left = field(node, "left");
+        Object right = field(node, "right");
+        int leftHeight = checkNode(left, count);
+        int rightHeight = checkNode(right, count);
+        assertTrue(Math.abs(leftHeight - rightHeight) <= 1, "unbalanced node");
+        assertEquals(1 + Math.max(leftHeight, rightHeight), (int) field(node, "height"));
+
+        long maxEnd = (long) field(node, "end");
+        if (left != null) {
+            assertTrue(compareNodes(left, node) < 0, "left child out of order");
+            maxEnd = Math.max(maxEnd, (long) field(left, "maxEnd"));
+        }
+        if (right != null) {
+            assertTrue(compareNodes(right, node) > 0, "right child out of order");
+            maxEnd = Math.max(maxEnd, (long) field(right, "maxEnd"));
+        }
+        assertEquals(maxEnd, (long) field(node, "maxEnd"));
+        return 1 + Math.max(leftHeight, rightHeight);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareNodes(Object a, Object b) throws ReflectiveOperationException {
+        int order = Long.compare((long) field(a, "start"), (long) field(b, "start"));
+        if (order == 0) {
+            order = Long.compare((long) field(a, "end"), (long) field(b, "end"));
+        }
+        if (order == 0) {
+            order = ((Comparable) field(a, "value")).compareTo(field(b, "value"));
+        }
+        return order;
+    }
+
+    private static Object field(Object target, String name) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+}
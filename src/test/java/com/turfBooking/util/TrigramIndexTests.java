@@ -0,0 +1,154 @@
+package com.turfBooking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the substring filter against a brute-force LIKE, and the ranking's match tiers,
+ * typo tolerance and posting cleanup.
+ */
+class TrigramIndexTests {
+
+    private static final double[] WEIGHTS = {1.0};
+
+    @Test
+    void containingMatchesLikeForShortAndLongPatterns() {
+        Random random = new Random(7);
+        TrigramIndex index = new TrigramIndex(2);
+        Map<Long, String[]> values = new HashMap<>();
+        for (long id = 1; id <= 300; id++) {
+            String[] fields = {randomText(random, 12), random.nextInt(10) == 0 ? null : randomText(random, 6)};
+            values.put(id, fields);
+            index.put(id, fields);
+        }
+
+        for (int round = 0; round < 500; round++) {
+            int field = random.nextInt(2);
+            String pattern = randomText(random, random.nextInt(6));
+            if (random.nextBoolean()) {
+                pattern = pattern.toUpperCase(Locale.ROOT);
+            }
+            assertEquals(like(values, field, pattern), index.containing(field, pattern), "pattern '" + pattern + "'");
+        }
+        assertEquals(values.keySet(), index.containing(0, ""));
+        assertEquals(values.keySet(), index.containing(1, null));
+    }
+
+    @Test
+    void exactRanksAbovePrefixAboveFuzzy() {
+        TrigramIndex index = new TrigramIndex(1);
+        index.put(1L, "Arena");
+        index.put(2L, "Arenas");
+        index.put(3L, "Arrna");
+        index.put(4L, "Stadium");
+
+        Map<Long, Double> scores = index.rank("arena", WEIGHTS);
+        assertEquals(Set.of(1L, 2L, 3L), scores.keySet());
+        assertTrue(scores.get(1L) > scores.get(2L));
+        assertTrue(scores.get(2L) > scores.get(3L));
+    }
+
+    @Test
+    void transpositionCountsAsOneEdit() {
+        TrigramIndex index = new TrigramIndex(1);
+        index.put(1L, "Arena");
+        index.put(2L, "Stadium");
+
+        assertEquals(Set.of(1L), index.rank("arnea", WEIGHTS).keySet());
+        assertEquals(Set.of(2L), index.rank("stadimu", WEIGHTS).keySet());
+    }
+
+    @Test
+    void editBudgetGrowsWithQueryLength() {
+        TrigramIndex index = new TrigramIndex(1);
+        index.put(1L, "Stadium");
+
+        // Up to two characters: prefix matches only
+        assertEquals(Set.of(1L), index.rank("st", WEIGHTS).keySet());
+        assertEquals(Set.of(), index.rank("sx", WEIGHTS).keySet());
+        // Three to five characters: one edit
+        assertEquals(Set.of(1L), index.rank("sxa", WEIGHTS).keySet());
+        assertEquals(Set.of(1L), index.rank("stxdi", WEIGHTS).keySet());
+        assertEquals(Set.of(), index.rank("sxxdi", WEIGHTS).keySet());
+        // Six characters and more: two edits
+        assertEquals(Set.of(1L), index.rank("stxdxum", WEIGHTS).keySet());
+        assertEquals(Set.of(), index.rank("sxxdxum", WEIGHTS).keySet());
+
+        // Fewer edits score higher
+        Map<Long, Double> oneEdit = index.rank("stxdium", WEIGHTS);
+        Map<Long, Double> twoEdits = index.rank("stxdxum", WEIGHTS);
+        assertTrue(oneEdit.get(1L) > twoEdits.get(1L));
+    }
+
+    @Test
+    void removePrunesEveryPosting() throws Exception {
+        TrigramIndex index = new TrigramIndex(2);
+        index.put(1L, "Green Turf", "Indiranagar");
+        index.put(2L, "Green Arena", "Koramangala");
+
+        assertTrue(index.remove(1L));
+        assertFalse(index.remove(1L));
+        assertEquals(Set.of(2L), index.containing(0, "green"));
+        assertEquals(Set.of(), index.containing(0, "turf"));
+        assertEquals(Set.of(), index.rank("turf", WEIGHTS).keySet());
+        assertEquals(Set.of(2L), index.rank("green", WEIGHTS).keySet());
+        assertFalse(words(index).containsKey("turf"));
+        assertFalse(words(index).containsKey("indiranagar"));
+
+        // Replacing a document drops the words it no longer has
+        index.put(2L, "Blue Arena", "Koramangala");
+        assertFalse(words(index).containsKey("green"));
+        assertEquals(Set.of(), index.containing(0, "green"));
+
+        assertTrue(index.remove(2L));
+        assertEquals(0, index.size());
+        assertTrue(words(index).isEmpty());
+        assertTrue(((Map<?, ?>) field(index, "wordTrigrams")).isEmpty());
+        for (Object postings : (List<?>) field(index, "fieldTrigrams")) {
+            assertTrue(((Map<?, ?>) postings).isEmpty());
+        }
+    }
+
+    // Ids whose field contains the pattern, ignoring case, as LIKE '%pattern%' would find them
+    private static Set<Long> like(Map<Long, String[]> values, int field, String pattern) {
+        Set<Long> matches = new HashSet<>();
+        values.forEach((id, fields) -> {
+            String value = fields[field] == null ? "" : fields[field].toLowerCase(Locale.ROOT);
+            if (value.contains(pattern.toLowerCase(Locale.ROOT))) {
+                matches.add(id);
+            }
+        });
+        return matches;
+    }
+
+    // Short words over a small alphabet, so patterns of every length have matches
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(random.nextInt(6) == 0 ? ' ' : "abcdE".charAt(random.nextInt(5)));
+        }
+        return text.toString();
+    }
+
+    private static Map<?, ?> words(TrigramIndex index) throws ReflectiveOperationException {
+        return (Map<?, ?>) field(index, "words");
+    }
+
+    private static Object field(Object target, String name) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+}